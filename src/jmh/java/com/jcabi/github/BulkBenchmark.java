@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.request.FakeRequest;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of calls to objects of a {@link Bulk}.
+ *
+ * <p>Compare {@code proxied*} with {@code hydrated*}: the first ones go
+ * through the dynamic proxy, which {@link Bulk} makes for lists it
+ * doesn't know, the second ones through an issue created with JSON of its
+ * page by the list of issues.
+ *
+ * @since 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BulkBenchmark {
+
+    /**
+     * Issue behind a proxy.
+     */
+    private Issue proxied;
+
+    /**
+     * Issue with JSON of its page.
+     */
+    private Issue hydrated;
+
+    /**
+     * Prepare issues.
+     */
+    @Setup
+    public void setup() {
+        final Request req = new FakeRequest().withBody(
+            "[{\"number\": 1, \"title\": \"Benchmark\", \"state\": \"open\"}]"
+        );
+        final Repo repo = new RtGitHub(req).repos().get(
+            new Coordinates.Simple("jeff", "bench")
+        );
+        this.proxied = new Bulk<>(
+            new RtPagination<Issue>(
+                req, object -> new RtIssue(req, repo, object.getInt("number"))
+            )
+        ).iterator().next();
+        this.hydrated = new Bulk<>(
+            repo.issues().iterate(Collections.emptyMap())
+        ).iterator().next();
+    }
+
+    /**
+     * Read a property of an issue behind a proxy.
+     * @return Result
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public String proxiedTitle() throws IOException {
+        return new Issue.Smart(this.proxied).title();
+    }
+
+    /**
+     * Read a property of an issue with JSON.
+     * @return Result
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public String hydratedTitle() throws IOException {
+        return new Issue.Smart(this.hydrated).title();
+    }
+
+    /**
+     * Call a method of an issue behind a proxy.
+     * @return Result
+     */
+    @Benchmark
+    public int proxiedNumber() {
+        return this.proxied.number();
+    }
+
+    /**
+     * Call a method of an issue with JSON.
+     * @return Result
+     */
+    @Benchmark
+    public int hydratedNumber() {
+        return this.hydrated.number();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of reading GitHub responses with every {@link JsonCodec}.
+ *
+ * <p>{@code mapPage} reads a page of 100 issues and takes the fields
+ * mappings of this library take, {@code walkPage} reads every value of
+ * the page, {@code readRepo} takes one field of a repository:
+ *
+ * <pre> java -jar target/benchmarks.jar CodecBenchmark -prof gc</pre>
+ *
+ * @since 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CodecBenchmark {
+
+    /**
+     * Class of the codec.
+     */
+    @Param({"com.jcabi.github.JsonCodec$Tree", "com.jcabi.github.LazyJson"})
+    private String name;
+
+    /**
+     * Codec.
+     */
+    private JsonCodec codec;
+
+    /**
+     * Page of issues.
+     */
+    private byte[] page;
+
+    /**
+     * Repository.
+     */
+    private byte[] repo;
+
+    /**
+     * Prepare bodies.
+     */
+    @Setup
+    public void setup() {
+        this.codec = RtJson.codec(this.name);
+        this.page = Payloads.issues(1, 100);
+        this.repo = Payloads.repo();
+    }
+
+    /**
+     * Read a page and take a few fields of every issue.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void mapPage(final Blackhole hole) {
+        for (final JsonValue value : this.codec.array(this.page)) {
+            final JsonObject issue = value.asJsonObject();
+            hole.consume(issue.getInt("number"));
+            hole.consume(issue.getString("state"));
+            hole.consume(issue.getJsonObject("user").getString("login"));
+        }
+    }
+
+    /**
+     * Read a page and every value in it.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void walkPage(final Blackhole hole) {
+        CodecBenchmark.walk(this.codec.array(this.page), hole);
+    }
+
+    /**
+     * Read one field of a repository.
+     * @return Value
+     */
+    @Benchmark
+    public String readRepo() {
+        return this.codec.object(this.repo).getString("full_name");
+    }
+
+    /**
+     * Read every value.
+     * @param value JSON value
+     * @param hole Black hole
+     */
+    private static void walk(final JsonValue value, final Blackhole hole) {
+        if (value.getValueType() == JsonValue.ValueType.OBJECT) {
+            for (final Map.Entry<String, JsonValue> ent
+                : value.asJsonObject().entrySet()) {
+                CodecBenchmark.walk(ent.getValue(), hole);
+            }
+        } else if (value.getValueType() == JsonValue.ValueType.ARRAY) {
+            for (final JsonValue item : value.asJsonArray()) {
+                CodecBenchmark.walk(item, hole);
+            }
+        } else {
+            hole.consume(value);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Heap kept by elements of many pages, read with and without
+ * {@link Dedup}.
+ *
+ * <p>Every iteration reads all pages and keeps all their elements, the
+ * way {@link Bulk} keeps them. Retained heap is printed after every
+ * iteration, allocation rate is shown by {@code -prof gc}:
+ *
+ * <pre> java -jar target/benchmarks.jar DedupBenchmark -prof gc</pre>
+ *
+ * <p>Pages are recorded GitHub responses, JSON arrays in files of the
+ * directory given by {@code -p dataset=...}. Without it, 1000 pages of
+ * 100 issues are generated by {@link Payloads}.
+ *
+ * @since 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DedupBenchmark {
+
+    /**
+     * Directory with recorded pages, or empty to generate them.
+     */
+    @Param("")
+    private String dataset;
+
+    /**
+     * Share repeated strings.
+     */
+    @Param({"false", "true"})
+    private boolean shared;
+
+    /**
+     * Pages.
+     */
+    private List<byte[]> pages;
+
+    /**
+     * Elements read.
+     */
+    private List<JsonValue> kept;
+
+    /**
+     * Load or generate pages.
+     * @throws IOException If fails
+     */
+    @Setup
+    public void setup() throws IOException {
+        if (this.dataset.isEmpty()) {
+            this.pages = DedupBenchmark.generated();
+        } else {
+            try (Stream<Path> files = Files.list(Paths.get(this.dataset))) {
+                final List<Path> sorted = files.sorted()
+                    .collect(Collectors.toList());
+                this.pages = new ArrayList<>(sorted.size());
+                for (final Path file : sorted) {
+                    this.pages.add(Files.readAllBytes(file));
+                }
+            }
+        }
+    }
+
+    /**
+     * Read all pages and keep their elements.
+     * @return Elements
+     */
+    @Benchmark
+    public List<JsonValue> read() {
+        final Dedup dedup = new Dedup(1 << 16);
+        this.kept = new ArrayList<>(this.pages.size() * 100);
+        for (final byte[] page : this.pages) {
+            final JsonValue array;
+            if (this.shared) {
+                array = dedup.read(page);
+            } else {
+                array = Json.createReader(new ByteArrayInputStream(page))
+                    .readArray();
+            }
+            this.kept.addAll(array.asJsonArray());
+        }
+        return this.kept;
+    }
+
+    /**
+     * Print the heap kept by elements and forget them.
+     */
+    @TearDown(Level.Iteration)
+    @SuppressWarnings("PMD.SystemPrintln")
+    public void retained() {
+        final Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        final long with = runtime.totalMemory() - runtime.freeMemory();
+        final int size = this.kept.size();
+        this.kept = null;
+        System.gc();
+        final long without = runtime.totalMemory() - runtime.freeMemory();
+        System.out.printf(
+            "%nRetained by %d elements: %d KB%n",
+            size, (with - without) / 1024L
+        );
+    }
+
+    /**
+     * Generate pages of issues.
+     * @return Pages
+     */
+    private static List<byte[]> generated() {
+        final int total = 1000;
+        final List<byte[]> list = new ArrayList<>(total);
+        for (int page = 0; page < total; ++page) {
+            list.add(Payloads.issues(page * 100 + 1, 100));
+        }
+        return list;
+    }
+}
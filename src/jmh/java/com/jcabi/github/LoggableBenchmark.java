@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.aspects.Loggable;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of a method call with {@link Loggable} advice.
+ *
+ * <p>Compare {@code logged} with {@code plain} to see what the advice costs
+ * per call while DEBUG is off. Run it once as is and once with
+ * {@code -Punwoven}: in the unwoven build both of them must be equal.
+ *
+ * @since 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggableBenchmark {
+
+    /**
+     * Logged target.
+     */
+    private Logged logged;
+
+    /**
+     * Plain target.
+     */
+    private Plain plain;
+
+    /**
+     * Smart JSON over an object in memory.
+     */
+    private SmartJson smart;
+
+    /**
+     * Prepare targets.
+     */
+    @Setup
+    public void setup() {
+        this.logged = new Logged();
+        this.plain = new Plain();
+        final JsonObject json = Json.createObjectBuilder()
+            .add("title", "Benchmark")
+            .add("number", 1)
+            .build();
+        this.smart = new SmartJson(() -> json);
+    }
+
+    /**
+     * Call a method with advice.
+     * @return Result
+     */
+    @Benchmark
+    public String logged() {
+        return this.logged.name("jeff");
+    }
+
+    /**
+     * Call the same method without advice.
+     * @return Result
+     */
+    @Benchmark
+    public String plain() {
+        return this.plain.name("jeff");
+    }
+
+    /**
+     * Read a property like Smart getters do.
+     * @return Result
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public String smartJson() throws IOException {
+        return this.smart.text("title");
+    }
+
+    /**
+     * Class with advice.
+     *
+     * <p>The annotation is on the method, since jcabi-aspects advises
+     * only public methods of a class annotated as a whole.
+     *
+     * @since 2.0
+     */
+    private static final class Logged {
+        /**
+         * Make a name.
+         * @param login Login
+         * @return Name
+         */
+        @Loggable(Loggable.DEBUG)
+        public String name(final String login) {
+            return login;
+        }
+    }
+
+    /**
+     * Class without advice.
+     * @since 2.0
+     */
+    private static final class Plain {
+        /**
+         * Make a name.
+         * @param login Login
+         * @return Name
+         */
+        public String name(final String login) {
+            return login;
+        }
+    }
+}
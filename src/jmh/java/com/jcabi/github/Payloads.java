@@ -0,0 +1,203 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObjectBuilder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bodies of GitHub responses for benchmarks, with the fields and the
+ * nesting of real ones, and logins, labels and states repeated, like
+ * in a real repository.
+ *
+ * @since 2.0
+ */
+final class Payloads {
+
+    /**
+     * URL of the API.
+     */
+    private static final String API = "https://api.github.com";
+
+    /**
+     * URL of the repository.
+     */
+    private static final String REPO =
+        String.format("%s/repos/jeff/test", Payloads.API);
+
+    /**
+     * Ctor.
+     */
+    private Payloads() {
+        // utility class
+    }
+
+    /**
+     * Page of issues.
+     * @param first Number of the first issue
+     * @param count Number of issues
+     * @return JSON array
+     */
+    static byte[] issues(final int first, final int count) {
+        final JsonArrayBuilder array = Json.createArrayBuilder();
+        for (int number = first; number < first + count; ++number) {
+            array.add(Payloads.issue(number));
+        }
+        return array.build().toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Repository.
+     * @return JSON object
+     */
+    static byte[] repo() {
+        final JsonObjectBuilder json = Json.createObjectBuilder()
+            .add("id", 1_296_269)
+            .add("node_id", "MDEwOlJlcG9zaXRvcnkxMjk2MjY5")
+            .add("name", "test")
+            .add("full_name", "jeff/test")
+            .add("private", false)
+            .add("owner", Payloads.user("jeff"))
+            .add("html_url", "https://github.com/jeff/test")
+            .add("description", "This your first repo!")
+            .add("fork", false)
+            .add("url", Payloads.REPO);
+        for (final String rel : new String[] {
+            "forks", "keys", "collaborators", "teams", "hooks", "events",
+            "assignees", "branches", "tags", "blobs", "trees", "statuses",
+            "languages", "stargazers", "contributors", "subscribers",
+            "commits", "comments", "contents", "compare", "merges",
+            "downloads", "issues", "pulls", "milestones", "labels",
+            "releases", "deployments",
+        }) {
+            json.add(
+                String.format("%s_url", rel),
+                String.format("%s/%s{/id}", Payloads.REPO, rel)
+            );
+        }
+        return json
+            .add("created_at", "2011-01-26T19:01:12Z")
+            .add("updated_at", "2011-01-26T19:14:43Z")
+            .add("pushed_at", "2011-01-26T19:06:43Z")
+            .add("homepage", "https://github.com")
+            .add("size", 108)
+            .add("stargazers_count", 80)
+            .add("watchers_count", 80)
+            .add("language", "Java")
+            .add("has_issues", true)
+            .add("has_wiki", true)
+            .add("forks_count", 9)
+            .add("archived", false)
+            .add("open_issues_count", 0)
+            .add("default_branch", "master")
+            .add(
+                "topics",
+                Json.createArrayBuilder().add("octocat").add("api")
+            )
+            .add(
+                "permissions",
+                Json.createObjectBuilder()
+                    .add("admin", false)
+                    .add("push", false)
+                    .add("pull", true)
+            )
+            .build().toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Issue.
+     * @param number Number of it
+     * @return JSON
+     */
+    private static JsonObjectBuilder issue(final int number) {
+        final String url = String.format("%s/issues/%d", Payloads.REPO, number);
+        final String state;
+        if (number % 3 == 0) {
+            state = "closed";
+        } else {
+            state = "open";
+        }
+        final String label = String.format("label%d", number % 20);
+        return Json.createObjectBuilder()
+            .add("url", url)
+            .add("repository_url", Payloads.REPO)
+            .add("labels_url", String.format("%s/labels{/name}", url))
+            .add("comments_url", String.format("%s/comments", url))
+            .add("events_url", String.format("%s/events", url))
+            .add(
+                "html_url",
+                String.format("https://github.com/jeff/test/issues/%d", number)
+            )
+            .add("id", 1_000_000 + number)
+            .add("node_id", String.format("MDU6SXNzdWUx%d", number))
+            .add("number", number)
+            .add("title", String.format("Issue #%d is found", number))
+            .add("user", Payloads.user(String.format("user%d", number % 200)))
+            .add(
+                "labels",
+                Json.createArrayBuilder().add(
+                    Json.createObjectBuilder()
+                        .add("id", 208_045_946 + number % 20)
+                        .add(
+                            "url",
+                            String.format("%s/labels/%s", Payloads.REPO, label)
+                        )
+                        .add("name", label)
+                        .add("description", "Something isn't working")
+                        .add("color", "f29513")
+                        .add("default", true)
+                )
+            )
+            .add("state", state)
+            .add("locked", false)
+            .addNull("assignee")
+            .add("assignees", Json.createArrayBuilder())
+            .addNull("milestone")
+            .add("comments", number % 7)
+            .add("created_at", "2011-04-22T13:33:48Z")
+            .add("updated_at", "2011-04-22T13:33:48Z")
+            .addNull("closed_at")
+            .add("author_association", "CONTRIBUTOR")
+            .add(
+                "body",
+                String.format(
+                    "I'm having a problem with this, see #%d.\r\n\r\n%s",
+                    number - 1, "Steps to reproduce are below."
+                )
+            )
+            .add(
+                "reactions",
+                Json.createObjectBuilder()
+                    .add("url", String.format("%s/reactions", url))
+                    .add("total_count", number % 5)
+                    .add("+1", number % 5)
+                    .add("-1", 0)
+            );
+    }
+
+    /**
+     * User.
+     * @param login Login
+     * @return JSON
+     */
+    private static JsonObjectBuilder user(final String login) {
+        final String url = String.format("%s/users/%s", Payloads.API, login);
+        return Json.createObjectBuilder()
+            .add("login", login)
+            .add("id", login.hashCode() & Integer.MAX_VALUE)
+            .add(
+                "avatar_url",
+                String.format("https://github.com/images/%s.gif", login)
+            )
+            .add("url", url)
+            .add("html_url", String.format("https://github.com/%s", login))
+            .add("followers_url", String.format("%s/followers", url))
+            .add("repos_url", String.format("%s/repos", url))
+            .add("type", "User")
+            .add("site_admin", false);
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import java.io.StringReader;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Asynchronous GitHub client.
+ *
+ * <p>Unlike {@link RtGitHub}, which blocks a thread for every HTTP
+ * request, this client is backed by {@link HttpClient} of the JDK,
+ * which multiplexes requests over HTTP/2 connections and doesn't need
+ * a thread per request. It returns raw JSON, which can be mapped with
+ * the same {@link RtValuePagination.Mapping} as the blocking
+ * paginations:
+ *
+ * <pre> AsyncGitHub github = new AsyncGitHub(oauthKey);
+ * CompletableFuture&lt;JsonObject&gt; repo = github.repo(
+ *     new Coordinates.Simple("jcabi/jcabi-github")
+ * );
+ * Flow.Publisher&lt;JsonObject&gt; issues = github.iterate(
+ *     "/repos/jcabi/jcabi-github/issues?state=all",
+ *     RtPagination.COPYING
+ * );</pre>
+ *
+ * @since 2.0
+ */
+@ToString(of = "home")
+@EqualsAndHashCode(of = { "home", "auth" })
+public final class AsyncGitHub {
+
+    /**
+     * Default home of the API.
+     */
+    private static final URI HOME = URI.create("https://api.github.com");
+
+    /**
+     * Value of {@code User-Agent} header.
+     */
+    private static final String AGENT =
+        new FromProperties("jcabigithub.properties").format();
+
+    /**
+     * Pattern of the "next" link in {@code Link} header.
+     */
+    private static final Pattern NEXT = Pattern.compile(
+        "<([^>]+)>\\s*;\\s*rel=\"next\""
+    );
+
+    /**
+     * HTTP client.
+     */
+    private final transient HttpClient client;
+
+    /**
+     * Home of the API, without trailing slash.
+     */
+    private final transient String home;
+
+    /**
+     * Value of {@code Authorization} header, empty for anonymous access.
+     */
+    private final transient String auth;
+
+    /**
+     * Public ctor, for anonymous access to GitHub.
+     */
+    public AsyncGitHub() {
+        this(AsyncGitHub.client(), AsyncGitHub.HOME, "");
+    }
+
+    /**
+     * Public ctor, for authentication with OAuth2 token.
+     * @param token OAuth token
+     */
+    public AsyncGitHub(final String token) {
+        this(token, AsyncGitHub.HOME);
+    }
+
+    /**
+     * Public ctor, for authentication with OAuth2 token.
+     * @param token OAuth token
+     * @param domain Your custom domain
+     */
+    public AsyncGitHub(final String token, final URI domain) {
+        this(AsyncGitHub.client(), domain, String.format("token %s", token));
+    }
+
+    /**
+     * Public ctor, with a custom client.
+     * @param clnt HTTP client
+     * @param domain Home of the API
+     * @param authorization Value of {@code Authorization} header, empty
+     *  for anonymous access
+     */
+    public AsyncGitHub(final HttpClient clnt, final URI domain,
+        final String authorization) {
+        this.client = clnt;
+        this.home = domain.toString().replaceAll("/+$", "");
+        this.auth = authorization;
+    }
+
+    /**
+     * Fetch JSON object.
+     * @param path Path of the resource, for example {@code /meta}
+     * @return Future JSON object
+     */
+    public CompletableFuture<JsonObject> json(final String path) {
+        return this.fetch(this.uri(path)).thenApply(
+            resp -> AsyncGitHub.read(resp).asJsonObject()
+        );
+    }
+
+    /**
+     * Fetch JSON of the repository.
+     * @param coords Coordinates of the repository
+     * @return Future JSON object
+     */
+    public CompletableFuture<JsonObject> repo(final Coordinates coords) {
+        return this.json(
+            String.format("/repos/%s/%s", coords.user(), coords.repo())
+        );
+    }
+
+    /**
+     * Fetch JSON of the issue.
+     * @param coords Coordinates of the repository
+     * @param number Number of the issue
+     * @return Future JSON object
+     */
+    public CompletableFuture<JsonObject> issue(final Coordinates coords,
+        final int number) {
+        return this.json(
+            String.format(
+                "/repos/%s/%s/issues/%d", coords.user(), coords.repo(), number
+            )
+        );
+    }
+
+    /**
+     * Iterate all pages of a list, fetching pages as they are demanded
+     * by the subscriber.
+     * @param path Path of the list, with query, if necessary
+     * @param mapping Mapping of JSON objects
+     * @param <T> Type of elements
+     * @return Publisher of elements
+     */
+    public <T> Flow.Publisher<T> iterate(final String path,
+        final RtValuePagination.Mapping<T, JsonObject> mapping) {
+        return new AsyncPages<>(this.pages(this.uri(path)), mapping);
+    }
+
+    /**
+     * Source of a page of a list and all pages after it.
+     * @param uri URI of the page
+     * @return Source
+     */
+    private AsyncPages.Source<JsonObject> pages(final URI uri) {
+        return () -> this.page(uri).thenApply(
+            page -> {
+                AsyncPages.Source<JsonObject> rest = null;
+                if (page.next() != null) {
+                    rest = this.pages(page.next());
+                }
+                return new AsyncPages.Chunk<>(page.items().iterator(), rest);
+            }
+        );
+    }
+
+    /**
+     * Fetch one page of a list.
+     * @param uri URI of the page
+     * @return Future page
+     */
+    CompletableFuture<AsyncGitHub.Page> page(final URI uri) {
+        return this.fetch(uri).thenApply(
+            resp -> {
+                final JsonArray arr = AsyncGitHub.read(resp).asJsonArray();
+                final List<JsonObject> items = new ArrayList<>(arr.size());
+                for (final JsonValue value : arr) {
+                    items.add(value.asJsonObject());
+                }
+                URI next = null;
+                for (final String link : resp.headers().allValues("Link")) {
+                    final Matcher matcher = AsyncGitHub.NEXT.matcher(link);
+                    if (matcher.find()) {
+                        next = URI.create(matcher.group(1));
+                    }
+                }
+                return new AsyncGitHub.Page(items, next);
+            }
+        );
+    }
+
+    /**
+     * Send GET request.
+     * @param uri URI
+     * @return Future response
+     */
+    private CompletableFuture<HttpResponse<String>> fetch(final URI uri) {
+        final HttpRequest.Builder req = HttpRequest.newBuilder(uri)
+            .GET()
+            .header(HttpHeaders.USER_AGENT, AsyncGitHub.AGENT)
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
+        if (!this.auth.isEmpty()) {
+            req.header(HttpHeaders.AUTHORIZATION, this.auth);
+        }
+        return this.client.sendAsync(
+            req.build(), HttpResponse.BodyHandlers.ofString()
+        );
+    }
+
+    /**
+     * Make URI of the path.
+     * @param path Path, with or without leading slash
+     * @return URI
+     */
+    private URI uri(final String path) {
+        final String uri;
+        if (path.startsWith("/")) {
+            uri = this.home + path;
+        } else {
+            uri = String.format("%s/%s", this.home, path);
+        }
+        return URI.create(uri);
+    }
+
+    /**
+     * Read JSON from response, if its status is 200.
+     * @param resp Response
+     * @return JSON
+     */
+    private static JsonValue read(final HttpResponse<String> resp) {
+        if (resp.statusCode() != HttpURLConnection.HTTP_OK) {
+            throw new CompletionException(
+                new UnexpectedHttpStatus(
+                    new AssertionError(
+                        String.format(
+                            "HTTP response with status %d instead of %d at %s: %s",
+                            resp.statusCode(), HttpURLConnection.HTTP_OK,
+                            resp.uri(), resp.body()
+                        )
+                    )
+                )
+            );
+        }
+        try (JsonReader reader = Json.createReader(
+            new StringReader(resp.body())
+        )) {
+            return reader.readValue();
+        }
+    }
+
+    /**
+     * Default HTTP client.
+     * @return Client
+     */
+    private static HttpClient client() {
+        return HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofMinutes(1L))
+            .build();
+    }
+
+    /**
+     * One page of a list.
+     * @since 2.0
+     */
+    static final class Page {
+
+        /**
+         * Objects of the page.
+         */
+        private final transient List<JsonObject> objects;
+
+        /**
+         * URI of the next page, or NULL.
+         */
+        private final transient URI link;
+
+        /**
+         * Ctor.
+         * @param items Objects of the page
+         * @param next URI of the next page, or NULL if it's the last one
+         */
+        Page(final List<JsonObject> items, final URI next) {
+            this.objects = items;
+            this.link = next;
+        }
+
+        /**
+         * Objects of the page.
+         * @return Objects
+         */
+        List<JsonObject> items() {
+            return this.objects;
+        }
+
+        /**
+         * URI of the next page.
+         * @return URI or NULL if there are no more pages
+         */
+        URI next() {
+            return this.link;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Publisher of all elements of an asynchronously paginated list.
+ *
+ * <p>Next page is requested only when the subscriber has demanded more
+ * elements than there are fetched already, and it is never requested
+ * after the subscription is cancelled. No thread waits for the demand:
+ * a page is fetched by one background task, which ends as soon as
+ * the page is in.
+ *
+ * @param <T> Type of elements
+ * @param <P> Type of source objects
+ * @since 2.0
+ */
+@EqualsAndHashCode(of = { "start", "mapping" })
+final class AsyncPages<T, P> implements Flow.Publisher<T> {
+
+    /**
+     * Source of the first page.
+     */
+    private final transient AsyncPages.Source<P> start;
+
+    /**
+     * Mapping of source objects.
+     */
+    private final transient RtValuePagination.Mapping<T, P> mapping;
+
+    /**
+     * Ctor.
+     * @param first Source of the first page
+     * @param mpp Mapping of source objects
+     */
+    AsyncPages(final AsyncPages.Source<P> first,
+        final RtValuePagination.Mapping<T, P> mpp) {
+        this.start = first;
+        this.mapping = mpp;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        subscriber.onSubscribe(new AsyncPages.Subscription<>(this, subscriber));
+    }
+
+    /**
+     * Source of one page.
+     * @param <P> Type of source objects
+     * @since 2.0
+     */
+    @FunctionalInterface
+    interface Source<P> {
+        /**
+         * Fetch the page.
+         * @return Future page
+         */
+        CompletableFuture<AsyncPages.Chunk<P>> page();
+    }
+
+    /**
+     * One fetched page.
+     * @param <P> Type of source objects
+     * @since 2.0
+     */
+    static final class Chunk<P> {
+
+        /**
+         * Objects of the page.
+         */
+        private final transient Iterator<P> objects;
+
+        /**
+         * Source of the next page, or NULL.
+         */
+        private final transient AsyncPages.Source<P> rest;
+
+        /**
+         * Ctor.
+         * @param objs Objects of the page
+         * @param next Source of the next page, or NULL if it's the last one
+         */
+        Chunk(final Iterator<P> objs, final AsyncPages.Source<P> next) {
+            this.objects = objs;
+            this.rest = next;
+        }
+
+        /**
+         * Objects of the page.
+         * @return Objects
+         */
+        Iterator<P> objects() {
+            return this.objects;
+        }
+
+        /**
+         * Source of the next page.
+         * @return Source or NULL if there are no more pages
+         */
+        AsyncPages.Source<P> next() {
+            return this.rest;
+        }
+    }
+
+    /**
+     * Subscription of one subscriber.
+     * @param <T> Type of elements
+     * @param <P> Type of source objects
+     * @since 2.0
+     */
+    private static final class Subscription<T, P> implements Flow.Subscription {
+
+        /**
+         * Publisher.
+         */
+        private final transient AsyncPages<T, P> pages;
+
+        /**
+         * Subscriber.
+         */
+        private final transient Flow.Subscriber<? super T> subscriber;
+
+        /**
+         * Fetched objects, not delivered yet.
+         */
+        private final transient Queue<P> buffer;
+
+        /**
+         * Number of elements demanded, but not delivered yet.
+         */
+        private final transient AtomicLong demand;
+
+        /**
+         * Number of pending drain requests.
+         */
+        private final transient AtomicInteger wip;
+
+        /**
+         * Is it finished, either cancelled, completed or failed.
+         */
+        private final transient AtomicBoolean finished;
+
+        /**
+         * Is a page being fetched now.
+         */
+        private final transient AtomicBoolean fetching;
+
+        /**
+         * Source of the next page, or NULL.
+         */
+        private volatile AsyncPages.Source<P> next;
+
+        /**
+         * Ctor.
+         * @param pgs Publisher
+         * @param sbr Subscriber
+         */
+        Subscription(final AsyncPages<T, P> pgs,
+            final Flow.Subscriber<? super T> sbr) {
+            this.pages = pgs;
+            this.subscriber = sbr;
+            this.buffer = new ConcurrentLinkedQueue<>();
+            this.demand = new AtomicLong();
+            this.wip = new AtomicInteger();
+            this.finished = new AtomicBoolean();
+            this.fetching = new AtomicBoolean();
+            this.next = pgs.start;
+        }
+
+        @Override
+        public void request(final long count) {
+            if (count <= 0L) {
+                this.fail(
+                    new IllegalArgumentException(
+                        String.format("Demand must be positive: %d", count)
+                    )
+                );
+            } else {
+                this.demand.accumulateAndGet(
+                    count,
+                    (left, right) -> {
+                        final long sum = left + right;
+                        final long total;
+                        if (sum < 0L) {
+                            total = Long.MAX_VALUE;
+                        } else {
+                            total = sum;
+                        }
+                        return total;
+                    }
+                );
+                this.drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            this.finished.set(true);
+            this.buffer.clear();
+        }
+
+        /**
+         * Deliver what can be delivered and fetch more, if necessary.
+         */
+        private void drain() {
+            if (this.wip.getAndIncrement() == 0) {
+                do {
+                    this.deliver();
+                } while (this.wip.decrementAndGet() != 0);
+            }
+        }
+
+        /**
+         * Deliver fetched objects and decide what to do next.
+         */
+        private void deliver() {
+            while (!this.finished.get() && this.demand.get() > 0L
+                && !this.buffer.isEmpty()) {
+                final T item;
+                try {
+                    item = this.pages.mapping.map(this.buffer.poll());
+                } catch (final IllegalStateException ex) {
+                    this.fail(ex);
+                    break;
+                }
+                this.demand.decrementAndGet();
+                this.subscriber.onNext(item);
+            }
+            if (!this.finished.get() && this.buffer.isEmpty()
+                && !this.fetching.get()) {
+                if (this.next == null) {
+                    if (this.finished.compareAndSet(false, true)) {
+                        this.subscriber.onComplete();
+                    }
+                } else if (this.demand.get() > 0L) {
+                    this.fetch();
+                }
+            }
+        }
+
+        /**
+         * Fetch next page in background.
+         */
+        private void fetch() {
+            this.fetching.set(true);
+            this.next.page().whenComplete(
+                (page, error) -> {
+                    if (error == null) {
+                        final Iterator<P> objects = page.objects();
+                        while (objects.hasNext()) {
+                            this.buffer.add(objects.next());
+                        }
+                        this.next = page.next();
+                    } else {
+                        this.fail(error);
+                    }
+                    this.fetching.set(false);
+                    this.drain();
+                }
+            );
+        }
+
+        /**
+         * Fail the subscription.
+         * @param error The error
+         */
+        private void fail(final Throwable error) {
+            if (this.finished.compareAndSet(false, true)) {
+                this.buffer.clear();
+                Throwable cause = error;
+                if (cause instanceof CompletionException
+                    && cause.getCause() != null) {
+                    cause = cause.getCause();
+                }
+                this.subscriber.onError(cause);
+            }
+        }
+    }
+}
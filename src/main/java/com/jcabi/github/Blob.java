@@ -33,7 +33,7 @@ public interface Blob extends JsonReadable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "blob", "jsn" })
-    final class Smart implements Blob {
+    final class Smart implements Blob, Snapshottable<Blob.Smart> {
 
         /**
          * Encapsulated blob.
@@ -50,13 +50,27 @@ public interface Blob extends JsonReadable {
          * @param blb Blob
          */
         public Smart(final Blob blb) {
+            this(blb, new SmartJson(blb));
+        }
+
+        /**
+         * Ctor.
+         * @param blb Blob
+         * @param json SmartJson object
+         */
+        private Smart(final Blob blb, final SmartJson json) {
             this.blob = blb;
-            this.jsn = new SmartJson(blb);
+            this.jsn = json;
+        }
+
+        @Override
+        public Blob.Smart snapshot() throws IOException {
+            return new Blob.Smart(this.blob, this.jsn.snapshot());
         }
 
         @Override
         public JsonObject json() throws IOException {
-            return this.blob.json();
+            return this.jsn.json();
         }
 
         @Override
@@ -5,9 +5,12 @@
 package com.jcabi.github;
 
 import jakarta.json.JsonObject;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Proxy;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
 import lombok.EqualsAndHashCode;
 
 /**
@@ -41,6 +44,12 @@ import lombok.EqualsAndHashCode;
  *
  * <p>Now, there will be just two HTTP requests.
  *
+ * <p>Objects of all lists and search results of {@link RtGitHub} are
+ * created with JSON of their pages right away. Objects of other
+ * iterables, for example mock ones, are wrapped into a dynamic proxy,
+ * which returns JSON of the page from {@code json()} and delegates
+ * other calls reflectively.
+ *
  * @param <T> Type of iterable objects
  * @see <a href="https://developer.github.com/v3/#pagination">Pagination</a>
  * @since 0.4
@@ -71,16 +80,47 @@ public final class Bulk<T extends JsonReadable> implements Iterable<T> {
         return this.origin().iterator();
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return this.origin().spliterator();
+    }
+
+    /**
+     * A few fields of every item, with nothing else of their JSON kept
+     * in memory.
+     *
+     * <p>Items of paginations and search results are projected right from
+     * their pages, all others are asked for their JSON one by one.
+     *
+     * @param fields Names of fields, nested ones with dots
+     * @return Projected items
+     * @see Projection
+     * @since 2.0
+     */
+    public Iterable<Projection.Row> projected(final String... fields) {
+        final Iterable<Projection.Row> rows;
+        if (this.items instanceof RtPagination) {
+            rows = RtPagination.class.cast(this.items).projected(fields);
+        } else if (this.items instanceof RtSearchPagination) {
+            rows = RtSearchPagination.class.cast(this.items)
+                .pagination().projected(fields);
+        } else {
+            final Projection projection = new Projection(fields);
+            rows = () -> StreamSupport.stream(this.items.spliterator(), false)
+                .map(item -> projection.map(Bulk.json(item)))
+                .iterator();
+        }
+        return rows;
+    }
+
     @SuppressWarnings("unchecked")
     private Iterable<T> origin() {
         final Iterable<T> origin;
         if (this.items instanceof RtPagination) {
-            final RtPagination<T> page = RtPagination.class.cast(this.items);
-            final RtValuePagination.Mapping<T, JsonObject> mapping =
-                page.mapping();
-            origin = new RtPagination<>(
-                page.request(),
-                object -> Bulk.proxy(mapping.map(object), object)
+            origin = Bulk.hydrated(RtPagination.class.cast(this.items));
+        } else if (this.items instanceof RtSearchPagination) {
+            origin = Bulk.hydrated(
+                RtSearchPagination.class.cast(this.items).pagination()
             );
         } else {
             origin = this.items;
@@ -88,6 +128,33 @@ public final class Bulk<T extends JsonReadable> implements Iterable<T> {
         return origin;
     }
 
+    /**
+     * Pagination, which creates objects with JSON from its pages.
+     * @param page Pagination
+     * @param <X> Type of objects
+     * @return Pagination
+     */
+    private static <X> RtPagination<X> hydrated(final RtPagination<X> page) {
+        final RtValuePagination.Mapping<X, JsonObject> mapping =
+            page.mapping();
+        return page.hydrated(
+            object -> Bulk.proxy(mapping.map(object), object)
+        );
+    }
+
+    /**
+     * JSON of an item.
+     * @param item The item
+     * @return JSON
+     */
+    private static JsonObject json(final JsonReadable item) {
+        try {
+            return item.json();
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static <X> X proxy(final X item, final JsonObject json) {
         return (X) Proxy.newProxyInstance(
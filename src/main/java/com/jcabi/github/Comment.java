@@ -80,7 +80,7 @@ public interface Comment
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "comment", "jsn" })
-    final class Smart implements Comment {
+    final class Smart implements Comment, Snapshottable<Comment.Smart> {
 
         /**
          * Encapsulated comment.
@@ -97,8 +97,22 @@ public interface Comment
          * @param cmt Comment
          */
         public Smart(final Comment cmt) {
+            this(cmt, new SmartJson(cmt));
+        }
+
+        /**
+         * Ctor.
+         * @param cmt Comment
+         * @param json SmartJson object
+         */
+        private Smart(final Comment cmt, final SmartJson json) {
             this.comment = cmt;
-            this.jsn = new SmartJson(cmt);
+            this.jsn = json;
+        }
+
+        @Override
+        public Comment.Smart snapshot() throws IOException {
+            return new Comment.Smart(this.comment, this.jsn.snapshot());
         }
 
         /**
@@ -108,7 +122,7 @@ public interface Comment
          */
         public User author() throws IOException {
             return this.comment.issue().repo().github().users().get(
-                this.comment.json().getJsonObject("user").getString("login")
+                this.jsn.json().getJsonObject("user").getString("login")
             );
         }
 
@@ -196,7 +210,7 @@ public interface Comment
 
         @Override
         public JsonObject json() throws IOException {
-            return this.comment.json();
+            return this.jsn.json();
         }
 
         @Override
@@ -51,7 +51,7 @@ public interface Commit extends Comparable<Commit>, JsonReadable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "commit", "jsn" })
-    final class Smart implements Commit {
+    final class Smart implements Commit, Snapshottable<Commit.Smart> {
 
         /**
          * Encapsulated commit.
@@ -68,8 +68,22 @@ public interface Commit extends Comparable<Commit>, JsonReadable {
          * @param cmt Commit
          */
         public Smart(final Commit cmt) {
+            this(cmt, new SmartJson(cmt));
+        }
+
+        /**
+         * Ctor.
+         * @param cmt Commit
+         * @param json SmartJson object
+         */
+        private Smart(final Commit cmt, final SmartJson json) {
             this.commit = cmt;
-            this.jsn = new SmartJson(cmt);
+            this.jsn = json;
+        }
+
+        @Override
+        public Commit.Smart snapshot() throws IOException {
+            return new Commit.Smart(this.commit, this.jsn.snapshot());
         }
 
         /**
@@ -106,7 +120,7 @@ public interface Commit extends Comparable<Commit>, JsonReadable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.commit.json();
+            return this.jsn.json();
         }
 
         @Override
@@ -44,20 +44,43 @@ public interface CommitsComparison extends JsonReadable {
     @Immutable
     @ToString
     @Loggable(Loggable.DEBUG)
-    @EqualsAndHashCode(of = "comparison")
-    final class Smart implements CommitsComparison {
+    @EqualsAndHashCode(of = { "comparison", "jsn" })
+    final class Smart
+        implements CommitsComparison, Snapshottable<CommitsComparison.Smart> {
 
         /**
          * Encapsulated commits comparison.
          */
         private final transient CommitsComparison comparison;
 
+        /**
+         * SmartJson object for convenient JSON parsing.
+         */
+        private final transient SmartJson jsn;
+
         /**
          * Public ctor.
          * @param cmprsn Commits comparison
          */
         public Smart(final CommitsComparison cmprsn) {
+            this(cmprsn, new SmartJson(cmprsn));
+        }
+
+        /**
+         * Ctor.
+         * @param cmprsn Commits comparison
+         * @param json SmartJson object
+         */
+        private Smart(final CommitsComparison cmprsn, final SmartJson json) {
             this.comparison = cmprsn;
+            this.jsn = json;
+        }
+
+        @Override
+        public CommitsComparison.Smart snapshot() throws IOException {
+            return new CommitsComparison.Smart(
+                this.comparison, this.jsn.snapshot()
+            );
         }
 
         /**
@@ -66,7 +89,7 @@ public interface CommitsComparison extends JsonReadable {
          * @throws IOException If there is any I/O problem
          */
         public Iterable<RepoCommit> commits() throws IOException {
-            final JsonArray array = this.comparison.json()
+            final JsonArray array = this.jsn.json()
                 .getJsonArray("commits");
             final Collection<RepoCommit> commits =
                 new ArrayList<>(array.size());
@@ -91,7 +114,7 @@ public interface CommitsComparison extends JsonReadable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.comparison.json();
+            return this.jsn.json();
         }
     }
 }
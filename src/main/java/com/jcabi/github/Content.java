@@ -52,7 +52,7 @@ public interface Content extends Comparable<Content>,
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "content", "jsn" })
-    final class Smart implements Content {
+    final class Smart implements Content, Snapshottable<Content.Smart> {
 
         /**
          * Encapsulated content.
@@ -69,8 +69,22 @@ public interface Content extends Comparable<Content>,
          * @param cont Content
          */
         public Smart(final Content cont) {
+            this(cont, new SmartJson(cont));
+        }
+
+        /**
+         * Ctor.
+         * @param cont Content
+         * @param json SmartJson object
+         */
+        private Smart(final Content cont, final SmartJson json) {
             this.content = cont;
-            this.jsn = new SmartJson(cont);
+            this.jsn = json;
+        }
+
+        @Override
+        public Content.Smart snapshot() throws IOException {
+            return new Content.Smart(this.content, this.jsn.snapshot());
         }
 
         /**
@@ -178,7 +192,7 @@ public interface Content extends Comparable<Content>,
 
         @Override
         public JsonObject json() throws IOException {
-            return this.content.json();
+            return this.jsn.json();
         }
 
         @Override
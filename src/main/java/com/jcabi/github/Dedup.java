@@ -0,0 +1,235 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * JSON reader, which shares equal strings among all JSON it reads.
+ *
+ * <p>The same logins, label names, states and URL templates occur in
+ * thousands of objects, and a usual reader makes a new string for every
+ * one of them. This one takes them from a pool. Only values that are
+ * likely to repeat are pooled: names of keys, values of keys like
+ * {@code login}, {@code state} or {@code name}, and URLs of nested
+ * objects, like users and labels. Titles, bodies and URLs of the objects
+ * themselves are unique, they are not pooled.
+ *
+ * <p>The pool is bounded: when it's full, it's cleared and starts over.
+ *
+ * @since 2.0
+ */
+final class Dedup {
+
+    /**
+     * The pool shared by all paginations and {@link RtJson}.
+     */
+    static final Dedup SHARED = new Dedup(1 << 16);
+
+    /**
+     * Builders.
+     */
+    private static final JsonBuilderFactory FACTORY =
+        Json.createBuilderFactory(Collections.emptyMap());
+
+    /**
+     * Keys with values that repeat a lot.
+     */
+    private static final Set<String> REPEATED = new HashSet<>(
+        Arrays.asList(
+            "login", "type", "state", "state_reason", "name", "color",
+            "description", "author_association", "repository_url",
+            "full_name", "event", "ref", "default_branch"
+        )
+    );
+
+    /**
+     * Pooled strings.
+     */
+    private final transient ConcurrentMap<String, String> pool;
+
+    /**
+     * Maximum number of strings in the pool.
+     */
+    private final transient int max;
+
+    /**
+     * Ctor.
+     * @param size Maximum number of strings in the pool
+     */
+    Dedup(final int size) {
+        this.pool = new ConcurrentHashMap<>(Math.min(size, 1 << 10));
+        this.max = size;
+    }
+
+    /**
+     * Read JSON of a page, which is an array of objects.
+     * @param body JSON text
+     * @return JSON value
+     */
+    JsonValue read(final byte[] body) {
+        return this.read(body, -1);
+    }
+
+    /**
+     * Read JSON of a single object, the same way as an element of a page,
+     * so that URLs of objects nested into it are pooled too.
+     * @param body JSON text
+     * @return JSON object
+     */
+    JsonObject object(final byte[] body) {
+        return this.read(body, 0).asJsonObject();
+    }
+
+    /**
+     * Read JSON.
+     * @param body JSON text
+     * @param depth Depth of the value, zero for an object
+     * @return JSON value
+     */
+    private JsonValue read(final byte[] body, final int depth) {
+        try (JsonParser parser = Json.createParser(
+            new ByteArrayInputStream(body)
+        )) {
+            return this.value(parser, parser.next(), depth);
+        }
+    }
+
+    /**
+     * Read a value, which the parser is at.
+     * @param parser Parser
+     * @param event Event of the value
+     * @param depth Depth of the value, zero for the elements of a page
+     * @return JSON value
+     */
+    JsonValue value(final JsonParser parser, final JsonParser.Event event,
+        final int depth) {
+        final JsonValue value;
+        switch (event) {
+            case START_OBJECT:
+                value = this.object(parser, depth);
+                break;
+            case START_ARRAY:
+                value = this.array(parser, depth);
+                break;
+            case VALUE_STRING:
+                value = Json.createValue(parser.getString());
+                break;
+            case VALUE_NUMBER:
+                if (parser.isIntegralNumber()) {
+                    value = Json.createValue(parser.getLong());
+                } else {
+                    value = Json.createValue(parser.getBigDecimal());
+                }
+                break;
+            case VALUE_TRUE:
+                value = JsonValue.TRUE;
+                break;
+            case VALUE_FALSE:
+                value = JsonValue.FALSE;
+                break;
+            case VALUE_NULL:
+                value = JsonValue.NULL;
+                break;
+            default:
+                throw new IllegalStateException(
+                    String.format("Unexpected JSON event: %s", event)
+                );
+        }
+        return value;
+    }
+
+    /**
+     * The same string from the pool, if it's there, or this one.
+     * @param text The string
+     * @return Equal string
+     */
+    String intern(final String text) {
+        String known = this.pool.get(text);
+        if (known == null) {
+            if (this.pool.size() >= this.max) {
+                this.pool.clear();
+            }
+            known = this.pool.putIfAbsent(text, text);
+            if (known == null) {
+                known = text;
+            }
+        }
+        return known;
+    }
+
+    /**
+     * Values of this key are likely to repeat among objects.
+     * @param key Name of the key
+     * @param depth Depth of the object with the key, zero for elements
+     *  of a page
+     * @return TRUE if they are worth pooling
+     */
+    static boolean repeats(final String key, final int depth) {
+        return Dedup.REPEATED.contains(key)
+            || depth > 0 && key.endsWith("url");
+    }
+
+    /**
+     * Number of strings in the pool.
+     * @return Number of strings
+     */
+    int size() {
+        return this.pool.size();
+    }
+
+    /**
+     * Read an array, which the parser is at the start of.
+     * @param parser Parser
+     * @param depth Depth of the array
+     * @return JSON array
+     */
+    private JsonValue array(final JsonParser parser, final int depth) {
+        final JsonArrayBuilder array = Dedup.FACTORY.createArrayBuilder();
+        for (JsonParser.Event evt = parser.next();
+            evt != JsonParser.Event.END_ARRAY; evt = parser.next()) {
+            array.add(this.value(parser, evt, depth + 1));
+        }
+        return array.build();
+    }
+
+    /**
+     * Read an object, which the parser is at the start of.
+     * @param parser Parser
+     * @param depth Depth of the object
+     * @return JSON object
+     */
+    private JsonValue object(final JsonParser parser, final int depth) {
+        final JsonObjectBuilder object = Dedup.FACTORY.createObjectBuilder();
+        for (JsonParser.Event evt = parser.next();
+            evt != JsonParser.Event.END_OBJECT; evt = parser.next()) {
+            final String key = this.intern(parser.getString());
+            final JsonParser.Event next = parser.next();
+            if (next == JsonParser.Event.VALUE_STRING) {
+                String text = parser.getString();
+                if (Dedup.repeats(key, depth)) {
+                    text = this.intern(text);
+                }
+                object.add(key, text);
+            } else {
+                object.add(key, this.value(parser, next, depth + 1));
+            }
+        }
+        return object.build();
+    }
+}
@@ -44,7 +44,7 @@ public interface DeployKey extends JsonReadable, JsonPatchable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "key", "jsn" })
-    final class Smart implements DeployKey {
+    final class Smart implements DeployKey, Snapshottable<DeployKey.Smart> {
 
         /**
          * Encapsulated deploy key.
@@ -61,8 +61,22 @@ public interface DeployKey extends JsonReadable, JsonPatchable {
          * @param dkey Deploy key
          */
         public Smart(final DeployKey dkey) {
+            this(dkey, new SmartJson(dkey));
+        }
+
+        /**
+         * Ctor.
+         * @param dkey Deploy key
+         * @param json SmartJson object
+         */
+        private Smart(final DeployKey dkey, final SmartJson json) {
             this.key = dkey;
-            this.jsn = new SmartJson(dkey);
+            this.jsn = json;
+        }
+
+        @Override
+        public DeployKey.Smart snapshot() throws IOException {
+            return new DeployKey.Smart(this.key, this.jsn.snapshot());
         }
 
         /**
@@ -120,7 +134,7 @@ public interface DeployKey extends JsonReadable, JsonPatchable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.key.json();
+            return this.jsn.json();
         }
 
         @Override
@@ -146,7 +146,7 @@ public interface Event extends Comparable<Event>, JsonReadable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "event", "jsn" })
-    final class Smart implements Event {
+    final class Smart implements Event, Snapshottable<Event.Smart> {
 
         /**
          * Encapsulated event.
@@ -163,8 +163,22 @@ public interface Event extends Comparable<Event>, JsonReadable {
          * @param evt Event
          */
         public Smart(final Event evt) {
+            this(evt, new SmartJson(evt));
+        }
+
+        /**
+         * Ctor.
+         * @param evt Event
+         * @param json SmartJson object
+         */
+        private Smart(final Event evt, final SmartJson json) {
             this.event = evt;
-            this.jsn = new SmartJson(evt);
+            this.jsn = json;
+        }
+
+        @Override
+        public Event.Smart snapshot() throws IOException {
+            return new Event.Smart(this.event, this.jsn.snapshot());
         }
 
         /**
@@ -173,7 +187,7 @@ public interface Event extends Comparable<Event>, JsonReadable {
          * @throws IOException If there is any I/O problem
          */
         public boolean hasAuthor() throws IOException {
-            return !this.event.json().isNull("actor");
+            return !this.jsn.json().isNull("actor");
         }
 
         /**
@@ -183,7 +197,7 @@ public interface Event extends Comparable<Event>, JsonReadable {
          */
         public User author() throws IOException {
             return this.event.repo().github().users().get(
-                this.event.json().getJsonObject("actor").getString("login")
+                this.jsn.json().getJsonObject("actor").getString("login")
             );
         }
 
@@ -228,7 +242,7 @@ public interface Event extends Comparable<Event>, JsonReadable {
          */
         public Optional<String> commitId() throws IOException {
             return Optional.fromNullable(
-                this.event.json().getString("commit_id", null)
+                this.jsn.json().getString("commit_id", null)
             );
         }
 
@@ -263,7 +277,7 @@ public interface Event extends Comparable<Event>, JsonReadable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.event.json();
+            return this.jsn.json();
         }
 
         @Override
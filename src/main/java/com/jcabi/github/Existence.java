@@ -11,6 +11,11 @@ import lombok.EqualsAndHashCode;
 
 /**
  * Check if a GitHub JSON object actually exists on the server.
+ *
+ * <p>Objects of this library, which know their URLs, check it by the
+ * status of a HEAD request, without their JSON. Others are asked for
+ * their JSON.
+ *
  * @since 0.38
  */
 @Immutable
@@ -38,12 +43,29 @@ final class Existence {
      */
     boolean check() throws IOException {
         boolean exists = true;
-        try {
-            this.readable.json();
-        } catch (final UnexpectedHttpStatus | AssertionError
-            | IndexOutOfBoundsException ex) {
-            exists = false;
+        if (this.readable instanceof Existence.Probe) {
+            exists = Existence.Probe.class.cast(this.readable).exists();
+        } else {
+            try {
+                this.readable.json();
+            } catch (final UnexpectedHttpStatus | AssertionError
+                | IndexOutOfBoundsException ex) {
+                exists = false;
+            }
         }
         return exists;
     }
+
+    /**
+     * Object, which can check if it exists without its JSON.
+     * @since 2.0
+     */
+    interface Probe {
+        /**
+         * Check existence, without reading the body of the response.
+         * @return True if exists, false otherwise
+         * @throws IOException If there is a networking problem.
+         */
+        boolean exists() throws IOException;
+    }
 }
@@ -81,7 +81,7 @@ public interface FileChange extends JsonReadable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "change", "jsn" })
-    final class Smart implements FileChange {
+    final class Smart implements FileChange, Snapshottable<FileChange.Smart> {
 
         /**
          * Encapsulated file change.
@@ -98,8 +98,22 @@ public interface FileChange extends JsonReadable {
          * @param chng File change
          */
         public Smart(final FileChange chng) {
+            this(chng, new SmartJson(chng));
+        }
+
+        /**
+         * Ctor.
+         * @param chng File change
+         * @param json SmartJson object
+         */
+        private Smart(final FileChange chng, final SmartJson json) {
             this.change = chng;
-            this.jsn = new SmartJson(chng);
+            this.jsn = json;
+        }
+
+        @Override
+        public FileChange.Smart snapshot() throws IOException {
+            return new FileChange.Smart(this.change, this.jsn.snapshot());
         }
 
         /**
@@ -198,7 +212,7 @@ public interface FileChange extends JsonReadable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.change.json();
+            return this.jsn.json();
         }
     }
 }
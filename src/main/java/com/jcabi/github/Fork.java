@@ -37,7 +37,7 @@ public interface Fork extends JsonReadable, JsonPatchable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "fork", "jsn" })
-    final class Smart implements Fork {
+    final class Smart implements Fork, Snapshottable<Fork.Smart> {
 
         /**
          * Encapsulated Fork.
@@ -54,8 +54,22 @@ public interface Fork extends JsonReadable, JsonPatchable {
          * @param frk Fork
          */
         public Smart(final Fork frk) {
+            this(frk, new SmartJson(frk));
+        }
+
+        /**
+         * Ctor.
+         * @param frk Fork
+         * @param json SmartJson object
+         */
+        private Smart(final Fork frk, final SmartJson json) {
             this.fork = frk;
-            this.jsn = new SmartJson(frk);
+            this.jsn = json;
+        }
+
+        @Override
+        public Fork.Smart snapshot() throws IOException {
+            return new Fork.Smart(this.fork, this.jsn.snapshot());
         }
 
         /**
@@ -247,7 +261,7 @@ public interface Fork extends JsonReadable, JsonPatchable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.fork.json();
+            return this.jsn.json();
         }
 
         @Override
@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * The latest snapshot of an object, taken again when it gets too old.
+ *
+ * <p>Unlike snapshots, this object is mutable: it keeps the latest
+ * snapshot and forgets it on {@link #refresh()}, for example:
+ *
+ * <pre> FreshSnapshot&lt;Issue.Smart&gt; issue = new FreshSnapshot&lt;&gt;(
+ *   new Issue.Smart(repo.issues().get(1)), Duration.ofMinutes(1L)
+ * );
+ * String title = issue.get().title();
+ * issue.refresh();
+ * String state = issue.get().state();</pre>
+ *
+ * <p>The object is thread-safe. No lock is held while JSON is read, so
+ * threads, which find the snapshot too old at the same time, may take
+ * a new one each; the last one taken is kept.
+ *
+ * @param <T> Type of snapshots
+ * @since 2.0
+ */
+@ToString(of = { "origin", "age" })
+@EqualsAndHashCode(of = { "origin", "age" })
+public final class FreshSnapshot<T extends Snapshottable<T>> {
+
+    /**
+     * Original object.
+     */
+    private final transient T origin;
+
+    /**
+     * Maximum age of a snapshot, in nanoseconds.
+     */
+    private final transient long age;
+
+    /**
+     * The latest snapshot, or NULL if there is none.
+     */
+    private final transient AtomicReference<FreshSnapshot.Taken<T>> latest;
+
+    /**
+     * Ctor, with snapshots kept until {@link #refresh()}.
+     * @param obj Original object
+     */
+    public FreshSnapshot(final T obj) {
+        this(obj, Long.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param obj Original object
+     * @param max Maximum age of a snapshot
+     */
+    public FreshSnapshot(final T obj, final Duration max) {
+        this(obj, max.toNanos());
+    }
+
+    /**
+     * Ctor.
+     * @param obj Original object
+     * @param nanos Maximum age of a snapshot, in nanoseconds
+     */
+    private FreshSnapshot(final T obj, final long nanos) {
+        this.origin = obj;
+        this.age = nanos;
+        this.latest = new AtomicReference<>();
+    }
+
+    /**
+     * Get the latest snapshot, taking a new one if it's too old.
+     * @return Snapshot
+     * @throws IOException If there is any I/O problem
+     */
+    public T get() throws IOException {
+        final FreshSnapshot.Taken<T> taken = this.latest.get();
+        final long now = System.nanoTime();
+        final T snapshot;
+        if (taken == null || now - taken.time >= this.age) {
+            snapshot = this.origin.snapshot();
+            this.latest.set(new FreshSnapshot.Taken<>(snapshot, now));
+        } else {
+            snapshot = taken.snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Forget the latest snapshot, so that a new one is taken next time.
+     */
+    public void refresh() {
+        this.latest.set(null);
+    }
+
+    /**
+     * Snapshot and the time it was taken.
+     * @param <T> Type of snapshot
+     * @since 2.0
+     */
+    private static final class Taken<T> {
+
+        /**
+         * The snapshot.
+         */
+        private final transient T snapshot;
+
+        /**
+         * When it was taken, in nanoseconds.
+         */
+        private final transient long time;
+
+        /**
+         * Ctor.
+         * @param snap The snapshot
+         * @param nanos When it was taken, in nanoseconds
+         */
+        Taken(final T snap, final long nanos) {
+            this.snapshot = snap;
+            this.time = nanos;
+        }
+    }
+}
@@ -93,20 +93,40 @@ public interface Gist extends JsonReadable, JsonPatchable {
     @Immutable
     @ToString
     @Loggable(Loggable.DEBUG)
-    @EqualsAndHashCode(of = "gist")
-    final class Smart implements Gist {
+    @EqualsAndHashCode(of = { "gist", "jsn" })
+    final class Smart implements Gist, Snapshottable<Gist.Smart> {
 
         /**
          * Encapsulated gist.
          */
         private final transient Gist gist;
 
+        /**
+         * SmartJson object for convenient JSON parsing.
+         */
+        private final transient SmartJson jsn;
+
         /**
          * Public ctor.
          * @param gst Gist
          */
         public Smart(final Gist gst) {
+            this(gst, new SmartJson(gst));
+        }
+
+        /**
+         * Ctor.
+         * @param gst Gist
+         * @param json SmartJson object
+         */
+        private Smart(final Gist gst, final SmartJson json) {
             this.gist = gst;
+            this.jsn = json;
+        }
+
+        @Override
+        public Gist.Smart snapshot() throws IOException {
+            return new Gist.Smart(this.gist, this.jsn.snapshot());
         }
 
         @Override
@@ -120,7 +140,7 @@ public interface Gist extends JsonReadable, JsonPatchable {
          * @throws IOException If there is any I/O problem
          */
         public Iterable<String> files() throws IOException {
-            final JsonObject array = this.gist.json().getJsonObject("files");
+            final JsonObject array = this.jsn.json().getJsonObject("files");
             final Collection<String> files =
                 new ArrayList<>(array.size());
             for (final JsonValue value : array.values()) {
@@ -172,7 +192,7 @@ public interface Gist extends JsonReadable, JsonPatchable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.gist.json();
+            return this.jsn.json();
         }
 
         @Override
@@ -66,7 +66,7 @@ public interface GistComment
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "comment", "jsn" })
-    final class Smart implements GistComment {
+    final class Smart implements GistComment, Snapshottable<GistComment.Smart> {
 
         /**
          * Encapsulated gist comment.
@@ -83,8 +83,22 @@ public interface GistComment
          * @param cmt Comment
          */
         public Smart(final GistComment cmt) {
+            this(cmt, new SmartJson(cmt));
+        }
+
+        /**
+         * Ctor.
+         * @param cmt Comment
+         * @param json SmartJson object
+         */
+        private Smart(final GistComment cmt, final SmartJson json) {
             this.comment = cmt;
-            this.jsn = new SmartJson(cmt);
+            this.jsn = json;
+        }
+
+        @Override
+        public GistComment.Smart snapshot() throws IOException {
+            return new GistComment.Smart(this.comment, this.jsn.snapshot());
         }
 
         /**
@@ -94,7 +108,7 @@ public interface GistComment
          */
         public User author() throws IOException {
             return this.comment.gist().github().users().get(
-                this.comment.json().getJsonObject("user").getString("login")
+                this.jsn.json().getJsonObject("user").getString("login")
             );
         }
 
@@ -180,7 +194,7 @@ public interface GistComment
 
         @Override
         public JsonObject json() throws IOException {
-            return this.comment.json();
+            return this.jsn.json();
         }
     }
 }
@@ -39,7 +39,7 @@ public interface Hook extends JsonReadable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "hook", "jsn" })
-    final class Smart implements Hook {
+    final class Smart implements Hook, Snapshottable<Hook.Smart> {
 
         /**
          * Encapsulated Hook.
@@ -56,8 +56,22 @@ public interface Hook extends JsonReadable {
          * @param hoo Hook
          */
         public Smart(final Hook hoo) {
+            this(hoo, new SmartJson(hoo));
+        }
+
+        /**
+         * Ctor.
+         * @param hoo Hook
+         * @param json SmartJson object
+         */
+        private Smart(final Hook hoo, final SmartJson json) {
             this.hook = hoo;
-            this.jsn = new SmartJson(hoo);
+            this.jsn = json;
+        }
+
+        @Override
+        public Hook.Smart snapshot() throws IOException {
+            return new Hook.Smart(this.hook, this.jsn.snapshot());
         }
 
         /**
@@ -81,7 +95,7 @@ public interface Hook extends JsonReadable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.hook.json();
+            return this.jsn.json();
         }
     }
 }
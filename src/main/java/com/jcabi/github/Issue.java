@@ -126,7 +126,7 @@ public interface Issue extends Comparable<Issue>, JsonReadable, JsonPatchable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = {"issue", "jsn"})
-    final class Smart implements Issue {
+    final class Smart implements Issue, Snapshottable<Issue.Smart> {
 
         /**
          * Encapsulated issue.
@@ -143,8 +143,22 @@ public interface Issue extends Comparable<Issue>, JsonReadable, JsonPatchable {
          * @param iss Issue
          */
         public Smart(final Issue iss) {
+            this(iss, new SmartJson(iss));
+        }
+
+        /**
+         * Ctor.
+         * @param iss Issue
+         * @param json SmartJson object
+         */
+        private Smart(final Issue iss, final SmartJson json) {
             this.issue = iss;
-            this.jsn = new SmartJson(iss);
+            this.jsn = json;
+        }
+
+        @Override
+        public Issue.Smart snapshot() throws IOException {
+            return new Issue.Smart(this.issue, this.jsn.snapshot());
         }
 
         /**
@@ -385,30 +399,17 @@ public interface Issue extends Comparable<Issue>, JsonReadable, JsonPatchable {
          * Get the latest event of a given type.
          * Throws {@link IllegalStateException} if the issue has no events of
          * the given type.
+         *
+         * <p>Events of an issue from GitHub are walked from the last page
+         * back, until the first event of the type. Use
+         * {@link LatestEvents} to remember them between calls.
+         *
          * @param type Type of event
          * @return Latest event of the given type
          * @throws IOException If there is any I/O problem
          */
         public Event latestEvent(final String type) throws IOException {
-            final Iterable<Event.Smart> events = new Smarts<>(
-                this.issue.events()
-            );
-            Event found = null;
-            for (final Event.Smart event : events) {
-                if (event.type().equals(type) && (found == null
-                    || found.number() < event.number())) {
-                    found = event;
-                }
-            }
-            if (found == null) {
-                throw new IllegalStateException(
-                    String.format(
-                        "event of type '%s' not found in issue #%d",
-                        type, this.issue.number()
-                    )
-                );
-            }
-            return found;
+            return LatestEvents.find(this.issue, type);
         }
 
         /**
@@ -533,7 +534,7 @@ public interface Issue extends Comparable<Issue>, JsonReadable, JsonPatchable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.issue.json();
+            return this.jsn.json();
         }
 
         @Override
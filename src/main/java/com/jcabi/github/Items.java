@@ -5,22 +5,64 @@
 package com.jcabi.github;
 
 import com.jcabi.http.Request;
-import com.jcabi.http.response.JsonResponse;
 import com.jcabi.http.response.RestResponse;
 import com.jcabi.http.response.WebLinkingResponse;
+import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
+import java.net.URI;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Queue;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import lombok.EqualsAndHashCode;
 
 /**
  * Iterator.
+ *
+ * <p>If prefetch depth is positive, the next pages are requested in
+ * background, as soon as the {@code Link} header of the previous page
+ * is received, so that up to this number of pages are loaded or being
+ * loaded ahead of the page in use.
+ *
+ * <p>If parallelism is positive and the first page has a {@code Link}
+ * with {@code rel="last"}, the number of pages is known, so all other
+ * pages are fetched at the same time, no more than this number at once.
+ * They go through the same wire as the first one, so a
+ * {@link com.jcabi.github.wire.GovernedWire} shares the rate limit budget
+ * among them. Pages come out in order, unless that's disabled.
+ *
+ * <p>The iterator stops after the limited number of elements or pages,
+ * and doesn't fetch new pages when the time budget is over, even if
+ * GitHub has more of them.
+ *
+ * <p>The iterator is not thread-safe and takes no locks, it's meant
+ * for one consumer. To share one pagination among many threads use
+ * {@link Shared}.
+ *
+ * <p>The cursor of the iterator is the URI of the page in use and the
+ * number of its elements already returned, so a new iterator may
+ * continue from there, even in another JVM. It also carries the numbers
+ * of elements and pages already taken, so limits hold across restarts.
+ * If pages are fetched in parallel without order, the cursor is not
+ * exact.
+ *
  * @param <X> Type of custom object
  * @param <P> Type of source object
  * @since 0.8
@@ -28,7 +70,24 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode(of = { "mapping", "request", "objects", "more" })
 @SuppressWarnings("PMD.ConstructorShouldDoInitialization")
 final class Items<X, P extends JsonValue> implements
-    Iterator<X> {
+    RtValuePagination.Resumable<X> {
+
+    /**
+     * Threads that prefetch pages.
+     */
+    private static final ExecutorService THREADS =
+        Executors.newCachedThreadPool(
+            runnable -> {
+                final Thread thread = new Thread(runnable, "jcabi-github-items");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+
+    /**
+     * Page number in a query.
+     */
+    private static final Pattern PAGE = Pattern.compile("(^|&)page=(\\d+)");
 
     /**
      * Mapping to use.
@@ -36,50 +95,150 @@ final class Items<X, P extends JsonValue> implements
     private final transient RtValuePagination.Mapping<X, P> mapping;
 
     /**
-     * Lock object.
+     * How to fetch pages.
+     */
+    private final transient Paging paging;
+
+    /**
+     * Pages being prefetched, in order.
      */
-    private final transient ReentrantLock lock;
+    private final transient Deque<CompletableFuture<Items.Page<P>>> pending;
 
     /**
      * Next entry to use.
      */
     private transient Request request;
 
+    /**
+     * Pages fetched in parallel, or NULL if not started.
+     */
+    private transient Iterator<Items.Page<P>> rest;
+
     /**
      * Available objects.
      */
-    private transient Queue<P> objects;
+    private transient Iterator<P> objects;
 
     /**
      * Current entry can be used to fetch objects.
      */
     private transient boolean more = true;
 
+    /**
+     * The first page is not fetched yet.
+     */
+    private transient boolean first = true;
+
+    /**
+     * Number of elements returned.
+     */
+    private transient int served;
+
+    /**
+     * Number of pages taken.
+     */
+    private transient int taken;
+
+    /**
+     * Number of pages requested in background.
+     */
+    private transient int scheduled;
+
+    /**
+     * Time when no more pages may be fetched, in milliseconds.
+     */
+    private transient long deadline;
+
+    /**
+     * URI of the page in use, or NULL if none yet.
+     */
+    private transient URI current;
+
+    /**
+     * Number of elements of the page in use already returned.
+     */
+    private transient int offset;
+
+    /**
+     * Number of elements of the first page to skip.
+     */
+    private transient int skip;
+
     /**
      * Ctor.
      * @param entry Entry
      * @param mpp Mapping
      */
     Items(final Request entry, final RtValuePagination.Mapping<X, P> mpp) {
+        this(entry, mpp, new Paging());
+    }
+
+    /**
+     * Ctor.
+     * @param entry Entry
+     * @param mpp Mapping
+     * @param pgn How to fetch pages
+     */
+    Items(final Request entry, final RtValuePagination.Mapping<X, P> mpp,
+        final Paging pgn) {
+        this(
+            entry, mpp, pgn, new RtValuePagination.Cursor(entry.uri().get(), 0)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param entry Entry
+     * @param mpp Mapping
+     * @param pgn How to fetch pages
+     * @param from Cursor of the iterator to continue, its page is
+     *  the entry
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Items(final Request entry, final RtValuePagination.Mapping<X, P> mpp,
+        final Paging pgn, final RtValuePagination.Cursor from) {
         this.request = entry;
         this.mapping = mpp;
-        this.objects = new ArrayDeque<>();
-        this.lock = new ReentrantLock();
+        this.paging = pgn;
+        this.skip = from.offset();
+        this.served = from.served();
+        this.taken = from.pages();
+        this.scheduled = from.pages();
+        this.objects = Collections.emptyIterator();
+        this.pending = new ArrayDeque<>(pgn.depth() + 1);
     }
 
     @Override
     public X next() {
-        this.lock.lock();
-        try {
-            if (!this.hasNext()) {
-                throw new NoSuchElementException(
-                    "no more elements in pagination, use #hasNext()"
-                );
-            }
-            return this.mapping.map(this.objects.remove());
-        } finally {
-            this.lock.unlock();
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "no more elements in pagination, use #hasNext()"
+            );
         }
+        ++this.served;
+        ++this.offset;
+        return this.mapping.map(this.objects.next());
+    }
+
+    @Override
+    public RtValuePagination.Cursor cursor() {
+        final RtValuePagination.Cursor cursor;
+        if (this.current == null) {
+            cursor = new RtValuePagination.Cursor(
+                this.request.uri().get(), this.skip,
+                this.served, this.taken
+            );
+        } else if (!this.objects.hasNext() && this.rest == null
+            && this.request != null) {
+            cursor = new RtValuePagination.Cursor(
+                this.request.uri().get(), 0, this.served, this.taken
+            );
+        } else {
+            cursor = new RtValuePagination.Cursor(
+                this.current, this.offset, this.served, this.taken - 1
+            );
+        }
+        return cursor;
     }
 
     @Override
@@ -89,42 +248,526 @@ final class Items<X, P extends JsonValue> implements
 
     @Override
     public boolean hasNext() {
-        this.lock.lock();
+        if (this.paging.limit() > 0 && this.served >= this.paging.limit()
+            || this.paging.maxPages() > 0
+            && this.taken >= this.paging.maxPages()) {
+            this.more = false;
+        }
+        while (!this.objects.hasNext() && this.more) {
+            if (this.expired()) {
+                this.more = false;
+            } else {
+                this.turn();
+            }
+        }
+        return this.objects.hasNext()
+            && (this.paging.limit() == 0
+            || this.served < this.paging.limit());
+    }
+
+    /**
+     * The time budget is over.
+     * @return TRUE if no more pages may be fetched
+     */
+    private boolean expired() {
+        final long now = System.currentTimeMillis();
+        if (this.deadline == 0L) {
+            if (this.paging.budget() > 0L) {
+                this.deadline = now + this.paging.budget();
+            } else {
+                this.deadline = Long.MAX_VALUE;
+            }
+        }
+        return now >= this.deadline;
+    }
+
+    /**
+     * Move to the next page.
+     */
+    private void turn() {
+        if (this.rest == null) {
+            final boolean head = this.first;
+            this.first = false;
+            final Items.Page<P> page;
+            if (head && this.paging.parallelism() > 0) {
+                page = this.sync(this.request);
+            } else if (this.paging.depth() > 0) {
+                page = this.prefetched();
+            } else {
+                page = this.sync(this.request);
+            }
+            this.objects = page.objects;
+            this.current = page.self;
+            this.request = page.next;
+            this.more = page.next != null;
+            if (head && this.more && this.paging.parallelism() > 0
+                && page.last != null) {
+                this.rest = this.parallel(page);
+                this.more = this.rest.hasNext();
+            }
+        } else {
+            final Items.Page<P> page = this.rest.next();
+            this.objects = page.objects;
+            this.current = page.self;
+            this.more = this.rest.hasNext();
+        }
+        this.offset = 0;
+        while (this.skip > 0 && this.objects.hasNext()) {
+            this.objects.next();
+            --this.skip;
+            ++this.offset;
+        }
+        this.skip = 0;
+        ++this.taken;
+        if (this.paging.maxPages() > 0
+            && this.taken >= this.paging.maxPages()) {
+            this.more = false;
+        }
+    }
+
+    /**
+     * Start fetching all pages after the first one in parallel.
+     * @param head First page, which may be not the first one of the
+     *  listing, if the iterator is resumed
+     * @return Pages
+     */
+    private Iterator<Items.Page<P>> parallel(final Items.Page<P> head) {
+        final int from = Math.max(Items.number(head.self), 1) + 1;
+        int total = Items.number(head.last);
+        if (this.paging.maxPages() > 0) {
+            total = Math.min(
+                total, from + this.paging.maxPages() - this.taken - 2
+            );
+        }
+        final List<Integer> numbers =
+            new ArrayList<>(Math.max(total - from + 1, 0));
+        for (int num = from; num <= total; ++num) {
+            numbers.add(num);
+        }
+        final Request next = head.next;
+        final URI last = head.last;
+        Parallel<Integer, Items.Page<P>> pages = new Parallel<>(
+            numbers,
+            this.paging.parallelism(),
+            num -> this.fetch(
+                next.uri().set(
+                    next.uri().get().resolve(Items.page(last, num))
+                ).back()
+            )
+        );
+        if (!this.paging.ordered()) {
+            pages = pages.unordered();
+        }
+        return pages.iterator();
+    }
+
+    /**
+     * Take the next page from prefetched ones and request more.
+     * @return Page
+     */
+    private Items.Page<P> prefetched() {
+        if (this.pending.isEmpty()) {
+            final Request start = this.request;
+            this.pending.add(
+                CompletableFuture.supplyAsync(
+                    () -> this.load(start), Items.THREADS
+                )
+            );
+            ++this.scheduled;
+        }
+        final CompletableFuture<Items.Page<P>> head = this.pending.remove();
+        CompletableFuture<Items.Page<P>> tail = head;
+        if (!this.pending.isEmpty()) {
+            tail = this.pending.getLast();
+        }
+        while (this.pending.size() < this.paging.depth()
+            && (this.paging.maxPages() == 0
+            || this.scheduled < this.paging.maxPages())) {
+            tail = tail.thenApplyAsync(
+                page -> {
+                    final Items.Page<P> loaded;
+                    if (page.next == null) {
+                        loaded = page.end();
+                    } else {
+                        loaded = this.load(page.next);
+                    }
+                    return loaded;
+                },
+                Items.THREADS
+            );
+            this.pending.add(tail);
+            ++this.scheduled;
+        }
+        try {
+            return head.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof UncheckedIOException) {
+                cause = cause.getCause();
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Number of the page.
+     * @param uri URI of the page
+     * @return Number, or zero if it's not there
+     */
+    static int number(final URI uri) {
+        int num = 0;
+        final String query = uri.getRawQuery();
+        if (query != null) {
+            final Matcher matcher = Items.PAGE.matcher(query);
+            if (matcher.find()) {
+                num = Integer.parseInt(matcher.group(2));
+            }
+        }
+        return num;
+    }
+
+    /**
+     * URI of another page.
+     * @param uri URI of some page
+     * @param num Number of the page required
+     * @return URI
+     */
+    static URI page(final URI uri, final int num) {
+        return URI.create(
+            String.format(
+                "%s?%s",
+                uri.toString().substring(0, uri.toString().indexOf('?')),
+                Items.PAGE.matcher(uri.getRawQuery()).replaceFirst(
+                    String.format("$1page=%d", num)
+                )
+            )
+        );
+    }
+
+    /**
+     * Fetch a page, in this thread.
+     * @param req Request of the page
+     * @return Page
+     */
+    private Items.Page<P> sync(final Request req) {
+        try {
+            return this.fetch(req);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Fetch a page, in background.
+     * @param req Request of the page
+     * @return Page
+     */
+    private Items.Page<P> load(final Request req) {
         try {
-            if ((this.objects == null || this.objects.isEmpty())
-                && this.more) {
+            return this.fetch(req);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Fetch a page.
+     * @param req Request of the page
+     * @return Page
+     * @throws IOException If fails
+     */
+    private Items.Page<P> fetch(final Request req) throws IOException {
+        return Items.fetch(req, this.paging);
+    }
+
+    /**
+     * Source of a page and all pages after it, each one fetched
+     * in background, for a {@link AsyncPages} publisher.
+     *
+     * <p>No page is fetched after the limited number of elements or
+     * pages, or when the time budget is over.
+     *
+     * @param req Request of the page
+     * @param pgn How to read pages
+     * @param <P> Type of source object
+     * @return Source
+     */
+    static <P extends JsonValue> AsyncPages.Source<P> source(
+        final Request req, final Paging pgn) {
+        return Items.source(req, pgn, 0, 0, 0L);
+    }
+
+    /**
+     * Source of a page and all pages after it.
+     * @param req Request of the page
+     * @param pgn How to read pages
+     * @param pages Number of pages fetched before
+     * @param served Number of elements published before
+     * @param until Time when no more pages may be fetched, in
+     *  milliseconds, or zero if no page is fetched yet
+     * @param <P> Type of source object
+     * @return Source
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static <P extends JsonValue> AsyncPages.Source<P> source(
+        final Request req, final Paging pgn, final int pages,
+        final int served, final long until) {
+        return () -> CompletableFuture.supplyAsync(
+            () -> {
+                long deadline = until;
+                if (deadline == 0L) {
+                    deadline = Long.MAX_VALUE;
+                    if (pgn.budget() > 0L) {
+                        deadline = System.currentTimeMillis() + pgn.budget();
+                    }
+                }
+                final Items.Page<P> page;
                 try {
-                    this.fetch();
+                    page = Items.fetch(req, pgn);
                 } catch (final IOException ex) {
-                    throw new IllegalStateException(ex);
+                    throw new UncheckedIOException(ex);
                 }
-            }
-            return !this.objects.isEmpty();
-        } finally {
-            this.lock.unlock();
-        }
+                final Queue<P> objects = new ArrayDeque<>(0);
+                final Iterator<P> all = page.objects();
+                while (all.hasNext() && (pgn.limit() == 0
+                    || served + objects.size() < pgn.limit())) {
+                    objects.add(all.next());
+                }
+                final int total = served + objects.size();
+                AsyncPages.Source<P> rest = null;
+                if (page.next() != null
+                    && (pgn.limit() == 0 || total < pgn.limit())
+                    && (pgn.maxPages() == 0 || pages + 1 < pgn.maxPages())
+                    && System.currentTimeMillis() < deadline) {
+                    rest = Items.source(
+                        page.next(), pgn, pages + 1, total, deadline
+                    );
+                }
+                return new AsyncPages.Chunk<>(objects.iterator(), rest);
+            },
+            Items.THREADS
+        );
     }
 
+    /**
+     * Fetch a page.
+     * @param req Request of the page
+     * @param pgn How to read pages, only streaming, sharing
+     *  of strings and the codec matter
+     * @param <P> Type of source object
+     * @return Page
+     * @throws IOException If fails
+     */
     @SuppressWarnings("unchecked")
-    private void fetch() throws IOException {
-        final RestResponse response = this.request.fetch()
+    static <P extends JsonValue> Items.Page<P> fetch(final Request req,
+        final Paging pgn) throws IOException {
+        final RestResponse response = req.fetch()
             .as(RestResponse.class)
             .assertStatus(HttpURLConnection.HTTP_OK);
-        final WebLinkingResponse.Link link = response
+        final Map<String, WebLinkingResponse.Link> links = response
             .as(WebLinkingResponse.class)
-            .links()
-            .get("next");
-        if (link == null) {
-            this.more = false;
+            .links();
+        final WebLinkingResponse.Link link = links.get("next");
+        Request next = null;
+        if (link != null) {
+            next = response.jump(link.uri());
+        }
+        URI last = null;
+        if (links.containsKey("last")
+            && Items.number(links.get("last").uri()) > 0) {
+            last = links.get("last").uri();
+        }
+        final Iterator<P> objs;
+        int size = -1;
+        if (pgn.streams()) {
+            objs = new Items.Stream<>(response.binary(), pgn.dedups());
         } else {
-            this.request = response.jump(link.uri());
+            final JsonArray arr;
+            if (pgn.dedups()) {
+                arr = RtJson.decoded(
+                    response, body -> Dedup.SHARED.read(body).asJsonArray()
+                );
+            } else {
+                arr = RtJson.decoded(response, pgn.codec()::array);
+            }
+            final Queue<P> list = new ArrayDeque<>(arr.size());
+            for (final JsonValue value : arr) {
+                list.add((P) value);
+            }
+            objs = list.iterator();
+            size = list.size();
+        }
+        return new Items.Page<>(req.uri().get(), objs, size, next, last);
+    }
+
+    /**
+     * Page of objects.
+     * @param <P> Type of source object
+     * @since 2.0
+     */
+    static final class Page<P> {
+
+        /**
+         * URI of the page.
+         */
+        private final transient URI self;
+
+        /**
+         * Objects of the page.
+         */
+        private final transient Iterator<P> objects;
+
+        /**
+         * Number of objects, or -1 if unknown.
+         */
+        private final transient int size;
+
+        /**
+         * Request of the next page, or NULL if it's the last one.
+         */
+        private final transient Request next;
+
+        /**
+         * URI of the last page, or NULL if unknown.
+         */
+        private final transient URI last;
+
+        /**
+         * Ctor.
+         * @param home URI of the page
+         * @param objs Objects
+         * @param num Number of objects, or -1 if unknown
+         * @param req Request of the next page or NULL
+         * @param uri URI of the last page or NULL
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Page(final URI home, final Iterator<P> objs, final int num,
+            final Request req, final URI uri) {
+            this.self = home;
+            this.objects = objs;
+            this.size = num;
+            this.next = req;
+            this.last = uri;
+        }
+
+        /**
+         * Objects of the page.
+         * @return Objects
+         */
+        Iterator<P> objects() {
+            return this.objects;
+        }
+
+        /**
+         * Number of objects.
+         * @return Number, or -1 if unknown
+         */
+        int size() {
+            return this.size;
+        }
+
+        /**
+         * Request of the next page.
+         * @return Request, or NULL if it's the last one
+         */
+        Request next() {
+            return this.next;
         }
-        final JsonArray arr = response.as(JsonResponse.class).json()
-            .readArray();
-        final Queue<P> list = new ArrayDeque<>();
-        for (final JsonValue value : arr) {
-            list.add((P) value);
+
+        /**
+         * URI of the last page.
+         * @return URI, or NULL if unknown
+         */
+        URI last() {
+            return this.last;
+        }
+
+        /**
+         * Empty page after this one, the last one.
+         * @return Page
+         */
+        Items.Page<P> end() {
+            return new Items.Page<>(
+                this.self, Collections.emptyIterator(), 0, null, null
+            );
+        }
+    }
+
+    /**
+     * Elements of a JSON array, parsed one by one.
+     *
+     * <p>Only the element returned last is kept as a tree, the rest of
+     * the page stays as bytes until it's needed.
+     *
+     * @param <P> Type of source object
+     * @since 2.0
+     */
+    private static final class Stream<P> implements Iterator<P> {
+
+        /**
+         * Parser.
+         */
+        private final transient JsonParser parser;
+
+        /**
+         * Repeated strings are shared.
+         */
+        private final transient boolean shared;
+
+        /**
+         * Element parsed ahead, or NULL.
+         */
+        private transient P ahead;
+
+        /**
+         * The end of the array is reached.
+         */
+        private transient boolean done;
+
+        /**
+         * Ctor.
+         * @param body Body of the page, a JSON array
+         * @param dedup Share repeated strings
+         */
+        Stream(final byte[] body, final boolean dedup) {
+            this.parser = Json.createParser(new ByteArrayInputStream(body));
+            this.shared = dedup;
+            if (!this.parser.hasNext()
+                || this.parser.next() != JsonParser.Event.START_ARRAY) {
+                throw new IllegalStateException(
+                    "JSON array expected in the page"
+                );
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean hasNext() {
+            if (this.ahead == null && !this.done) {
+                final JsonParser.Event event = this.parser.next();
+                if (event == JsonParser.Event.END_ARRAY) {
+                    this.done = true;
+                    this.parser.close();
+                } else if (this.shared) {
+                    this.ahead = (P) Dedup.SHARED.value(this.parser, event, 0);
+                } else {
+                    this.ahead = (P) this.parser.getValue();
+                }
+            }
+            return this.ahead != null;
+        }
+
+        @Override
+        public P next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("no more elements in page");
+            }
+            final P value = this.ahead;
+            this.ahead = null;
+            return value;
         }
-        this.objects = list;
     }
 }
@@ -0,0 +1,235 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.http.Request;
+import jakarta.json.JsonValue;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Spliterator of pages, which splits them at page boundaries.
+ *
+ * <p>When the first page has a {@code Link} with {@code rel="last"},
+ * the numbers of all pages are known, so a split gives away a half of
+ * the pages that are not fetched yet, and the estimated size is the
+ * number of pages left multiplied by the size of the first one. Without
+ * it, pages are walked by their "next" links and a split gives away only
+ * the page already fetched.
+ *
+ * @param <X> Type of custom object
+ * @param <P> Type of source object
+ * @since 2.0
+ */
+@ToString(of = { "low", "high", "request" })
+@EqualsAndHashCode(of = { "request", "last", "low", "high" })
+final class ItemsSpliterator<X, P extends JsonValue> implements
+    Spliterator<X> {
+
+    /**
+     * Mapping to use.
+     */
+    private final transient RtValuePagination.Mapping<X, P> mapping;
+
+    /**
+     * How to read pages.
+     */
+    private final transient Paging paging;
+
+    /**
+     * Objects of the current page.
+     */
+    private transient Iterator<P> objects;
+
+    /**
+     * Number of objects left in the current page.
+     */
+    private transient int left;
+
+    /**
+     * Request of the next page to walk to, or NULL.
+     */
+    private transient Request request;
+
+    /**
+     * Request to make requests of pages by numbers, or NULL.
+     */
+    private transient Request template;
+
+    /**
+     * URI of the last page, or NULL if unknown.
+     */
+    private transient URI last;
+
+    /**
+     * Number of the next page to fetch by number.
+     */
+    private transient int low;
+
+    /**
+     * Number of the last page to fetch by number.
+     */
+    private transient int high;
+
+    /**
+     * Number of objects in a page.
+     */
+    private transient int size;
+
+    /**
+     * The first page is fetched.
+     */
+    private transient boolean started;
+
+    /**
+     * Ctor.
+     * @param entry Request of the first page
+     * @param mpp Mapping
+     * @param pgn How to read pages, only sharing of strings matters
+     */
+    ItemsSpliterator(final Request entry,
+        final RtValuePagination.Mapping<X, P> mpp, final Paging pgn) {
+        this.mapping = mpp;
+        this.paging = pgn;
+        this.request = entry;
+        this.objects = Collections.emptyIterator();
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super X> action) {
+        this.start();
+        boolean found = true;
+        while (found && !this.objects.hasNext()) {
+            found = this.turn();
+        }
+        if (found) {
+            --this.left;
+            action.accept(this.mapping.map(this.objects.next()));
+        }
+        return found;
+    }
+
+    @Override
+    public Spliterator<X> trySplit() {
+        this.start();
+        ItemsSpliterator<X, P> prefix = null;
+        if (this.high - this.low >= 1) {
+            final int mid = this.low + (this.high - this.low + 1) / 2;
+            prefix = this.part(this.low, mid - 1);
+            this.low = mid;
+        } else if (this.objects.hasNext()
+            && (this.request != null || this.low <= this.high)) {
+            prefix = this.part(1, 0);
+        }
+        if (prefix != null) {
+            this.objects = Collections.emptyIterator();
+            this.left = 0;
+        }
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        this.start();
+        final long size;
+        if (this.request == null) {
+            size = Math.max(this.left, 0)
+                + (long) Math.max(this.high - this.low + 1, 0) * this.size;
+        } else {
+            size = Long.MAX_VALUE;
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL;
+    }
+
+    /**
+     * Make a spliterator of the current page and the given pages.
+     * @param first Number of the first page
+     * @param end Number of the last page
+     * @return Spliterator
+     */
+    private ItemsSpliterator<X, P> part(final int first, final int end) {
+        final ItemsSpliterator<X, P> part =
+            new ItemsSpliterator<>(null, this.mapping, this.paging);
+        part.started = true;
+        part.objects = this.objects;
+        part.left = this.left;
+        part.template = this.template;
+        part.last = this.last;
+        part.low = first;
+        part.high = end;
+        part.size = this.size;
+        return part;
+    }
+
+    /**
+     * Fetch the first page, if not yet.
+     */
+    private void start() {
+        if (!this.started) {
+            this.started = true;
+            final Items.Page<P> page = this.load(this.request);
+            this.request = page.next();
+            this.size = page.size();
+            if (this.request != null && page.last() != null) {
+                this.template = this.request;
+                this.last = page.last();
+                this.low = 2;
+                this.high = Items.number(this.last);
+                this.request = null;
+            }
+        }
+    }
+
+    /**
+     * Move to the next page.
+     * @return TRUE if there is one
+     */
+    private boolean turn() {
+        boolean found = false;
+        if (this.low <= this.high && this.template != null) {
+            this.load(
+                this.template.uri().set(
+                    this.template.uri().get().resolve(
+                        Items.page(this.last, this.low)
+                    )
+                ).back()
+            );
+            ++this.low;
+            found = true;
+        } else if (this.request != null) {
+            this.request = this.load(this.request).next();
+            found = true;
+        }
+        return found;
+    }
+
+    /**
+     * Fetch a page and make it current.
+     * @param req Request of the page
+     * @return Page
+     */
+    private Items.Page<P> load(final Request req) {
+        final Items.Page<P> page;
+        try {
+            page = Items.fetch(req, this.paging.streaming(false));
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        this.objects = page.objects();
+        this.left = page.size();
+        return page;
+    }
+}
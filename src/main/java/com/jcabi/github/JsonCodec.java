@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.aspects.Immutable;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import java.io.ByteArrayInputStream;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Reader of JSON bodies of GitHub responses.
+ *
+ * <p>{@link RtJson} reads objects and {@link RtValuePagination} reads
+ * pages with it, and mappings of paginations get elements it makes.
+ * By default it's {@link JsonCodec.Tree}, which builds the entire tree
+ * with the JSON provider. Another one is used everywhere if its class
+ * name is in the {@code jcabi.github.codec} system property, for example
+ * {@link LazyJson}:
+ *
+ * <pre> java -Djcabi.github.codec=com.jcabi.github.LazyJson ...</pre>
+ *
+ * <p>A pagination may use its own, see
+ * {@link RtValuePagination#decoding(JsonCodec)}.
+ *
+ * <p>Implementation must be immutable and thread-safe, and have a public
+ * constructor without arguments, to be named in the property.
+ *
+ * @since 2.0
+ */
+@Immutable
+public interface JsonCodec {
+
+    /**
+     * Read JSON object.
+     * @param body Body of a response, JSON in UTF-8
+     * @return JSON object
+     */
+    JsonObject object(byte[] body);
+
+    /**
+     * Read JSON array.
+     * @param body Body of a response, JSON in UTF-8
+     * @return JSON array
+     */
+    JsonArray array(byte[] body);
+
+    /**
+     * Codec, which builds the entire tree with the JSON provider.
+     * @since 2.0
+     */
+    @Immutable
+    @ToString
+    @EqualsAndHashCode
+    final class Tree implements JsonCodec {
+        @Override
+        public JsonObject object(final byte[] body) {
+            try (JsonReader reader = Json.createReader(
+                new ByteArrayInputStream(body)
+            )) {
+                return reader.readObject();
+            }
+        }
+
+        @Override
+        public JsonArray array(final byte[] body) {
+            try (JsonReader reader = Json.createReader(
+                new ByteArrayInputStream(body)
+            )) {
+                return reader.readArray();
+            }
+        }
+    }
+}
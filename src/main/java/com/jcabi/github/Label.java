@@ -43,7 +43,7 @@ public interface Label extends Comparable<Label>, JsonReadable, JsonPatchable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "label", "jsn" })
-    final class Smart implements Label {
+    final class Smart implements Label, Snapshottable<Label.Smart> {
 
         /**
          * Encapsulated label.
@@ -60,8 +60,22 @@ public interface Label extends Comparable<Label>, JsonReadable, JsonPatchable {
          * @param lbl Label
          */
         public Smart(final Label lbl) {
+            this(lbl, new SmartJson(lbl));
+        }
+
+        /**
+         * Ctor.
+         * @param lbl Label
+         * @param json SmartJson object
+         */
+        private Smart(final Label lbl, final SmartJson json) {
             this.label = lbl;
-            this.jsn = new SmartJson(lbl);
+            this.jsn = json;
+        }
+
+        @Override
+        public Label.Smart snapshot() throws IOException {
+            return new Label.Smart(this.label, this.jsn.snapshot());
         }
 
         /**
@@ -106,7 +120,7 @@ public interface Label extends Comparable<Label>, JsonReadable, JsonPatchable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.label.json();
+            return this.jsn.json();
         }
     }
 
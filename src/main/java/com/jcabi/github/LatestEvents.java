@@ -0,0 +1,194 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Latest events of issues by their types, remembered.
+ *
+ * <p>{@link Issue.Smart#latestEvent(String)} walks the events of an
+ * issue from the newest one back and stops at the first one of the type,
+ * every time it's called. This class keeps, for every issue it's asked
+ * about, the latest event of every type, and next time walks back only
+ * the events added since then, usually one or two pages:
+ *
+ * <pre> LatestEvents latest = new LatestEvents();
+ * for (Issue issue : repo.issues().iterate(params)) {
+ *   Event closed = latest.of(issue, Event.CLOSED);
+ * }</pre>
+ *
+ * <p>The first call for an issue walks all its events. Events keep JSON
+ * from their pages, so their types don't cost requests. The object is
+ * thread-safe and keeps the latest events of all issues until it's
+ * garbage collected.
+ *
+ * @since 2.0
+ */
+@EqualsAndHashCode(of = "issues")
+public final class LatestEvents {
+
+    /**
+     * Size of pages to walk back.
+     */
+    private static final int PAGE = 100;
+
+    /**
+     * Indices of issues, by repository coordinates and numbers.
+     */
+    private final transient ConcurrentMap<String, LatestEvents.Index> issues;
+
+    /**
+     * Ctor.
+     */
+    public LatestEvents() {
+        this.issues = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Get the latest event of the issue of the given type.
+     * Throws {@link IllegalStateException} if the issue has no events of
+     * the given type.
+     * @param issue Issue
+     * @param type Type of event
+     * @return Latest event of the given type
+     * @throws IOException If there is any I/O problem
+     */
+    public Event of(final Issue issue, final String type) throws IOException {
+        final LatestEvents.Index index = this.issues.computeIfAbsent(
+            String.format("%s#%d", issue.repo().coordinates(), issue.number()),
+            key -> new LatestEvents.Index()
+        );
+        final Event event;
+        synchronized (index) {
+            index.update(LatestEvents.backwards(issue));
+            event = index.get(type);
+        }
+        if (event == null) {
+            throw LatestEvents.absent(issue, type);
+        }
+        return event;
+    }
+
+    /**
+     * Find the latest event of the issue of the given type, stopping
+     * at the first one found from the newest one back.
+     * @param issue Issue
+     * @param type Type of event
+     * @return Latest event of the given type
+     * @throws IOException If there is any I/O problem
+     */
+    static Event find(final Issue issue, final String type)
+        throws IOException {
+        for (final Event event : LatestEvents.backwards(issue)) {
+            if (new Event.Smart(event).type().equals(type)) {
+                return event;
+            }
+        }
+        throw LatestEvents.absent(issue, type);
+    }
+
+    /**
+     * Events of the issue, from the newest one back.
+     *
+     * <p>Events from GitHub come from the last page back, with JSON of
+     * their pages. All others are sorted by their numbers.
+     *
+     * @param issue Issue
+     * @return Events
+     */
+    @SuppressWarnings("unchecked")
+    private static Iterable<Event> backwards(final Issue issue) {
+        final Iterable<Event> events = issue.events();
+        final Iterable<Event> back;
+        if (events instanceof RtPagination) {
+            back = ((RtPagination<Event>) events)
+                .perPage(LatestEvents.PAGE)
+                .backwards();
+        } else {
+            final List<Event> list = new ArrayList<>(0);
+            events.forEach(list::add);
+            list.sort(Comparator.comparingInt(Event::number).reversed());
+            back = list;
+        }
+        return back;
+    }
+
+    /**
+     * Error about an absent event.
+     * @param issue Issue
+     * @param type Type of event
+     * @return Error
+     */
+    private static IllegalStateException absent(final Issue issue,
+        final String type) {
+        return new IllegalStateException(
+            String.format(
+                "event of type '%s' not found in issue #%d",
+                type, issue.number()
+            )
+        );
+    }
+
+    /**
+     * Latest events of one issue.
+     * @since 2.0
+     */
+    private static final class Index {
+
+        /**
+         * Latest events by types.
+         */
+        private final transient Map<String, Event> latest;
+
+        /**
+         * The largest number of all events seen.
+         */
+        private transient int seen;
+
+        /**
+         * Ctor.
+         */
+        Index() {
+            this.latest = new HashMap<>(0);
+        }
+
+        /**
+         * Walk events back to the ones seen already.
+         * @param events Events, from the newest one back
+         * @throws IOException If there is any I/O problem
+         */
+        void update(final Iterable<Event> events) throws IOException {
+            final Map<String, Event> fresh = new HashMap<>(0);
+            int top = this.seen;
+            for (final Event event : events) {
+                if (event.number() <= this.seen) {
+                    break;
+                }
+                top = Math.max(top, event.number());
+                fresh.putIfAbsent(new Event.Smart(event).type(), event);
+            }
+            this.latest.putAll(fresh);
+            this.seen = top;
+        }
+
+        /**
+         * Latest event of the type.
+         * @param type Type of event
+         * @return Event, or NULL if there are none
+         */
+        Event get(final String type) {
+            return this.latest.get(type);
+        }
+    }
+}
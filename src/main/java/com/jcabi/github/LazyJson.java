@@ -0,0 +1,914 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.aspects.Immutable;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Codec, which doesn't build a tree, but reads JSON when it's needed.
+ *
+ * <p>Objects and arrays it makes keep the bytes of the response. The
+ * first time a field of an object is needed, the object finds where all
+ * its fields start, skipping their values, and then reads just the
+ * value needed. Nested objects and arrays are read the same way, only
+ * if they are needed. A mapping that takes a few fields of every element
+ * of a page, like most mappings of this library, doesn't build anything
+ * else.
+ *
+ * <p>Bodies must be valid JSON in UTF-8: errors are found only when the
+ * broken part is read, then {@link JsonException} is thrown.
+ *
+ * @since 2.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+public final class LazyJson implements JsonCodec {
+
+    /**
+     * Byte order mark of UTF-8.
+     */
+    private static final int BOM = 3;
+
+    @Override
+    public JsonObject object(final byte[] body) {
+        final int start = LazyJson.first(body);
+        if (LazyJson.at(body, start) != '{') {
+            throw LazyJson.unexpected(body, start);
+        }
+        return new LazyJson.Obj(body, start);
+    }
+
+    @Override
+    public JsonArray array(final byte[] body) {
+        final int start = LazyJson.first(body);
+        if (LazyJson.at(body, start) != '[') {
+            throw LazyJson.unexpected(body, start);
+        }
+        return new LazyJson.Arr(body, start);
+    }
+
+    /**
+     * Position of the first value in the body.
+     * @param src Body
+     * @return Position
+     */
+    private static int first(final byte[] src) {
+        int pos = 0;
+        if (src.length >= LazyJson.BOM && src[0] == (byte) 0xEF
+            && src[1] == (byte) 0xBB && src[2] == (byte) 0xBF) {
+            pos = LazyJson.BOM;
+        }
+        return LazyJson.blank(src, pos);
+    }
+
+    /**
+     * Read a value.
+     * @param src Body
+     * @param pos Position of the value
+     * @return Value
+     */
+    private static JsonValue value(final byte[] src, final int pos) {
+        final JsonValue value;
+        final byte head = LazyJson.at(src, pos);
+        if (head == '{') {
+            value = new LazyJson.Obj(src, pos);
+        } else if (head == '[') {
+            value = new LazyJson.Arr(src, pos);
+        } else if (head == '"') {
+            value = Json.createValue(LazyJson.text(src, pos));
+        } else {
+            value = LazyJson.scalar(src, pos, LazyJson.end(src, pos));
+        }
+        return value;
+    }
+
+    /**
+     * Read a number or a literal.
+     * @param src Body
+     * @param pos Position of the value
+     * @param end Position after the value
+     * @return Value
+     */
+    private static JsonValue scalar(final byte[] src, final int pos,
+        final int end) {
+        final String text = new String(
+            src, pos, end - pos, StandardCharsets.US_ASCII
+        );
+        final JsonValue value;
+        if ("true".equals(text)) {
+            value = JsonValue.TRUE;
+        } else if ("false".equals(text)) {
+            value = JsonValue.FALSE;
+        } else if ("null".equals(text)) {
+            value = JsonValue.NULL;
+        } else {
+            try {
+                if (text.length() < 19 && text.indexOf('.') < 0
+                    && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+                    value = Json.createValue(Long.parseLong(text));
+                } else {
+                    value = Json.createValue(new BigDecimal(text));
+                }
+            } catch (final NumberFormatException ex) {
+                throw new JsonException(
+                    String.format("Invalid value '%s' at %d", text, pos), ex
+                );
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Read a string.
+     * @param src Body
+     * @param pos Position of the opening quote
+     * @return String
+     */
+    private static String text(final byte[] src, final int pos) {
+        int idx = pos + 1;
+        byte chr = LazyJson.at(src, idx);
+        while (chr != '"' && chr != '\\') {
+            ++idx;
+            chr = LazyJson.at(src, idx);
+        }
+        final String text;
+        if (chr == '"') {
+            text = new String(
+                src, pos + 1, idx - pos - 1, StandardCharsets.UTF_8
+            );
+        } else {
+            text = LazyJson.escaped(src, pos + 1, idx);
+        }
+        return text;
+    }
+
+    /**
+     * Read a string with escaped characters.
+     * @param src Body
+     * @param start Position of the first character
+     * @param slash Position of the first backslash
+     * @return String
+     */
+    private static String escaped(final byte[] src, final int start,
+        final int slash) {
+        final StringBuilder out = new StringBuilder(slash - start + 16);
+        int run = start;
+        int idx = slash;
+        byte chr = LazyJson.at(src, idx);
+        while (chr != '"') {
+            if (chr == '\\') {
+                out.append(
+                    new String(src, run, idx - run, StandardCharsets.UTF_8)
+                );
+                final byte code = LazyJson.at(src, idx + 1);
+                idx += 2;
+                if (code == 'u') {
+                    LazyJson.at(src, idx + 3);
+                    try {
+                        out.append(
+                            (char) Integer.parseInt(
+                                new String(
+                                    src, idx, 4, StandardCharsets.US_ASCII
+                                ),
+                                16
+                            )
+                        );
+                    } catch (final NumberFormatException ex) {
+                        throw new JsonException(
+                            String.format("Invalid escape at %d", idx), ex
+                        );
+                    }
+                    idx += 4;
+                } else {
+                    out.append(LazyJson.unescape(code, idx));
+                }
+                run = idx;
+            } else {
+                ++idx;
+            }
+            chr = LazyJson.at(src, idx);
+        }
+        out.append(new String(src, run, idx - run, StandardCharsets.UTF_8));
+        return out.toString();
+    }
+
+    /**
+     * Character of a short escape sequence.
+     * @param code Character after the backslash
+     * @param pos Position after it
+     * @return Character
+     */
+    private static char unescape(final byte code, final int pos) {
+        final char chr;
+        switch (code) {
+            case 'b':
+                chr = '\b';
+                break;
+            case 'f':
+                chr = '\f';
+                break;
+            case 'n':
+                chr = '\n';
+                break;
+            case 'r':
+                chr = '\r';
+                break;
+            case 't':
+                chr = '\t';
+                break;
+            case '"':
+            case '\\':
+            case '/':
+                chr = (char) code;
+                break;
+            default:
+                throw new JsonException(
+                    String.format("Invalid escape at %d", pos - 1)
+                );
+        }
+        return chr;
+    }
+
+    /**
+     * Position after a value, which is skipped.
+     * @param src Body
+     * @param pos Position of the value
+     * @return Position after it
+     */
+    private static int end(final byte[] src, final int pos) {
+        final byte head = LazyJson.at(src, pos);
+        int idx = pos;
+        if (head == '"') {
+            idx = LazyJson.after(src, pos);
+        } else if (head == '{' || head == '[') {
+            int depth = 0;
+            do {
+                final byte chr = LazyJson.at(src, idx);
+                if (chr == '"') {
+                    idx = LazyJson.after(src, idx);
+                } else {
+                    if (chr == '{' || chr == '[') {
+                        ++depth;
+                    } else if (chr == '}' || chr == ']') {
+                        --depth;
+                    }
+                    ++idx;
+                }
+            } while (depth > 0);
+        } else {
+            while (idx < src.length && LazyJson.scalar(src[idx])) {
+                ++idx;
+            }
+            if (idx == pos) {
+                throw LazyJson.unexpected(src, pos);
+            }
+        }
+        return idx;
+    }
+
+    /**
+     * Position after a string, which is skipped.
+     * @param src Body
+     * @param pos Position of the opening quote
+     * @return Position after the closing quote
+     */
+    private static int after(final byte[] src, final int pos) {
+        int idx = pos + 1;
+        byte chr = LazyJson.at(src, idx);
+        while (chr != '"') {
+            if (chr == '\\') {
+                idx += 2;
+            } else {
+                ++idx;
+            }
+            chr = LazyJson.at(src, idx);
+        }
+        return idx + 1;
+    }
+
+    /**
+     * Can this character be in a number or a literal.
+     * @param chr Character
+     * @return TRUE if it can
+     */
+    private static boolean scalar(final byte chr) {
+        return chr >= '0' && chr <= '9' || chr >= 'a' && chr <= 'z'
+            || chr >= 'A' && chr <= 'Z' || chr == '-' || chr == '+'
+            || chr == '.';
+    }
+
+    /**
+     * Position of the first character, which is not a white space.
+     * @param src Body
+     * @param pos Position to start from
+     * @return Position
+     */
+    private static int blank(final byte[] src, final int pos) {
+        int idx = pos;
+        while (idx < src.length && (src[idx] == ' ' || src[idx] == '\n'
+            || src[idx] == '\r' || src[idx] == '\t')) {
+            ++idx;
+        }
+        return idx;
+    }
+
+    /**
+     * Character at the position.
+     * @param src Body
+     * @param pos Position
+     * @return Character
+     */
+    private static byte at(final byte[] src, final int pos) {
+        if (pos >= src.length) {
+            throw new JsonException(
+                String.format("Unexpected end of JSON at %d", pos)
+            );
+        }
+        return src[pos];
+    }
+
+    /**
+     * Error about an unexpected character.
+     * @param src Body
+     * @param pos Position of it
+     * @return Error
+     */
+    private static JsonException unexpected(final byte[] src, final int pos) {
+        return new JsonException(
+            String.format(
+                "Unexpected '%c' at %d", (char) LazyJson.at(src, pos), pos
+            )
+        );
+    }
+
+    /**
+     * Boolean value.
+     * @param value JSON value
+     * @return Boolean
+     */
+    private static boolean bool(final JsonValue value) {
+        if (value == null) {
+            throw new NullPointerException("No such value");
+        }
+        final boolean bool;
+        if (JsonValue.TRUE.equals(value)) {
+            bool = true;
+        } else if (JsonValue.FALSE.equals(value)) {
+            bool = false;
+        } else {
+            throw new ClassCastException(
+                String.format("Not a boolean: %s", value)
+            );
+        }
+        return bool;
+    }
+
+    /**
+     * Positions of the values of an object or an array, found when
+     * one of them is needed for the first time.
+     * @since 2.0
+     */
+    private static final class Index {
+
+        /**
+         * Body.
+         */
+        private final transient byte[] source;
+
+        /**
+         * Names of fields, or NULL for an array.
+         */
+        private final transient String[] keys;
+
+        /**
+         * Positions of values.
+         */
+        private final transient int[] starts;
+
+        /**
+         * Values read already.
+         */
+        private final transient JsonValue[] values;
+
+        /**
+         * Position after the closing bracket.
+         */
+        private final transient int finish;
+
+        /**
+         * Ctor.
+         * @param src Body
+         * @param names Names of fields, or NULL for an array
+         * @param positions Positions of values
+         * @param end Position after the closing bracket
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Index(final byte[] src, final String[] names, final int[] positions,
+            final int end) {
+            this.source = src;
+            this.keys = names;
+            this.starts = positions;
+            this.values = new JsonValue[positions.length];
+            this.finish = end;
+        }
+
+        /**
+         * Find all values of an object or an array.
+         * @param src Body
+         * @param start Position of the opening bracket
+         * @return Index
+         */
+        static LazyJson.Index of(final byte[] src, final int start) {
+            final boolean object = src[start] == '{';
+            final byte close;
+            if (object) {
+                close = '}';
+            } else {
+                close = ']';
+            }
+            String[] names = new String[16];
+            int[] positions = new int[16];
+            int count = 0;
+            int pos = LazyJson.blank(src, start + 1);
+            if (LazyJson.at(src, pos) != close) {
+                while (true) {
+                    if (count == positions.length) {
+                        names = Arrays.copyOf(names, count * 2);
+                        positions = Arrays.copyOf(positions, count * 2);
+                    }
+                    if (object) {
+                        pos = LazyJson.Index.key(src, pos, names, count);
+                    }
+                    positions[count] = pos;
+                    ++count;
+                    pos = LazyJson.blank(src, LazyJson.end(src, pos));
+                    if (LazyJson.at(src, pos) == close) {
+                        break;
+                    }
+                    if (src[pos] != ',') {
+                        throw LazyJson.unexpected(src, pos);
+                    }
+                    pos = LazyJson.blank(src, pos + 1);
+                }
+            }
+            String[] found = null;
+            if (object) {
+                found = Arrays.copyOf(names, count);
+            }
+            return new LazyJson.Index(
+                src, found, Arrays.copyOf(positions, count), pos + 1
+            );
+        }
+
+        /**
+         * Number of values.
+         * @return Number
+         */
+        int size() {
+            return this.starts.length;
+        }
+
+        /**
+         * Name of the field.
+         * @param idx Number of the field
+         * @return Name
+         */
+        String key(final int idx) {
+            return this.keys[idx];
+        }
+
+        /**
+         * Number of the field, the last one if there are a few.
+         * @param name Name of the field
+         * @return Number, or -1 if absent
+         */
+        int find(final Object name) {
+            int idx = this.keys.length - 1;
+            while (idx >= 0 && !this.keys[idx].equals(name)) {
+                --idx;
+            }
+            return idx;
+        }
+
+        /**
+         * Value, read when it's needed for the first time.
+         * @param idx Number of the value
+         * @return Value
+         */
+        JsonValue value(final int idx) {
+            JsonValue value = this.values[idx];
+            if (value == null) {
+                value = LazyJson.value(this.source, this.starts[idx]);
+                this.values[idx] = value;
+            }
+            return value;
+        }
+
+        /**
+         * Position after the closing bracket.
+         * @return Position
+         */
+        int end() {
+            return this.finish;
+        }
+
+        /**
+         * Read the name of a field.
+         * @param src Body
+         * @param pos Position of the name
+         * @param names Names to put it to
+         * @param num Number of the field
+         * @return Position of the value
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        private static int key(final byte[] src, final int pos,
+            final String[] names, final int num) {
+            if (LazyJson.at(src, pos) != '"') {
+                throw LazyJson.unexpected(src, pos);
+            }
+            names[num] = LazyJson.text(src, pos);
+            final int colon = LazyJson.blank(src, LazyJson.after(src, pos));
+            if (LazyJson.at(src, colon) != ':') {
+                throw LazyJson.unexpected(src, colon);
+            }
+            return LazyJson.blank(src, colon + 1);
+        }
+    }
+
+    /**
+     * JSON object.
+     * @since 2.0
+     */
+    private static final class Obj extends AbstractMap<String, JsonValue>
+        implements JsonObject {
+
+        /**
+         * Body.
+         */
+        private final transient byte[] source;
+
+        /**
+         * Position of the opening bracket.
+         */
+        private final transient int start;
+
+        /**
+         * Positions of the fields, or NULL if not found yet.
+         */
+        private transient volatile LazyJson.Index index;
+
+        /**
+         * Ctor.
+         * @param src Body
+         * @param pos Position of the opening bracket
+         */
+        Obj(final byte[] src, final int pos) {
+            super();
+            this.source = src;
+            this.start = pos;
+        }
+
+        @Override
+        public JsonValue get(final Object key) {
+            final LazyJson.Index idx = this.fields();
+            final int num = idx.find(key);
+            final JsonValue value;
+            if (num < 0) {
+                value = null;
+            } else {
+                value = idx.value(num);
+            }
+            return value;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return this.fields().find(key) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return this.fields().size();
+        }
+
+        @Override
+        public Set<Map.Entry<String, JsonValue>> entrySet() {
+            final LazyJson.Index idx = this.fields();
+            return new AbstractSet<Map.Entry<String, JsonValue>>() {
+                @Override
+                public Iterator<Map.Entry<String, JsonValue>> iterator() {
+                    return IntStream.range(0, idx.size())
+                        .<Map.Entry<String, JsonValue>>mapToObj(
+                            num -> new AbstractMap.SimpleImmutableEntry<>(
+                                idx.key(num), idx.value(num)
+                            )
+                        )
+                        .iterator();
+                }
+
+                @Override
+                public int size() {
+                    return idx.size();
+                }
+            };
+        }
+
+        @Override
+        public JsonArray getJsonArray(final String name) {
+            return JsonArray.class.cast(this.get(name));
+        }
+
+        @Override
+        public JsonObject getJsonObject(final String name) {
+            return JsonObject.class.cast(this.get(name));
+        }
+
+        @Override
+        public JsonNumber getJsonNumber(final String name) {
+            return JsonNumber.class.cast(this.get(name));
+        }
+
+        @Override
+        public JsonString getJsonString(final String name) {
+            return JsonString.class.cast(this.get(name));
+        }
+
+        @Override
+        public String getString(final String name) {
+            return this.getJsonString(name).getString();
+        }
+
+        @Override
+        public String getString(final String name, final String fallback) {
+            final JsonValue value = this.get(name);
+            final String text;
+            if (value instanceof JsonString) {
+                text = JsonString.class.cast(value).getString();
+            } else {
+                text = fallback;
+            }
+            return text;
+        }
+
+        @Override
+        public int getInt(final String name) {
+            return this.getJsonNumber(name).intValue();
+        }
+
+        @Override
+        public int getInt(final String name, final int fallback) {
+            final JsonValue value = this.get(name);
+            final int num;
+            if (value instanceof JsonNumber) {
+                num = JsonNumber.class.cast(value).intValue();
+            } else {
+                num = fallback;
+            }
+            return num;
+        }
+
+        @Override
+        public boolean getBoolean(final String name) {
+            return LazyJson.bool(this.get(name));
+        }
+
+        @Override
+        public boolean getBoolean(final String name, final boolean fallback) {
+            final JsonValue value = this.get(name);
+            final boolean bool;
+            if (JsonValue.TRUE.equals(value)) {
+                bool = true;
+            } else if (JsonValue.FALSE.equals(value)) {
+                bool = false;
+            } else {
+                bool = fallback;
+            }
+            return bool;
+        }
+
+        @Override
+        public boolean isNull(final String name) {
+            return this.get(name).equals(JsonValue.NULL);
+        }
+
+        @Override
+        public JsonValue.ValueType getValueType() {
+            return JsonValue.ValueType.OBJECT;
+        }
+
+        @Override
+        public String toString() {
+            return new String(
+                this.source, this.start, this.fields().end() - this.start,
+                StandardCharsets.UTF_8
+            );
+        }
+
+        /**
+         * Positions of the fields.
+         * @return Index
+         */
+        private LazyJson.Index fields() {
+            LazyJson.Index idx = this.index;
+            if (idx == null) {
+                idx = LazyJson.Index.of(this.source, this.start);
+                this.index = idx;
+            }
+            return idx;
+        }
+    }
+
+    /**
+     * JSON array.
+     * @since 2.0
+     */
+    private static final class Arr extends AbstractList<JsonValue>
+        implements JsonArray {
+
+        /**
+         * Body.
+         */
+        private final transient byte[] source;
+
+        /**
+         * Position of the opening bracket.
+         */
+        private final transient int start;
+
+        /**
+         * Positions of the elements, or NULL if not found yet.
+         */
+        private transient volatile LazyJson.Index index;
+
+        /**
+         * Ctor.
+         * @param src Body
+         * @param pos Position of the opening bracket
+         */
+        Arr(final byte[] src, final int pos) {
+            super();
+            this.source = src;
+            this.start = pos;
+        }
+
+        @Override
+        public JsonValue get(final int num) {
+            final LazyJson.Index idx = this.elements();
+            if (num < 0 || num >= idx.size()) {
+                throw new IndexOutOfBoundsException(
+                    String.format(
+                        "Index %d is out of %d elements", num, idx.size()
+                    )
+                );
+            }
+            return idx.value(num);
+        }
+
+        @Override
+        public int size() {
+            return this.elements().size();
+        }
+
+        @Override
+        public JsonObject getJsonObject(final int num) {
+            return JsonObject.class.cast(this.get(num));
+        }
+
+        @Override
+        public JsonArray getJsonArray(final int num) {
+            return JsonArray.class.cast(this.get(num));
+        }
+
+        @Override
+        public JsonNumber getJsonNumber(final int num) {
+            return JsonNumber.class.cast(this.get(num));
+        }
+
+        @Override
+        public JsonString getJsonString(final int num) {
+            return JsonString.class.cast(this.get(num));
+        }
+
+        @Override
+        public <T extends JsonValue> List<T> getValuesAs(final Class<T> type) {
+            final LazyJson.Arr array = this;
+            return new AbstractList<T>() {
+                @Override
+                public T get(final int num) {
+                    return type.cast(array.get(num));
+                }
+
+                @Override
+                public int size() {
+                    return array.size();
+                }
+            };
+        }
+
+        @Override
+        public String getString(final int num) {
+            return this.getJsonString(num).getString();
+        }
+
+        @Override
+        public String getString(final int num, final String fallback) {
+            final String text;
+            if (num >= 0 && num < this.size()
+                && this.get(num) instanceof JsonString) {
+                text = this.getString(num);
+            } else {
+                text = fallback;
+            }
+            return text;
+        }
+
+        @Override
+        public int getInt(final int num) {
+            return this.getJsonNumber(num).intValue();
+        }
+
+        @Override
+        public int getInt(final int num, final int fallback) {
+            final int value;
+            if (num >= 0 && num < this.size()
+                && this.get(num) instanceof JsonNumber) {
+                value = this.getInt(num);
+            } else {
+                value = fallback;
+            }
+            return value;
+        }
+
+        @Override
+        public boolean getBoolean(final int num) {
+            return LazyJson.bool(this.get(num));
+        }
+
+        @Override
+        public boolean getBoolean(final int num, final boolean fallback) {
+            final boolean bool;
+            if (num >= 0 && num < this.size()
+                && (JsonValue.TRUE.equals(this.get(num))
+                || JsonValue.FALSE.equals(this.get(num)))) {
+                bool = this.getBoolean(num);
+            } else {
+                bool = fallback;
+            }
+            return bool;
+        }
+
+        @Override
+        public boolean isNull(final int num) {
+            return this.get(num).equals(JsonValue.NULL);
+        }
+
+        @Override
+        public JsonValue.ValueType getValueType() {
+            return JsonValue.ValueType.ARRAY;
+        }
+
+        @Override
+        public String toString() {
+            return new String(
+                this.source, this.start, this.elements().end() - this.start,
+                StandardCharsets.UTF_8
+            );
+        }
+
+        /**
+         * Positions of the elements.
+         * @return Index
+         */
+        private LazyJson.Index elements() {
+            LazyJson.Index idx = this.index;
+            if (idx == null) {
+                idx = LazyJson.Index.of(this.source, this.start);
+                this.index = idx;
+            }
+            return idx;
+        }
+    }
+}
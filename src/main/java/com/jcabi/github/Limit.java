@@ -35,20 +35,40 @@ public interface Limit extends JsonReadable {
     @Immutable
     @ToString
     @Loggable(Loggable.DEBUG)
-    @EqualsAndHashCode(of = "origin")
-    final class Smart implements Limit {
+    @EqualsAndHashCode(of = { "origin", "jsn" })
+    final class Smart implements Limit, Snapshottable<Limit.Smart> {
 
         /**
          * Encapsulated limit.
          */
         private final transient Limit origin;
 
+        /**
+         * SmartJson object for convenient JSON parsing.
+         */
+        private final transient SmartJson jsn;
+
         /**
          * Public ctor.
          * @param limit Limit
          */
         public Smart(final Limit limit) {
+            this(limit, new SmartJson(limit));
+        }
+
+        /**
+         * Ctor.
+         * @param limit Limit
+         * @param json SmartJson object
+         */
+        private Smart(final Limit limit, final SmartJson json) {
             this.origin = limit;
+            this.jsn = json;
+        }
+
+        @Override
+        public Limit.Smart snapshot() throws IOException {
+            return new Limit.Smart(this.origin, this.jsn.snapshot());
         }
 
         /**
@@ -57,7 +77,7 @@ public interface Limit extends JsonReadable {
          * @throws IOException If it fails
          */
         public int limit() throws IOException {
-            return new SmartJson(this.origin).number("limit");
+            return this.jsn.number("limit");
         }
 
         /**
@@ -66,7 +86,7 @@ public interface Limit extends JsonReadable {
          * @throws IOException If it fails
          */
         public int remaining() throws IOException {
-            return new SmartJson(this.origin).number("remaining");
+            return this.jsn.number("remaining");
         }
 
         /**
@@ -77,7 +97,7 @@ public interface Limit extends JsonReadable {
         public Instant reset() throws IOException {
             return Instant.ofEpochMilli(
                 TimeUnit.MILLISECONDS.convert(
-                    (long) new SmartJson(this.origin).number("reset"),
+                    (long) this.jsn.number("reset"),
                     TimeUnit.SECONDS
                 )
             );
@@ -85,7 +105,7 @@ public interface Limit extends JsonReadable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.origin.json();
+            return this.jsn.json();
         }
 
         @Override
@@ -66,7 +66,7 @@ public interface Milestone extends Comparable<Milestone>,
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "milestone", "jsn" })
-    final class Smart implements Milestone {
+    final class Smart implements Milestone, Snapshottable<Milestone.Smart> {
 
         /**
          * Name of mailestone state attribute.
@@ -103,8 +103,22 @@ public interface Milestone extends Comparable<Milestone>,
          * @param mls Issue
          */
         public Smart(final Milestone mls) {
+            this(mls, new SmartJson(mls));
+        }
+
+        /**
+         * Ctor.
+         * @param mls Issue
+         * @param json SmartJson object
+         */
+        private Smart(final Milestone mls, final SmartJson json) {
             this.milestone = mls;
-            this.jsn = new SmartJson(mls);
+            this.jsn = json;
+        }
+
+        @Override
+        public Milestone.Smart snapshot() throws IOException {
+            return new Milestone.Smart(this.milestone, this.jsn.snapshot());
         }
 
         /**
@@ -305,7 +319,7 @@ public interface Milestone extends Comparable<Milestone>,
 
         @Override
         public JsonObject json() throws IOException {
-            return this.milestone.json();
+            return this.jsn.json();
         }
 
         @Override
@@ -61,7 +61,8 @@ public interface Organization extends Comparable<Organization>,
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "org", "jsn" })
-    final class Smart implements Organization {
+    final class Smart
+        implements Organization, Snapshottable<Organization.Smart> {
 
         /**
          * Encapsulated org.
@@ -78,8 +79,22 @@ public interface Organization extends Comparable<Organization>,
          * @param orgn Organization
          */
         public Smart(final Organization orgn) {
+            this(orgn, new SmartJson(orgn));
+        }
+
+        /**
+         * Ctor.
+         * @param orgn Organization
+         * @param json SmartJson object
+         */
+        private Smart(final Organization orgn, final SmartJson json) {
             this.org = orgn;
-            this.jsn = new SmartJson(orgn);
+            this.jsn = json;
+        }
+
+        @Override
+        public Organization.Smart snapshot() throws IOException {
+            return new Organization.Smart(this.org, this.jsn.snapshot());
         }
 
         /**
@@ -88,7 +103,7 @@ public interface Organization extends Comparable<Organization>,
          * @throws IOException If it fails
          */
         public int number() throws IOException {
-            return this.org.json().getJsonNumber("id").intValue();
+            return this.jsn.json().getJsonNumber("id").intValue();
         }
 
         /**
@@ -315,7 +330,7 @@ public interface Organization extends Comparable<Organization>,
 
         @Override
         public JsonObject json() throws IOException {
-            return this.org.json();
+            return this.jsn.json();
         }
 
         @Override
@@ -0,0 +1,369 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.aspects.Immutable;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * How {@link Items} fetches pages.
+ *
+ * <p>Zero in any number means "no limit" or "GitHub's default".
+ *
+ * @since 2.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(
+    of = {
+        "ahead", "threads", "ordered", "stream",
+        "size", "items", "pages", "budget", "dedup", "codec"
+    }
+)
+@SuppressWarnings("PMD.TooManyMethods")
+final class Paging {
+
+    /**
+     * The largest page GitHub can return.
+     */
+    private static final int MAX_SIZE = 100;
+
+    /**
+     * How many pages to prefetch.
+     */
+    private final transient int ahead;
+
+    /**
+     * How many pages to fetch at the same time, if the last one is known.
+     */
+    private final transient int threads;
+
+    /**
+     * Pages fetched in parallel come out in order.
+     */
+    private final transient boolean ordered;
+
+    /**
+     * Elements of pages are parsed one by one.
+     */
+    private final transient boolean stream;
+
+    /**
+     * Number of elements in a page.
+     */
+    private final transient int size;
+
+    /**
+     * Maximum number of elements.
+     */
+    private final transient int items;
+
+    /**
+     * Maximum number of pages.
+     */
+    private final transient int pages;
+
+    /**
+     * Time to fetch pages, in milliseconds.
+     */
+    private final transient long budget;
+
+    /**
+     * Repeated strings of pages are shared.
+     */
+    private final transient boolean dedup;
+
+    /**
+     * Reader of pages.
+     */
+    private final transient JsonCodec codec;
+
+    /**
+     * Ctor, to fetch pages one by one, on demand.
+     */
+    Paging() {
+        this(0, 0, true, false, 0, 0, 0, 0L, false, RtJson.CODEC);
+    }
+
+    /**
+     * Ctor.
+     * @param depth How many pages to prefetch
+     * @param parallel How many pages to fetch at the same time
+     * @param order Pages fetched in parallel come out in order
+     * @param streamed Elements of pages are parsed one by one
+     * @param per Number of elements in a page
+     * @param max Maximum number of elements
+     * @param cap Maximum number of pages
+     * @param millis Time to fetch pages, in milliseconds
+     * @param shared Repeated strings of pages are shared
+     * @param reader Reader of pages
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Paging(final int depth, final int parallel, final boolean order,
+        final boolean streamed, final int per, final int max, final int cap,
+        final long millis, final boolean shared, final JsonCodec reader) {
+        this.ahead = depth;
+        this.threads = parallel;
+        this.ordered = order;
+        this.stream = streamed;
+        this.size = per;
+        this.items = max;
+        this.pages = cap;
+        this.budget = millis;
+        this.dedup = shared;
+        this.codec = reader;
+    }
+
+    /**
+     * Prefetch next pages in background.
+     * @param depth How many pages to prefetch, zero to fetch on demand
+     * @return New paging
+     */
+    Paging prefetching(final int depth) {
+        Paging.positive("Prefetch depth", depth);
+        return new Paging(
+            depth, this.threads, this.ordered, this.stream,
+            this.size, this.items, this.pages, this.budget, this.dedup,
+            this.codec
+        );
+    }
+
+    /**
+     * Fetch pages in parallel, if the first one tells the last one.
+     * @param parallel How many pages to fetch at the same time, zero
+     *  to walk "next" links one by one
+     * @param order Pages must come out in order
+     * @return New paging
+     */
+    Paging parallel(final int parallel, final boolean order) {
+        Paging.positive("Parallelism", parallel);
+        return new Paging(
+            this.ahead, parallel, order, this.stream,
+            this.size, this.items, this.pages, this.budget, this.dedup,
+            this.codec
+        );
+    }
+
+    /**
+     * Parse elements of pages one by one, instead of whole pages.
+     * @param streamed TRUE to parse them one by one
+     * @return New paging
+     */
+    Paging streaming(final boolean streamed) {
+        return new Paging(
+            this.ahead, this.threads, this.ordered, streamed,
+            this.size, this.items, this.pages, this.budget, this.dedup,
+            this.codec
+        );
+    }
+
+    /**
+     * Share repeated strings of pages, like logins, states and URLs.
+     * @param shared TRUE to share them
+     * @return New paging
+     * @see Dedup
+     */
+    Paging deduplicating(final boolean shared) {
+        return new Paging(
+            this.ahead, this.threads, this.ordered, this.stream,
+            this.size, this.items, this.pages, this.budget, shared,
+            this.codec
+        );
+    }
+
+    /**
+     * Read pages with this codec.
+     * @param reader Codec
+     * @return New paging
+     */
+    Paging decoding(final JsonCodec reader) {
+        return new Paging(
+            this.ahead, this.threads, this.ordered, this.stream,
+            this.size, this.items, this.pages, this.budget, this.dedup,
+            reader
+        );
+    }
+
+    /**
+     * Ask for pages of this size.
+     * @param per Number of elements in a page, from 1 to 100, or zero
+     *  for GitHub's default
+     * @return New paging
+     */
+    Paging sized(final int per) {
+        Paging.positive("Page size", per);
+        if (per > Paging.MAX_SIZE) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Page size can't be over %d: %d", Paging.MAX_SIZE, per
+                )
+            );
+        }
+        return new Paging(
+            this.ahead, this.threads, this.ordered, this.stream,
+            per, this.items, this.pages, this.budget, this.dedup,
+            this.codec
+        );
+    }
+
+    /**
+     * Stop after this number of elements.
+     * @param max Maximum number of elements, zero for no limit
+     * @return New paging
+     */
+    Paging limited(final int max) {
+        Paging.positive("Limit of elements", max);
+        return new Paging(
+            this.ahead, this.threads, this.ordered, this.stream,
+            this.size, max, this.pages, this.budget, this.dedup,
+            this.codec
+        );
+    }
+
+    /**
+     * Stop after this number of pages.
+     * @param cap Maximum number of pages, zero for no limit
+     * @return New paging
+     */
+    Paging capped(final int cap) {
+        Paging.positive("Limit of pages", cap);
+        return new Paging(
+            this.ahead, this.threads, this.ordered, this.stream,
+            this.size, this.items, cap, this.budget, this.dedup,
+            this.codec
+        );
+    }
+
+    /**
+     * Don't fetch more pages after this time since the first one.
+     * @param time Time, zero for no limit
+     * @param unit Unit of time
+     * @return New paging
+     */
+    Paging timed(final long time, final TimeUnit unit) {
+        if (time < 0L) {
+            throw new IllegalArgumentException(
+                String.format("Time budget can't be negative: %d", time)
+            );
+        }
+        return new Paging(
+            this.ahead, this.threads, this.ordered, this.stream,
+            this.size, this.items, this.pages, unit.toMillis(time),
+            this.dedup, this.codec
+        );
+    }
+
+    /**
+     * How many pages to prefetch.
+     * @return Number of pages, zero if none
+     */
+    int depth() {
+        return this.ahead;
+    }
+
+    /**
+     * How many pages to fetch at the same time.
+     * @return Number of pages, zero if they are fetched one by one
+     */
+    int parallelism() {
+        return this.threads;
+    }
+
+    /**
+     * Pages fetched in parallel come out in order.
+     * @return TRUE if so
+     */
+    boolean ordered() {
+        return this.ordered;
+    }
+
+    /**
+     * Elements of pages are parsed one by one.
+     * @return TRUE if so
+     */
+    boolean streams() {
+        return this.stream;
+    }
+
+    /**
+     * Repeated strings of pages are shared.
+     * @return TRUE if so
+     */
+    boolean dedups() {
+        return this.dedup;
+    }
+
+    /**
+     * Reader of pages.
+     * @return Codec
+     */
+    JsonCodec codec() {
+        return this.codec;
+    }
+
+    /**
+     * Number of elements to ask for in a page.
+     *
+     * <p>If it's not set, but the number of elements is limited, pages
+     * are as large as needed to get all of them at once, if possible.
+     *
+     * @return Number of elements, zero for GitHub's default
+     */
+    int perPage() {
+        int per = this.size;
+        if (per == 0 && this.items > 0) {
+            per = Math.min(this.items, Paging.MAX_SIZE);
+        }
+        return per;
+    }
+
+    /**
+     * Maximum number of elements.
+     * @return Number of elements, zero if unlimited
+     */
+    int limit() {
+        return this.items;
+    }
+
+    /**
+     * Maximum number of pages to fetch, which includes the pages needed
+     * to get the limited number of elements.
+     * @return Number of pages, zero if unlimited
+     */
+    int maxPages() {
+        int cap = this.pages;
+        final int per = this.perPage();
+        if (this.items > 0 && per > 0) {
+            final int needed = (this.items + per - 1) / per;
+            if (cap == 0 || needed < cap) {
+                cap = needed;
+            }
+        }
+        return cap;
+    }
+
+    /**
+     * Time to fetch pages.
+     * @return Milliseconds, zero if unlimited
+     */
+    long budget() {
+        return this.budget;
+    }
+
+    /**
+     * Make sure the number is not negative.
+     * @param what What is it
+     * @param num The number
+     */
+    private static void positive(final String what, final int num) {
+        if (num < 0) {
+            throw new IllegalArgumentException(
+                String.format("%s can't be negative: %d", what, num)
+            );
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Items mapped in parallel.
+ *
+ * <p>This class should be used as a decorator for an iterable of objects
+ * obtained from GitHub, when every one of them needs one or more extra
+ * HTTP requests, for example:
+ *
+ * <pre> Iterable&lt;String&gt; titles = new Parallel&lt;&gt;(
+ *   repo.issues().iterate(new HashMap&lt;String, String&gt;()),
+ *   16,
+ *   issue -&gt; new Issue.Smart(issue).title()
+ * );</pre>
+ *
+ * <p>No more than the given number of tasks of one iterator run at the
+ * same time, on virtual threads if the JVM has them, or on daemon platform
+ * threads otherwise, which all iterators share and which stop when they
+ * are idle for a minute. Thus, an iterator, which is abandoned before its
+ * end, leaks nothing: the tasks it submitted already just finish.
+ *
+ * <p>Results come out in the order of the original items. If a task fails,
+ * the remaining tasks are cancelled and the failure is thrown from
+ * {@link Iterator#next()}, wrapped into {@link IllegalStateException}.
+ * Since results come out in order, the failure is thrown when its result
+ * is due, after the results of all items before it, even if it happened
+ * before they were ready. If the order doesn't matter,
+ * {@link #unordered()} makes results, and failures, come out as soon as
+ * they are ready.
+ *
+ * <p>The number of parallel tasks is the number of requests in flight,
+ * so it should be chosen with the rate limit in mind: use
+ * {@link com.jcabi.github.wire.GovernedWire} to spread the requests
+ * over the time left until the limit is reset.
+ *
+ * @param <T> Type of original items
+ * @param <R> Type of results
+ * @since 2.0
+ */
+@EqualsAndHashCode(of = { "origin", "limit", "ordered" })
+public final class Parallel<T, R> implements Iterable<R> {
+
+    /**
+     * Threads shared by all iterators.
+     */
+    private static final ExecutorService THREADS = Parallel.threads();
+
+    /**
+     * Original items.
+     */
+    private final transient Iterable<T> origin;
+
+    /**
+     * Maximum number of tasks running at the same time.
+     */
+    private final transient int limit;
+
+    /**
+     * Task to run for every item.
+     */
+    private final transient Parallel.Task<T, R> task;
+
+    /**
+     * Results come out in the order of items.
+     */
+    private final transient boolean ordered;
+
+    /**
+     * Public ctor.
+     * @param items Original items
+     * @param max Maximum number of tasks running at the same time
+     * @param tsk Task to run for every item
+     */
+    public Parallel(final Iterable<T> items, final int max,
+        final Parallel.Task<T, R> tsk) {
+        this(items, max, tsk, true);
+    }
+
+    /**
+     * Ctor.
+     * @param items Original items
+     * @param max Maximum number of tasks running at the same time
+     * @param tsk Task to run for every item
+     * @param order Results come out in the order of items
+     */
+    private Parallel(final Iterable<T> items, final int max,
+        final Parallel.Task<T, R> tsk, final boolean order) {
+        if (max < 1) {
+            throw new IllegalArgumentException(
+                String.format("Limit must be positive: %d", max)
+            );
+        }
+        this.origin = items;
+        this.limit = max;
+        this.task = tsk;
+        this.ordered = order;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Iterator<R> iterator() {
+        return new Parallel.Results<>(
+            this.origin.iterator(), this.limit, this.task, this.ordered
+        );
+    }
+
+    /**
+     * The same items, with results coming out in the order they are ready.
+     * @return Parallel items
+     */
+    public Parallel<T, R> unordered() {
+        return new Parallel<>(this.origin, this.limit, this.task, false);
+    }
+
+    /**
+     * Make an executor with a thread per task, virtual if possible.
+     * @return Executor
+     */
+    private static ExecutorService threads() {
+        ExecutorService threads;
+        try {
+            threads = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            threads = Executors.newCachedThreadPool(
+                runnable -> {
+                    final Thread thread = new Thread(
+                        runnable, "jcabi-github-parallel"
+                    );
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        }
+        return threads;
+    }
+
+    /**
+     * Task, which maps one item to a result.
+     * @param <T> Type of item
+     * @param <R> Type of result
+     * @since 2.0
+     */
+    @FunctionalInterface
+    public interface Task<T, R> {
+
+        /**
+         * Map the item.
+         * @param item The item
+         * @return Result
+         * @throws IOException If fails
+         */
+        R apply(T item) throws IOException;
+    }
+
+    /**
+     * Iterator of results.
+     * @param <T> Type of original items
+     * @param <R> Type of results
+     * @since 2.0
+     */
+    private static final class Results<T, R> implements Iterator<R> {
+
+        /**
+         * Original items.
+         */
+        private final transient Iterator<T> items;
+
+        /**
+         * Maximum number of tasks running at the same time.
+         */
+        private final transient int limit;
+
+        /**
+         * Task to run for every item.
+         */
+        private final transient Parallel.Task<T, R> task;
+
+        /**
+         * Tasks submitted, in order of items.
+         */
+        private final transient Queue<Future<R>> window;
+
+        /**
+         * Results come out in the order of items.
+         */
+        private final transient boolean ordered;
+
+        /**
+         * Finished tasks, or NULL if not started yet.
+         */
+        private transient CompletionService<R> done;
+
+        /**
+         * Ctor.
+         * @param src Original items
+         * @param max Maximum number of tasks running at the same time
+         * @param tsk Task to run for every item
+         * @param order Results come out in the order of items
+         */
+        Results(final Iterator<T> src, final int max,
+            final Parallel.Task<T, R> tsk, final boolean order) {
+            this.items = src;
+            this.limit = max;
+            this.task = tsk;
+            this.ordered = order;
+            this.window = new ArrayDeque<>(max);
+        }
+
+        @Override
+        public boolean hasNext() {
+            this.fill();
+            return !this.window.isEmpty();
+        }
+
+        @Override
+        public R next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException(
+                    "no more results, use #hasNext()"
+                );
+            }
+            try {
+                final Future<R> head;
+                if (this.ordered) {
+                    head = this.window.remove();
+                } else {
+                    head = this.done.take();
+                    this.window.remove(head);
+                }
+                final R result = head.get();
+                this.fill();
+                return result;
+            } catch (final InterruptedException ex) {
+                this.stop();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            } catch (final ExecutionException ex) {
+                this.stop();
+                throw new IllegalStateException(ex.getCause());
+            }
+        }
+
+        /**
+         * Submit more tasks, until the window is full.
+         */
+        private void fill() {
+            while (this.window.size() < this.limit && this.items.hasNext()) {
+                final T item = this.items.next();
+                final Callable<R> call = () -> this.task.apply(item);
+                if (this.ordered) {
+                    this.window.add(Parallel.THREADS.submit(call));
+                } else {
+                    this.window.add(this.completion().submit(call));
+                }
+            }
+        }
+
+        /**
+         * Cancel all tasks.
+         */
+        private void stop() {
+            for (final Future<R> future : this.window) {
+                future.cancel(true);
+            }
+            this.window.clear();
+        }
+
+        /**
+         * Get the finished tasks, if results are unordered.
+         * @return Completion service
+         */
+        private CompletionService<R> completion() {
+            if (this.done == null) {
+                this.done = new ExecutorCompletionService<>(Parallel.THREADS);
+            }
+            return this.done;
+        }
+    }
+}
@@ -0,0 +1,405 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.aspects.Immutable;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Projection of JSON objects to a few of their fields.
+ *
+ * <p>Use it when you need just a few fields of many objects, and don't
+ * want to keep their entire JSON in memory:
+ *
+ * <pre> Iterable&lt;Projection.Row&gt; rows = new Bulk&lt;&gt;(
+ *   repo.issues().iterate(new HashMap&lt;&gt;())
+ * ).projected("number", "state", "title", "user.login", "updated_at");
+ * for (Projection.Row row : rows) {
+ *   System.out.println(row.text("user.login"));
+ * }</pre>
+ *
+ * <p>Every row keeps only the fields projected: integral numbers and
+ * booleans as primitives, strings as they are, except values that
+ * repeat a lot, like logins and states, which are shared through
+ * a bounded pool. JSON of a page is not
+ * referenced after its elements are projected. With
+ * {@link RtPagination#streaming()} even a page is never kept
+ * as a tree in memory.
+ *
+ * <p>A field of a nested object is named with a dot, like
+ * {@code user.login}. Decimal numbers, nested objects and arrays
+ * are kept as JSON values.
+ *
+ * @since 2.0
+ */
+@Immutable
+@EqualsAndHashCode(of = "fields")
+public final class Projection implements
+    RtValuePagination.Mapping<Projection.Row, JsonObject> {
+
+    /**
+     * Maximum number of fields.
+     */
+    private static final int MAX = Long.SIZE;
+
+    /**
+     * Names of fields.
+     */
+    @Immutable.Array
+    private final transient String[] fields;
+
+    /**
+     * Ctor.
+     * @param names Names of fields, nested ones with dots
+     */
+    public Projection(final String... names) {
+        if (names.length > Projection.MAX) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Can't project more than %d fields: %d",
+                    Projection.MAX, names.length
+                )
+            );
+        }
+        this.fields = names.clone();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.fields);
+    }
+
+    @Override
+    public Projection.Row map(final JsonObject json) {
+        final String[] texts = new String[this.fields.length];
+        final long[] numbers = new long[this.fields.length];
+        final JsonValue[] trees = new JsonValue[this.fields.length];
+        boolean kept = false;
+        long present = 0L;
+        long bools = 0L;
+        for (int idx = 0; idx < this.fields.length; ++idx) {
+            final JsonValue value = Projection.find(json, this.fields[idx]);
+            final long bit = 1L << idx;
+            switch (value.getValueType()) {
+                case STRING:
+                    texts[idx] = this.text(idx, value);
+                    present |= bit;
+                    break;
+                case NUMBER:
+                    if (JsonNumber.class.cast(value).isIntegral()) {
+                        numbers[idx] = JsonNumber.class.cast(value).longValue();
+                    } else {
+                        trees[idx] = value;
+                        kept = true;
+                    }
+                    present |= bit;
+                    break;
+                case TRUE:
+                    numbers[idx] = 1L;
+                    bools |= bit;
+                    present |= bit;
+                    break;
+                case FALSE:
+                    bools |= bit;
+                    present |= bit;
+                    break;
+                case NULL:
+                    break;
+                default:
+                    trees[idx] = value;
+                    kept = true;
+                    present |= bit;
+                    break;
+            }
+        }
+        JsonArray values = JsonValue.EMPTY_JSON_ARRAY;
+        if (kept) {
+            final JsonArrayBuilder array = Json.createArrayBuilder();
+            for (final JsonValue tree : trees) {
+                if (tree == null) {
+                    array.addNull();
+                } else {
+                    array.add(tree);
+                }
+            }
+            values = array.build();
+        }
+        return new Projection.Row(
+            this, texts, numbers, values, present, bools
+        );
+    }
+
+    /**
+     * String of the field, taken from the pool if it's likely to repeat.
+     * @param idx Position of the field
+     * @param value JSON string
+     * @return String
+     */
+    private String text(final int idx, final JsonValue value) {
+        final String text = JsonString.class.cast(value).getString();
+        final String[] parts = this.fields[idx].split("\\.");
+        final String result;
+        if (Dedup.repeats(parts[parts.length - 1], parts.length - 1)) {
+            result = Dedup.SHARED.intern(text);
+        } else {
+            result = text;
+        }
+        return result;
+    }
+
+    /**
+     * Position of the field.
+     * @param name Name of the field
+     * @return Position
+     */
+    private int position(final String name) {
+        for (int idx = 0; idx < this.fields.length; ++idx) {
+            if (this.fields[idx].equals(name)) {
+                return idx;
+            }
+        }
+        throw new IllegalArgumentException(
+            String.format(
+                "'%s' is not projected, only these are: %s",
+                name, this
+            )
+        );
+    }
+
+    /**
+     * Find a field, maybe nested, in JSON.
+     * @param json JSON object
+     * @param name Name of the field, with dots
+     * @return Value or NULL value if absent
+     */
+    private static JsonValue find(final JsonObject json, final String name) {
+        JsonValue value = json;
+        for (final String part : name.split("\\.")) {
+            if (value.getValueType() == JsonValue.ValueType.OBJECT
+                && value.asJsonObject().containsKey(part)) {
+                value = value.asJsonObject().get(part);
+            } else {
+                value = JsonValue.NULL;
+                break;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Projected fields of one object.
+     * @since 2.0
+     */
+    @Immutable
+    @EqualsAndHashCode(
+        of = { "projection", "texts", "numbers", "trees", "present", "bools" }
+    )
+    public static final class Row implements JsonReadable {
+
+        /**
+         * Projection.
+         */
+        private final transient Projection projection;
+
+        /**
+         * Strings, by position.
+         */
+        @Immutable.Array
+        private final transient String[] texts;
+
+        /**
+         * Integral numbers and booleans, by position.
+         */
+        @Immutable.Array
+        private final transient long[] numbers;
+
+        /**
+         * Decimal numbers, objects and arrays, by position, with NULL
+         * for other fields, or empty if there are none.
+         */
+        private final transient JsonArray trees;
+
+        /**
+         * Bits of fields, which are present and not NULL.
+         */
+        private final transient long present;
+
+        /**
+         * Bits of fields, which are booleans.
+         */
+        private final transient long bools;
+
+        /**
+         * Ctor.
+         * @param prj Projection
+         * @param txts Texts
+         * @param nums Numbers
+         * @param trs Decimal numbers, objects and arrays
+         * @param prsnt Bits of present fields
+         * @param bls Bits of boolean fields
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Row(final Projection prj, final String[] txts, final long[] nums,
+            final JsonArray trs, final long prsnt, final long bls) {
+            this.projection = prj;
+            this.texts = txts;
+            this.numbers = nums;
+            this.trees = trs;
+            this.present = prsnt;
+            this.bools = bls;
+        }
+
+        @Override
+        public String toString() {
+            return this.json().toString();
+        }
+
+        /**
+         * Is the field present and not NULL.
+         * @param name Name of the field
+         * @return TRUE if it is
+         */
+        public boolean has(final String name) {
+            return (this.present & 1L << this.projection.position(name)) != 0L;
+        }
+
+        /**
+         * Get the field as a string, or JSON text of a decimal number,
+         * an object or an array.
+         * @param name Name of the field
+         * @return Value
+         */
+        public String text(final String name) {
+            final int idx = this.value(name);
+            final String text;
+            if (this.texts[idx] != null) {
+                text = this.texts[idx];
+            } else if (this.tree(idx) != null) {
+                text = this.tree(idx).toString();
+            } else {
+                throw new IllegalStateException(
+                    String.format("'%s' is not a string", name)
+                );
+            }
+            return text;
+        }
+
+        /**
+         * Get the field as JSON, whatever it is.
+         * @param name Name of the field
+         * @return Value, which is NULL if the field is absent
+         */
+        public JsonValue get(final String name) {
+            final int idx = this.projection.position(name);
+            final JsonValue value;
+            if ((this.present & 1L << idx) == 0L) {
+                value = JsonValue.NULL;
+            } else if (this.tree(idx) != null) {
+                value = this.tree(idx);
+            } else if (this.bool(idx) && this.numbers[idx] != 0L) {
+                value = JsonValue.TRUE;
+            } else if (this.bool(idx)) {
+                value = JsonValue.FALSE;
+            } else if (this.texts[idx] == null) {
+                value = Json.createValue(this.numbers[idx]);
+            } else {
+                value = Json.createValue(this.texts[idx]);
+            }
+            return value;
+        }
+
+        /**
+         * Get the field as an integral number.
+         * @param name Name of the field
+         * @return Value
+         */
+        public long number(final String name) {
+            final int idx = this.value(name);
+            if (this.texts[idx] != null || this.bool(idx)
+                || this.tree(idx) != null) {
+                throw new IllegalStateException(
+                    String.format("'%s' is not an integral number", name)
+                );
+            }
+            return this.numbers[idx];
+        }
+
+        /**
+         * Get the field as a boolean.
+         * @param name Name of the field
+         * @return Value
+         */
+        public boolean flag(final String name) {
+            final int idx = this.value(name);
+            if (!this.bool(idx)) {
+                throw new IllegalStateException(
+                    String.format("'%s' is not a boolean", name)
+                );
+            }
+            return this.numbers[idx] != 0L;
+        }
+
+        /**
+         * JSON object with projected fields, named as in the projection.
+         * @return JSON
+         */
+        @Override
+        public JsonObject json() {
+            final JsonObjectBuilder builder = Json.createObjectBuilder();
+            for (final String name : this.projection.fields) {
+                builder.add(name, this.get(name));
+            }
+            return builder.build();
+        }
+
+        /**
+         * Position of a present field.
+         * @param name Name of the field
+         * @return Position
+         */
+        private int value(final String name) {
+            final int idx = this.projection.position(name);
+            if ((this.present & 1L << idx) == 0L) {
+                throw new IllegalStateException(
+                    String.format("'%s' is absent or NULL", name)
+                );
+            }
+            return idx;
+        }
+
+        /**
+         * Decimal number, object or array at this position.
+         * @param idx Position
+         * @return Value or NULL if it's not one of them
+         */
+        private JsonValue tree(final int idx) {
+            JsonValue value = null;
+            if (idx < this.trees.size()
+                && this.trees.get(idx).getValueType()
+                != JsonValue.ValueType.NULL) {
+                value = this.trees.get(idx);
+            }
+            return value;
+        }
+
+        /**
+         * Is the field at this position a boolean.
+         * @param idx Position
+         * @return TRUE if it is
+         */
+        private boolean bool(final int idx) {
+            return (this.bools & 1L << idx) != 0L;
+        }
+    }
+}
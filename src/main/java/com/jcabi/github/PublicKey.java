@@ -55,7 +55,7 @@ public interface PublicKey extends JsonReadable, JsonPatchable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "key", "jsn" })
-    final class Smart implements PublicKey {
+    final class Smart implements PublicKey, Snapshottable<PublicKey.Smart> {
 
         /**
          * Encapsulated public key.
@@ -72,8 +72,22 @@ public interface PublicKey extends JsonReadable, JsonPatchable {
          * @param pkey Public key
          */
         public Smart(final PublicKey pkey) {
+            this(pkey, new SmartJson(pkey));
+        }
+
+        /**
+         * Ctor.
+         * @param pkey Public key
+         * @param json SmartJson object
+         */
+        private Smart(final PublicKey pkey, final SmartJson json) {
             this.key = pkey;
-            this.jsn = new SmartJson(pkey);
+            this.jsn = json;
+        }
+
+        @Override
+        public PublicKey.Smart snapshot() throws IOException {
+            return new PublicKey.Smart(this.key, this.jsn.snapshot());
         }
 
         /**
@@ -131,7 +145,7 @@ public interface PublicKey extends JsonReadable, JsonPatchable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.key.json();
+            return this.jsn.json();
         }
 
         @Override
@@ -109,7 +109,7 @@ public interface Pull extends Comparable<Pull>, JsonReadable, JsonPatchable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = {"pull", "jsn"})
-    final class Smart implements Pull {
+    final class Smart implements Pull, Snapshottable<Pull.Smart> {
 
         /**
          * Encapsulated pull request.
@@ -126,8 +126,22 @@ public interface Pull extends Comparable<Pull>, JsonReadable, JsonPatchable {
          * @param pll Pull request
          */
         public Smart(final Pull pll) {
+            this(pll, new SmartJson(pll));
+        }
+
+        /**
+         * Ctor.
+         * @param pll Pull request
+         * @param json SmartJson object
+         */
+        private Smart(final Pull pll, final SmartJson json) {
             this.pull = pll;
-            this.jsn = new SmartJson(pll);
+            this.jsn = json;
+        }
+
+        @Override
+        public Pull.Smart snapshot() throws IOException {
+            return new Pull.Smart(this.pull, this.jsn.snapshot());
         }
 
         /**
@@ -345,7 +359,7 @@ public interface Pull extends Comparable<Pull>, JsonReadable, JsonPatchable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.pull.json();
+            return this.jsn.json();
         }
 
         @Override
@@ -67,7 +67,7 @@ public interface PullComment extends JsonReadable, JsonPatchable,
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "cmnt", "jsn" })
-    final class Smart implements PullComment {
+    final class Smart implements PullComment, Snapshottable<PullComment.Smart> {
 
         /**
          * Id field's name in JSON.
@@ -104,8 +104,22 @@ public interface PullComment extends JsonReadable, JsonPatchable,
          * @param pcomment Pull comment
          */
         public Smart(final PullComment pcomment) {
+            this(pcomment, new SmartJson(pcomment));
+        }
+
+        /**
+         * Ctor.
+         * @param pcomment Pull comment
+         * @param json SmartJson object
+         */
+        private Smart(final PullComment pcomment, final SmartJson json) {
             this.cmnt = pcomment;
-            this.jsn = new SmartJson(pcomment);
+            this.jsn = json;
+        }
+
+        @Override
+        public PullComment.Smart snapshot() throws IOException {
+            return new PullComment.Smart(this.cmnt, this.jsn.snapshot());
         }
 
         /**
@@ -231,7 +245,7 @@ public interface PullComment extends JsonReadable, JsonPatchable,
 
         @Override
         public JsonObject json() throws IOException {
-            return this.cmnt.json();
+            return this.jsn.json();
         }
 
         /**
@@ -47,7 +47,7 @@ public interface PullRef extends JsonReadable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "pullref", "jsn" })
-    final class Smart implements PullRef {
+    final class Smart implements PullRef, Snapshottable<PullRef.Smart> {
 
         /**
          * Encapsulated pull request ref.
@@ -64,8 +64,22 @@ public interface PullRef extends JsonReadable {
          * @param pref Pull request ref
          */
         public Smart(final PullRef pref) {
+            this(pref, new SmartJson(pref));
+        }
+
+        /**
+         * Ctor.
+         * @param pref Pull request ref
+         * @param json SmartJson object
+         */
+        private Smart(final PullRef pref, final SmartJson json) {
             this.pullref = pref;
-            this.jsn = new SmartJson(pref);
+            this.jsn = json;
+        }
+
+        @Override
+        public PullRef.Smart snapshot() throws IOException {
+            return new PullRef.Smart(this.pullref, this.jsn.snapshot());
         }
 
         @Override
@@ -114,7 +128,7 @@ public interface PullRef extends JsonReadable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.pullref.json();
+            return this.jsn.json();
         }
     }
 }
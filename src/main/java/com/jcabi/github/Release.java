@@ -59,7 +59,7 @@ public interface Release extends JsonReadable, JsonPatchable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "release", "jsn" })
-    final class Smart implements Release {
+    final class Smart implements Release, Snapshottable<Release.Smart> {
 
         /**
          * Encapsulated release.
@@ -76,13 +76,27 @@ public interface Release extends JsonReadable, JsonPatchable {
          * @param original Original release
          */
         public Smart(final Release original) {
+            this(original, new SmartJson(original));
+        }
+
+        /**
+         * Ctor.
+         * @param original Original release
+         * @param json SmartJson object
+         */
+        private Smart(final Release original, final SmartJson json) {
             this.release = original;
-            this.jsn = new SmartJson(original);
+            this.jsn = json;
+        }
+
+        @Override
+        public Release.Smart snapshot() throws IOException {
+            return new Release.Smart(this.release, this.jsn.snapshot());
         }
 
         @Override
         public JsonObject json() throws IOException {
-            return this.release.json();
+            return this.jsn.json();
         }
 
         @Override
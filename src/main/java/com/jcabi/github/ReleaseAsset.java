@@ -60,7 +60,8 @@ public interface ReleaseAsset extends JsonReadable, JsonPatchable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = {"asset", "jsn" })
-    final class Smart implements ReleaseAsset {
+    final class Smart
+        implements ReleaseAsset, Snapshottable<ReleaseAsset.Smart> {
 
         /**
          * Encapsulated Release Asset.
@@ -77,8 +78,22 @@ public interface ReleaseAsset extends JsonReadable, JsonPatchable {
          * @param ast Release asset
          */
         public Smart(final ReleaseAsset ast) {
+            this(ast, new SmartJson(ast));
+        }
+
+        /**
+         * Ctor.
+         * @param ast Release asset
+         * @param json SmartJson object
+         */
+        private Smart(final ReleaseAsset ast, final SmartJson json) {
             this.asset = ast;
-            this.jsn = new SmartJson(ast);
+            this.jsn = json;
+        }
+
+        @Override
+        public ReleaseAsset.Smart snapshot() throws IOException {
+            return new ReleaseAsset.Smart(this.asset, this.jsn.snapshot());
         }
 
         /**
@@ -219,7 +234,7 @@ public interface ReleaseAsset extends JsonReadable, JsonPatchable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.asset.json();
+            return this.jsn.json();
         }
     }
 }
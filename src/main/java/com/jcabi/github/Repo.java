@@ -182,7 +182,7 @@ public interface Repo extends JsonReadable, JsonPatchable, Comparable<Repo> {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = {"repo", "jsn"})
-    final class Smart implements Repo {
+    final class Smart implements Repo, Snapshottable<Repo.Smart> {
 
         /**
          * Encapsulated Repo.
@@ -199,8 +199,22 @@ public interface Repo extends JsonReadable, JsonPatchable, Comparable<Repo> {
          * @param rep Repo
          */
         public Smart(final Repo rep) {
+            this(rep, new SmartJson(rep));
+        }
+
+        /**
+         * Ctor.
+         * @param rep Repo
+         * @param json SmartJson object
+         */
+        private Smart(final Repo rep, final SmartJson json) {
             this.repo = rep;
-            this.jsn = new SmartJson(rep);
+            this.jsn = json;
+        }
+
+        @Override
+        public Repo.Smart snapshot() throws IOException {
+            return new Repo.Smart(this.repo, this.jsn.snapshot());
         }
 
         /**
@@ -362,7 +376,7 @@ public interface Repo extends JsonReadable, JsonPatchable, Comparable<Repo> {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.repo.json();
+            return this.jsn.json();
         }
 
         @Override
@@ -50,7 +50,7 @@ public interface RepoCommit extends Comparable<RepoCommit>, JsonReadable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "commit", "jsn" })
-    final class Smart implements RepoCommit {
+    final class Smart implements RepoCommit, Snapshottable<RepoCommit.Smart> {
 
         /**
          * Encapsulated repo commit.
@@ -67,8 +67,22 @@ public interface RepoCommit extends Comparable<RepoCommit>, JsonReadable {
          * @param cmt RepoCommit
          */
         public Smart(final RepoCommit cmt) {
+            this(cmt, new SmartJson(cmt));
+        }
+
+        /**
+         * Ctor.
+         * @param cmt RepoCommit
+         * @param json SmartJson object
+         */
+        private Smart(final RepoCommit cmt, final SmartJson json) {
             this.commit = cmt;
-            this.jsn = new SmartJson(cmt);
+            this.jsn = json;
+        }
+
+        @Override
+        public RepoCommit.Smart snapshot() throws IOException {
+            return new RepoCommit.Smart(this.commit, this.jsn.snapshot());
         }
 
         /**
@@ -133,7 +147,7 @@ public interface RepoCommit extends Comparable<RepoCommit>, JsonReadable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.commit.json();
+            return this.jsn.json();
         }
 
         @Override
@@ -13,6 +13,7 @@ import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonValue;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -78,6 +79,47 @@ public interface Repos {
      */
     boolean exists(Coordinates coords) throws IOException;
 
+    /**
+     * Check if repositories exist on GitHub.
+     *
+     * <p>By default they are checked one by one, with
+     * {@link #exists(Coordinates)}.
+     *
+     * @param coords Coordinates of the repos
+     * @return Existence of every repo, in the order of coordinates
+     * @throws IOException If something goes wrong.
+     * @since 2.0
+     */
+    default Map<Coordinates, Boolean> exists(
+        final Iterable<Coordinates> coords) throws IOException {
+        final Map<Coordinates, Boolean> found = new LinkedHashMap<>(0);
+        for (final Coordinates name : coords) {
+            found.put(name, this.exists(name));
+        }
+        return found;
+    }
+
+    /**
+     * Check if repositories exist on GitHub, with no more than this number
+     * of requests at the same time.
+     *
+     * <p>The number only bounds requests in flight, it doesn't pace them:
+     * pacing is up to the wire, for example
+     * {@link com.jcabi.github.wire.GovernedWire}. By default
+     * repositories are checked with {@link #exists(Iterable)}.
+     *
+     * @param coords Coordinates of the repos
+     * @param probes Maximum number of requests at the same time
+     * @return Existence of every repo, in the order of coordinates
+     * @throws IOException If something goes wrong.
+     * @since 2.0
+     */
+    default Map<Coordinates, Boolean> exists(
+        final Iterable<Coordinates> coords, final int probes)
+        throws IOException {
+        return this.exists(coords);
+    }
+
     /**
      * Settings to use when creating a new GitHub repository.
      * @see <a href="https://developer.github.com/v3/repos/#create">Create Repo API</a>
@@ -0,0 +1,180 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.http.Request;
+import jakarta.json.JsonValue;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Iterator of elements of pages, from the last one to the first one.
+ *
+ * <p>The first page tells the number of the last one in its {@code Link}
+ * with {@code rel="last"}, so the pages are fetched by their numbers
+ * from the last one back to the second one, and the first page, fetched
+ * already, comes out the last. Elements of every page come out in the
+ * reverse order too. A consumer, which needs only the newest elements,
+ * like the latest event of an issue, stops after a page or two.
+ *
+ * <p>Without the {@code Link}, or if it has no page number, like links
+ * of listings paginated by cursors, all pages are fetched one by one
+ * first.
+ *
+ * <p>Limits of elements, pages and time of the paging are ignored.
+ *
+ * @param <X> Type of custom object
+ * @param <P> Type of source object
+ * @since 2.0
+ */
+@ToString(of = { "request", "num" })
+@EqualsAndHashCode(of = { "request", "num" })
+final class ReversedItems<X, P extends JsonValue> implements Iterator<X> {
+
+    /**
+     * Mapping to use.
+     */
+    private final transient RtValuePagination.Mapping<X, P> mapping;
+
+    /**
+     * How to read pages.
+     */
+    private final transient Paging paging;
+
+    /**
+     * Request of the first page, or NULL if it's fetched.
+     */
+    private transient Request request;
+
+    /**
+     * Request to make requests of pages by numbers.
+     */
+    private transient Request template;
+
+    /**
+     * URI of the last page.
+     */
+    private transient URI last;
+
+    /**
+     * Number of the page to fetch next, going back.
+     */
+    private transient int num;
+
+    /**
+     * Objects of the first page, in reverse order.
+     */
+    private transient Deque<P> head;
+
+    /**
+     * Objects to return, in reverse order.
+     */
+    private transient Deque<P> objects;
+
+    /**
+     * Ctor.
+     * @param entry Request of the first page
+     * @param mpp Mapping
+     * @param pgn How to read pages
+     */
+    ReversedItems(final Request entry,
+        final RtValuePagination.Mapping<X, P> mpp, final Paging pgn) {
+        this.mapping = mpp;
+        this.paging = pgn;
+        this.request = entry;
+        this.objects = new ArrayDeque<>(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.request != null) {
+            this.start();
+        }
+        while (this.objects.isEmpty() && this.num > 1) {
+            this.objects = ReversedItems.reversed(
+                this.fetch(
+                    this.template.uri().set(
+                        this.template.uri().get().resolve(
+                            Items.page(this.last, this.num)
+                        )
+                    ).back()
+                ).objects()
+            );
+            --this.num;
+        }
+        if (this.objects.isEmpty() && this.head != null) {
+            this.objects = this.head;
+            this.head = null;
+        }
+        return !this.objects.isEmpty();
+    }
+
+    @Override
+    public X next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("no more elements");
+        }
+        return this.mapping.map(this.objects.pop());
+    }
+
+    /**
+     * Fetch the first page and find the last one.
+     */
+    private void start() {
+        final Items.Page<P> first = this.fetch(this.request);
+        this.request = null;
+        if (first.last() == null || first.next() == null
+            || Items.number(first.last()) < 2) {
+            Items.Page<P> page = first;
+            final Deque<P> all = ReversedItems.reversed(page.objects());
+            while (page.next() != null) {
+                page = this.fetch(page.next());
+                final Iterator<P> objs = page.objects();
+                while (objs.hasNext()) {
+                    all.push(objs.next());
+                }
+            }
+            this.objects = all;
+        } else {
+            this.head = ReversedItems.reversed(first.objects());
+            this.template = first.next();
+            this.last = first.last();
+            this.num = Items.number(this.last);
+        }
+    }
+
+    /**
+     * Fetch a page.
+     * @param req Request of the page
+     * @return Page
+     */
+    private Items.Page<P> fetch(final Request req) {
+        try {
+            return Items.fetch(req, this.paging);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Objects in reverse order.
+     * @param objs Objects
+     * @param <Y> Type of objects
+     * @return Objects, the last one on the top
+     */
+    private static <Y> Deque<Y> reversed(final Iterator<Y> objs) {
+        final Deque<Y> deque = new ArrayDeque<>();
+        while (objs.hasNext()) {
+            deque.push(objs.next());
+        }
+        return deque;
+    }
+}
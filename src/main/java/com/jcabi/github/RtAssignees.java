@@ -69,6 +69,12 @@ final class RtAssignees implements Assignees {
                 this.owner.github(),
                 this.entry,
                 object.getString("login")
+            ),
+            object -> new RtUser(
+                this.owner.github(),
+                this.entry,
+                object.getString("login"),
+                object
             )
         );
     }
@@ -134,7 +134,13 @@ final class RtCollaborators implements Collaborators {
         return new RtPagination<>(
             this.request,
             object -> this.owner.github().users()
-                .get(object.getString("login"))
+                .get(object.getString("login")),
+            object -> new RtUser(
+                this.owner.github(),
+                this.owner.github().entry(),
+                object.getString("login"),
+                object
+            )
         );
     }
 }
@@ -43,6 +43,11 @@ final class RtComment implements Comment {
      */
     private final transient long num;
 
+    /**
+     * JSON of the comment.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req RESTful request
@@ -50,6 +55,18 @@ final class RtComment implements Comment {
      * @param number Number of the get
      */
     RtComment(final Request req, final Issue issue, final long number) {
+        this(req, issue, number, null);
+    }
+
+    /**
+     * Ctor of a comment with JSON known already.
+     * @param req RESTful request
+     * @param issue Owner of this comment
+     * @param number Number of the get
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtComment(final Request req, final Issue issue, final long number,
+        final JsonObject json) {
         this(
             req.uri()
                 .path("/repos")
@@ -60,14 +77,21 @@ final class RtComment implements Comment {
                 .path(Long.toString(number))
                 .back(),
             number,
-            issue
+            issue,
+            json
         );
     }
 
-    private RtComment(final Request request, final long num, final Issue owner) {
+    private RtComment(
+        final Request request,
+        final long num,
+        final Issue owner,
+        final JsonObject json
+    ) {
         this.request = request;
         this.num = num;
         this.owner = owner;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -94,7 +118,7 @@ final class RtComment implements Comment {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
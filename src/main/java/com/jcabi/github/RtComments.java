@@ -103,7 +103,11 @@ final class RtComments implements Comments {
             this.request.uri()
                 .queryParam("since", new GitHub.Time(since))
                 .back(),
-            object -> this.get(object.getJsonNumber("id").longValue())
+            object -> this.get(object.getJsonNumber("id").longValue()),
+            object -> new RtComment(
+                this.entry, this.owner,
+                object.getJsonNumber("id").longValue(), object
+            )
         );
     }
 }
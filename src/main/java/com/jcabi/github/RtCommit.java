@@ -35,6 +35,11 @@ final class RtCommit implements Commit {
      */
     private final transient String hash;
 
+    /**
+     * JSON of the commit.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req RESTful request
@@ -42,6 +47,18 @@ final class RtCommit implements Commit {
      * @param sha Number of the get
      */
     RtCommit(final Request req, final Repo repo, final String sha) {
+        this(req, repo, sha, null);
+    }
+
+    /**
+     * Ctor of a commit with JSON known already.
+     * @param req RESTful request
+     * @param repo Owner of this comment
+     * @param sha Number of the get
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtCommit(final Request req, final Repo repo, final String sha,
+        final JsonObject json) {
         this(
             req.uri()
                 .path("/repos")
@@ -52,14 +69,21 @@ final class RtCommit implements Commit {
                 .path(sha)
                 .back(),
             sha,
-            repo
+            repo,
+            json
         );
     }
 
-    private RtCommit(final Request request, final String hash, final Repo owner) {
+    private RtCommit(
+        final Request request,
+        final String hash,
+        final Repo owner,
+        final JsonObject json
+    ) {
         this.request = request;
         this.hash = hash;
         this.owner = owner;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -79,7 +103,7 @@ final class RtCommit implements Commit {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
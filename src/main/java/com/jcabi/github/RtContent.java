@@ -40,6 +40,11 @@ final class RtContent implements Content {
      */
     private final transient String location;
 
+    /**
+     * JSON of the content.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req Request
@@ -47,6 +52,18 @@ final class RtContent implements Content {
      * @param path Path of the content
      */
     RtContent(final Request req, final Repo repo, final String path) {
+        this(req, repo, path, null);
+    }
+
+    /**
+     * Ctor of a content with JSON known already.
+     * @param req Request
+     * @param repo Repository
+     * @param path Path of the content
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtContent(final Request req, final Repo repo, final String path,
+        final JsonObject json) {
         this(
             req.uri()
                 .path("/repos")
@@ -56,14 +73,21 @@ final class RtContent implements Content {
                 .path(path)
                 .back(),
             path,
-            repo
+            repo,
+            json
         );
     }
 
-    private RtContent(final Request request, final String location, final Repo owner) {
+    private RtContent(
+        final Request request,
+        final String location,
+        final Repo owner,
+        final JsonObject json
+    ) {
         this.request = request;
         this.location = location;
         this.owner = owner;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -83,7 +107,7 @@ final class RtContent implements Content {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
@@ -154,6 +154,10 @@ final class RtContents implements Contents {
             object -> new RtContent(
                 this.entry, this.owner,
                 object.getString("path")
+            ),
+            object -> new RtContent(
+                this.entry, this.owner,
+                object.getString("path"), object
             )
         );
     }
@@ -199,9 +203,9 @@ final class RtContents implements Contents {
     @Override
     public boolean exists(final String path, final String ref)
         throws IOException {
-        return this.request.method(Request.GET)
+        return this.request.method(Request.HEAD)
             .uri().path(path).queryParam("ref", ref).back()
-            .fetch().as(RestResponse.class).status() == HttpURLConnection.HTTP_OK;
+            .fetch().status() == HttpURLConnection.HTTP_OK;
     }
 
     private Content content(
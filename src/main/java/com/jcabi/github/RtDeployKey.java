@@ -32,6 +32,11 @@ final class RtDeployKey implements DeployKey {
      */
     private final transient int key;
 
+    /**
+     * JSON of the key.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req RESTful API entry point
@@ -39,6 +44,18 @@ final class RtDeployKey implements DeployKey {
      * @param repo Repository
      */
     RtDeployKey(final Request req, final int number, final Repo repo) {
+        this(req, number, repo, null);
+    }
+
+    /**
+     * Ctor of a key with JSON known already.
+     * @param req RESTful API entry point
+     * @param number Id
+     * @param repo Repository
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtDeployKey(final Request req, final int number, final Repo repo,
+        final JsonObject json) {
         this(
             number,
             req.uri()
@@ -47,13 +64,19 @@ final class RtDeployKey implements DeployKey {
                 .path(repo.coordinates().repo())
                 .path("/keys")
                 .path(String.valueOf(number))
-                .back()
+                .back(),
+            json
         );
     }
 
-    private RtDeployKey(final int key, final Request request) {
+    private RtDeployKey(
+        final int key,
+        final Request request,
+        final JsonObject json
+    ) {
         this.key = key;
         this.request = request;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -68,7 +91,7 @@ final class RtDeployKey implements DeployKey {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
@@ -73,7 +73,10 @@ final class RtDeployKeys implements DeployKeys {
             this.request,
             object -> {
                 return this.get(object.getInt("id"));
-            }
+            },
+            object -> new RtDeployKey(
+                this.entry, object.getInt("id"), this.owner, object
+            )
         );
     }
 
@@ -35,6 +35,11 @@ final class RtEvent implements Event {
      */
     private final transient int num;
 
+    /**
+     * JSON of the event.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req Request
@@ -42,6 +47,18 @@ final class RtEvent implements Event {
      * @param number Number of the get
      */
     RtEvent(final Request req, final Repo repo, final int number) {
+        this(req, repo, number, null);
+    }
+
+    /**
+     * Ctor of a event with JSON known already.
+     * @param req Request
+     * @param repo Repository
+     * @param number Number of the get
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtEvent(final Request req, final Repo repo, final int number,
+        final JsonObject json) {
         this(
             req.uri()
                 .path("/repos")
@@ -52,14 +69,21 @@ final class RtEvent implements Event {
                 .path(Integer.toString(number))
                 .back(),
             number,
-            repo
+            repo,
+            json
         );
     }
 
-    private RtEvent(final Request request, final int num, final Repo owner) {
+    private RtEvent(
+        final Request request,
+        final int num,
+        final Repo owner,
+        final JsonObject json
+    ) {
         this.request = request;
         this.num = num;
         this.owner = owner;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -79,7 +103,7 @@ final class RtEvent implements Event {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
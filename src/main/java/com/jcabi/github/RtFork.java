@@ -30,6 +30,11 @@ final class RtFork implements Fork {
      */
     private final transient int num;
 
+    /**
+     * JSON of the fork.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req Request
@@ -37,6 +42,18 @@ final class RtFork implements Fork {
      * @param number Number of the get
      */
     RtFork(final Request req, final Repo repo, final int number) {
+        this(req, repo, number, null);
+    }
+
+    /**
+     * Ctor of a fork with JSON known already.
+     * @param req Request
+     * @param repo Repository
+     * @param number Number of the get
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtFork(final Request req, final Repo repo, final int number,
+        final JsonObject json) {
         this(
             req.uri()
                 .path("/repos")
@@ -45,13 +62,19 @@ final class RtFork implements Fork {
                 .path("/forks")
                 .path(Integer.toString(number))
                 .back(),
-            number
+            number,
+            json
         );
     }
 
-    private RtFork(final Request request, final int num) {
+    private RtFork(
+        final Request request,
+        final int num,
+        final JsonObject json
+    ) {
         this.request = request;
         this.num = num;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -66,6 +89,6 @@ final class RtFork implements Fork {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 }
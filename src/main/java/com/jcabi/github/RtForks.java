@@ -70,7 +70,10 @@ final class RtForks implements Forks {
     public Iterable<Fork> iterate(final String sort) {
         return new RtPagination<>(
             this.request.uri().queryParam("sort", sort).back(),
-            object -> this.get(object.getInt(RtForks.ID))
+            object -> this.get(object.getInt(RtForks.ID)),
+            object -> new RtFork(
+                this.request, this.owner, object.getInt(RtForks.ID), object
+            )
         );
     }
 
@@ -47,6 +47,11 @@ final class RtGist implements Gist {
      */
     private final transient String gist;
 
+    /**
+     * JSON of the gist.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param github GitHub
@@ -54,19 +59,36 @@ final class RtGist implements Gist {
      * @param name Name of gist
      */
     RtGist(final GitHub github, final Request req, final String name) {
-        this(github, req, name, req.uri().path("/gists").path(name).back());
+        this(github, req, name, null);
+    }
+
+    /**
+     * Ctor of a gist with JSON known already.
+     * @param github GitHub
+     * @param req Request
+     * @param name Name of gist
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtGist(final GitHub github, final Request req, final String name,
+        final JsonObject json) {
+        this(
+            github, req, name, req.uri().path("/gists").path(name).back(),
+            json
+        );
     }
 
     private RtGist(
         final GitHub ghub,
         final Request entry,
         final String gist,
-        final Request request
+        final Request request,
+        final JsonObject json
     ) {
         this.ghub = ghub;
         this.entry = entry;
         this.gist = gist;
         this.request = request;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -165,7 +187,7 @@ final class RtGist implements Gist {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
@@ -37,6 +37,11 @@ final class RtGistComment implements GistComment {
      */
     private final transient int num;
 
+    /**
+     * JSON of the comment.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req RESTful request
@@ -44,6 +49,18 @@ final class RtGistComment implements GistComment {
      * @param number Number of the get
      */
     RtGistComment(final Request req, final Gist gist, final int number) {
+        this(req, gist, number, null);
+    }
+
+    /**
+     * Ctor of a comment with JSON known already.
+     * @param req RESTful request
+     * @param gist Gist of this comment
+     * @param number Number of the get
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtGistComment(final Request req, final Gist gist, final int number,
+        final JsonObject json) {
         this(
             req.uri()
                 .path("/gists")
@@ -52,14 +69,21 @@ final class RtGistComment implements GistComment {
                 .path(Integer.toString(number))
                 .back(),
             number,
-            gist
+            gist,
+            json
         );
     }
 
-    private RtGistComment(final Request request, final int num, final Gist owner) {
+    private RtGistComment(
+        final Request request,
+        final int num,
+        final Gist owner,
+        final JsonObject json
+    ) {
         this.request = request;
         this.num = num;
         this.owner = owner;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -96,6 +120,6 @@ final class RtGistComment implements GistComment {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 }
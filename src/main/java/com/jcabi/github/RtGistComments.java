@@ -97,7 +97,10 @@ final class RtGistComments implements GistComments {
     public Iterable<GistComment> iterate() {
         return new RtPagination<>(
             this.request,
-            object -> this.get(object.getInt("id"))
+            object -> this.get(object.getInt("id")),
+            object -> new RtGistComment(
+                this.entry, this.owner, object.getInt("id"), object
+            )
         );
     }
 }
@@ -99,7 +99,10 @@ final class RtGists implements Gists {
     public Iterable<Gist> iterate() {
         return new RtPagination<>(
             this.request,
-            object -> this.get(object.getString("id"))
+            object -> this.get(object.getString("id")),
+            object -> new RtGist(
+                this.ghub, this.entry, object.getString("id"), object
+            )
         );
     }
 
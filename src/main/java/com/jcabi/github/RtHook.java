@@ -35,6 +35,11 @@ final class RtHook implements Hook {
      */
     private final transient int num;
 
+    /**
+     * JSON of the hook.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req Request
@@ -42,6 +47,18 @@ final class RtHook implements Hook {
      * @param number Id of the get
      */
     RtHook(final Request req, final Repo repo, final int number) {
+        this(req, repo, number, null);
+    }
+
+    /**
+     * Ctor of a hook with JSON known already.
+     * @param req Request
+     * @param repo Repository
+     * @param number Id of the get
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtHook(final Request req, final Repo repo, final int number,
+        final JsonObject json) {
         this(
             req.uri()
                 .path("/repos")
@@ -51,14 +68,21 @@ final class RtHook implements Hook {
                 .path(Integer.toString(number))
                 .back(),
             number,
-            repo
+            repo,
+            json
         );
     }
 
-    private RtHook(final Request request, final int num, final Repo owner) {
+    private RtHook(
+        final Request request,
+        final int num,
+        final Repo owner,
+        final JsonObject json
+    ) {
         this.request = request;
         this.num = num;
         this.owner = owner;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -73,6 +97,6 @@ final class RtHook implements Hook {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 }
@@ -76,7 +76,10 @@ final class RtHooks implements Hooks {
             this.request,
             object -> {
                 return this.get(object.getInt("id"));
-            }
+            },
+            object -> new RtHook(
+                this.entry, this.owner, object.getInt("id"), object
+            )
         );
     }
 
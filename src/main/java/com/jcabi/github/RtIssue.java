@@ -25,7 +25,7 @@ import lombok.EqualsAndHashCode;
 @Immutable
 @Loggable(Loggable.DEBUG)
 @EqualsAndHashCode(of = { "request", "owner", "num" })
-final class RtIssue implements Issue {
+final class RtIssue implements Issue, Existence.Probe {
 
     /**
      * Content constant.
@@ -60,6 +60,11 @@ final class RtIssue implements Issue {
      */
     private final transient int num;
 
+    /**
+     * JSON of the issue.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req Request
@@ -67,6 +72,18 @@ final class RtIssue implements Issue {
      * @param number Number of the get
      */
     RtIssue(final Request req, final Repo repo, final int number) {
+        this(req, repo, number, null);
+    }
+
+    /**
+     * Ctor of an issue with JSON known already.
+     * @param req Request
+     * @param repo Repository
+     * @param number Number of the get
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtIssue(final Request req, final Repo repo, final int number,
+        final JsonObject json) {
         this(
             req,
             req.uri()
@@ -77,15 +94,23 @@ final class RtIssue implements Issue {
                 .path(Integer.toString(number))
                 .back(),
             repo,
-            number
+            number,
+            json
         );
     }
 
-    private RtIssue(final Request entry, final Request request, final Repo owner, final int num) {
+    private RtIssue(
+        final Request entry,
+        final Request request,
+        final Repo owner,
+        final int num,
+        final JsonObject json
+    ) {
         this.entry = entry;
         this.request = request;
         this.owner = owner;
         this.num = num;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -121,13 +146,19 @@ final class RtIssue implements Issue {
                 this.entry,
                 this.owner,
                 object.getInt("id")
+            ),
+            object -> new RtEvent(
+                this.entry,
+                this.owner,
+                object.getInt("id"),
+                object
             )
         );
     }
 
     @Override
     public boolean exists() throws IOException {
-        return new Existence(this).check();
+        return new RtJson(this.request).exists();
     }
 
     @Override
@@ -205,7 +236,7 @@ final class RtIssue implements Issue {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
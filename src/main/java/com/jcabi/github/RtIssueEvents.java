@@ -81,6 +81,12 @@ final class RtIssueEvents implements IssueEvents {
                 this.entry,
                 this.owner,
                 object.getInt("id")
+            ),
+            object -> new RtEvent(
+                this.entry,
+                this.owner,
+                object.getInt("id"),
+                object
             )
         );
     }
@@ -130,6 +130,12 @@ final class RtIssueLabels implements IssueLabels {
                 this.entry,
                 this.owner.repo(),
                 object.getString("name")
+            ),
+            object -> new RtLabel(
+                this.entry,
+                this.owner.repo(),
+                object.getString("name"),
+                object
             )
         );
     }
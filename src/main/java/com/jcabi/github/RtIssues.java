@@ -102,7 +102,10 @@ final class RtIssues implements Issues {
     public Iterable<Issue> iterate(final Map<String, String> params) {
         return new RtPagination<>(
             this.request.uri().queryParams(params).back(),
-            object -> this.get(object.getInt("number"))
+            object -> this.get(object.getInt("number")),
+            object -> new RtIssue(
+                this.entry, this.owner, object.getInt("number"), object
+            )
         );
     }
 
@@ -7,13 +7,16 @@ package com.jcabi.github;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.http.Request;
-import com.jcabi.http.response.JsonResponse;
+import com.jcabi.http.Response;
 import com.jcabi.http.response.RestResponse;
+import com.jcabi.log.Logger;
 import jakarta.json.Json;
+import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.net.HttpURLConnection;
+import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 
 /**
@@ -25,6 +28,24 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode(of = "request")
 final class RtJson {
 
+    /**
+     * Share repeated strings among all JSON objects fetched, if the
+     * {@code jcabi.github.dedup} system property is "true".
+     * @see Dedup
+     */
+    private static final boolean DEDUP = Boolean.getBoolean(
+        "jcabi.github.dedup"
+    );
+
+    /**
+     * Codec of all JSON objects fetched and pages of all paginations,
+     * the one named in the {@code jcabi.github.codec} system property
+     * or {@link JsonCodec.Tree}, if it's absent or can't be created.
+     */
+    static final JsonCodec CODEC = RtJson.configured(
+        System.getProperty("jcabi.github.codec")
+    );
+
     /**
      * RESTful request.
      */
@@ -38,6 +59,27 @@ final class RtJson {
         this.request = req;
     }
 
+    /**
+     * JSON of an object, either known already or fetched on every call.
+     *
+     * <p>Objects created from pages of a list by {@link Bulk} know their
+     * JSON already, all others fetch it.
+     *
+     * @param req Request of the object
+     * @param json JSON known already, or NULL
+     * @return JSON
+     * @since 2.0
+     */
+    static JsonReadable readable(final Request req, final JsonObject json) {
+        final JsonReadable readable;
+        if (json == null) {
+            readable = new RtJson(req)::fetch;
+        } else {
+            readable = () -> json;
+        }
+        return readable;
+    }
+
     /**
      * Fetch JSON object.
      * @return JSON object
@@ -51,7 +93,101 @@ final class RtJson {
         } catch (final AssertionError ex) {
             throw new UnexpectedHttpStatus(ex);
         }
-        return response.as(JsonResponse.class).json().readObject();
+        final JsonObject json;
+        if (RtJson.DEDUP) {
+            json = RtJson.decoded(response, Dedup.SHARED::object);
+        } else {
+            json = RtJson.decoded(response, RtJson.CODEC::object);
+        }
+        return json;
+    }
+
+    /**
+     * Read JSON of a response, which is in the error, if it's not JSON.
+     *
+     * <p>Lazy codecs may find errors later, when values are read, and
+     * those errors don't tell the response.
+     *
+     * @param response Response
+     * @param reader Reader of the body
+     * @param <T> Type of JSON
+     * @return JSON
+     * @since 2.0
+     */
+    static <T> T decoded(final Response response,
+        final Function<byte[], T> reader) {
+        try {
+            return reader.apply(response.binary());
+        } catch (final JsonException ex) {
+            throw new JsonException(
+                String.format(
+                    "Failed to read JSON from the HTTP response:%n%s",
+                    response
+                ),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Codec by the name of its class.
+     * @param name Name of the class, or NULL for the default one
+     * @return Codec
+     */
+    static JsonCodec codec(final String name) {
+        final JsonCodec codec;
+        if (name == null || name.isEmpty()) {
+            codec = new JsonCodec.Tree();
+        } else {
+            try {
+                codec = Class.forName(name)
+                    .asSubclass(JsonCodec.class)
+                    .getConstructor()
+                    .newInstance();
+            } catch (final ReflectiveOperationException
+                | ClassCastException ex) {
+                throw new IllegalStateException(
+                    String.format("Can't create JSON codec '%s'", name), ex
+                );
+            }
+        }
+        return codec;
+    }
+
+    /**
+     * Codec named in the configuration, or the default one, with
+     * a warning, if it can't be created.
+     *
+     * <p>It is used in a static initializer, where an exception would make
+     * this class unusable, with no word about the property.
+     *
+     * @param name Name of the class, or NULL for the default one
+     * @return Codec
+     */
+    static JsonCodec configured(final String name) {
+        JsonCodec codec;
+        try {
+            codec = RtJson.codec(name);
+        } catch (final IllegalStateException ex) {
+            Logger.warn(
+                RtJson.class,
+                "Property jcabi.github.codec is ignored: %[exception]s", ex
+            );
+            codec = new JsonCodec.Tree();
+        }
+        return codec;
+    }
+
+    /**
+     * Check if the object exists, by the status of a HEAD request,
+     * without reading its body.
+     * @return TRUE if it exists
+     * @throws IOException If fails
+     * @since 2.0
+     */
+    boolean exists() throws IOException {
+        return this.request.method(Request.HEAD).fetch().status()
+            == HttpURLConnection.HTTP_OK;
     }
 
     /**
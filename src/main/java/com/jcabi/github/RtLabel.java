@@ -35,6 +35,11 @@ final class RtLabel implements Label {
      */
     private final transient String txt;
 
+    /**
+     * JSON of the label.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req Request
@@ -42,6 +47,18 @@ final class RtLabel implements Label {
      * @param name Name of it
      */
     RtLabel(final Request req, final Repo repo, final String name) {
+        this(req, repo, name, null);
+    }
+
+    /**
+     * Ctor of a label with JSON known already.
+     * @param req Request
+     * @param repo Repository
+     * @param name Name of it
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtLabel(final Request req, final Repo repo, final String name,
+        final JsonObject json) {
         this(
             req.uri()
                 .path("/repos")
@@ -51,14 +68,21 @@ final class RtLabel implements Label {
                 .path(name)
                 .back(),
             name,
-            repo
+            repo,
+            json
         );
     }
 
-    private RtLabel(final Request request, final String txt, final Repo owner) {
+    private RtLabel(
+        final Request request,
+        final String txt,
+        final Repo owner,
+        final JsonObject json
+    ) {
         this.request = request;
         this.txt = txt;
         this.owner = owner;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -78,7 +102,7 @@ final class RtLabel implements Label {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
@@ -113,6 +113,12 @@ final class RtLabels implements Labels {
                 this.entry,
                 this.owner,
                 object.getString("name")
+            ),
+            object -> new RtLabel(
+                this.entry,
+                this.owner,
+                object.getString("name"),
+                object
             )
         );
     }
@@ -35,6 +35,11 @@ final class RtMilestone implements Milestone {
      */
     private final transient int num;
 
+    /**
+     * JSON of the milestone.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req Request
@@ -42,6 +47,18 @@ final class RtMilestone implements Milestone {
      * @param number Number of the get
      */
     RtMilestone(final Request req, final Repo repo, final int number) {
+        this(req, repo, number, null);
+    }
+
+    /**
+     * Ctor of a milestone with JSON known already.
+     * @param req Request
+     * @param repo Repository
+     * @param number Number of the get
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtMilestone(final Request req, final Repo repo, final int number,
+        final JsonObject json) {
         this(
             req.uri()
                 .path("/repos")
@@ -51,14 +68,21 @@ final class RtMilestone implements Milestone {
                 .path(Integer.toString(number))
                 .back(),
             number,
-            repo
+            repo,
+            json
         );
     }
 
-    private RtMilestone(final Request request, final int num, final Repo owner) {
+    private RtMilestone(
+        final Request request,
+        final int num,
+        final Repo owner,
+        final JsonObject json
+    ) {
         this.request = request;
         this.num = num;
         this.owner = owner;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -78,7 +102,7 @@ final class RtMilestone implements Milestone {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
@@ -107,7 +107,10 @@ final class RtMilestones implements Milestones {
     public Iterable<Milestone> iterate(final Map<String, String> params) {
         return new RtPagination<>(
             this.request.uri().queryParams(params).back(),
-            object -> this.get(object.getInt("number"))
+            object -> this.get(object.getInt("number")),
+            object -> new RtMilestone(
+                this.entry, this.owner, object.getInt("number"), object
+            )
         );
     }
 }
@@ -41,6 +41,11 @@ final class RtOrganization implements Organization {
      */
     private final transient String self;
 
+    /**
+     * JSON of the organization.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param github GitHub
@@ -51,6 +56,22 @@ final class RtOrganization implements Organization {
         final GitHub github,
         final Request req,
         final String login
+    ) {
+        this(github, req, login, null);
+    }
+
+    /**
+     * Ctor of an organization with JSON known already.
+     * @param github GitHub
+     * @param req Request
+     * @param login Organization login name
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtOrganization(
+        final GitHub github,
+        final Request req,
+        final String login,
+        final JsonObject json
     ) {
         this(
             github,
@@ -59,7 +80,8 @@ final class RtOrganization implements Organization {
                 .path("/orgs")
                 .path(login)
                 .back(),
-            login
+            login,
+            json
         );
     }
 
@@ -67,12 +89,14 @@ final class RtOrganization implements Organization {
         final GitHub ghub,
         final Request entry,
         final Request request,
-        final String self
+        final String self,
+        final JsonObject json
     ) {
         this.ghub = ghub;
         this.entry = entry;
         this.request = request;
         this.self = self;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -107,6 +131,6 @@ final class RtOrganization implements Organization {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 }
@@ -58,7 +58,10 @@ final class RtOrganizations implements Organizations {
     public Iterable<Organization> iterate() {
         return new RtPagination<>(
             this.request,
-            object -> this.get(object.getString("login"))
+            object -> this.get(object.getString("login")),
+            object -> new RtOrganization(
+                this.ghub, this.entry, object.getString("login"), object
+            )
         );
     }
 }
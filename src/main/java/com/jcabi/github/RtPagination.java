@@ -7,7 +7,9 @@ package com.jcabi.github;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.http.Request;
 import jakarta.json.JsonObject;
-import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 
 /**
  * GitHub pagination.
@@ -39,6 +41,11 @@ public final class RtPagination<T> implements Iterable<T> {
      */
     private final transient RtValuePagination<T, JsonObject> pages;
 
+    /**
+     * Mapping to objects, which keep JSON from pages, or NULL.
+     */
+    private final transient RtValuePagination.Mapping<T, JsonObject> hydrating;
+
     /**
      * Public ctor.
      * @param req Request
@@ -48,14 +55,258 @@ public final class RtPagination<T> implements Iterable<T> {
         final Request req,
         final RtValuePagination.Mapping<T, JsonObject> mpp
     ) {
-        this.pages = new RtValuePagination<>(req, mpp);
+        this(req, mpp, null);
+    }
+
+    /**
+     * Ctor of a pagination, which knows how to create objects that
+     * keep JSON from pages, for {@link Bulk}.
+     * @param req Request
+     * @param mpp Mapping
+     * @param hyd Mapping to objects, which keep JSON given, or NULL
+     * @since 2.0
+     */
+    RtPagination(
+        final Request req,
+        final RtValuePagination.Mapping<T, JsonObject> mpp,
+        final RtValuePagination.Mapping<T, JsonObject> hyd
+    ) {
+        this(new RtValuePagination<>(req, mpp), hyd);
+    }
+
+    /**
+     * Ctor.
+     * @param pgs Pagination
+     * @param hyd Mapping to objects, which keep JSON given, or NULL
+     */
+    private RtPagination(final RtValuePagination<T, JsonObject> pgs,
+        final RtValuePagination.Mapping<T, JsonObject> hyd) {
+        this.pages = pgs;
+        this.hydrating = hyd;
     }
 
     @Override
-    public Iterator<T> iterator() {
+    public RtValuePagination.Resumable<T> iterator() {
         return this.pages.iterator();
     }
 
+    /**
+     * Iterator, which continues from the cursor of another one.
+     * @param cursor Cursor of the iterator stopped
+     * @return Iterator
+     * @see RtValuePagination#resume(RtValuePagination.Cursor)
+     * @since 2.0
+     */
+    public RtValuePagination.Resumable<T> resume(
+        final RtValuePagination.Cursor cursor) {
+        return this.pages.resume(cursor);
+    }
+
+    /**
+     * Spliterator, which splits at page boundaries.
+     * @return Spliterator
+     * @see RtValuePagination#spliterator()
+     * @since 2.0
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return this.pages.spliterator();
+    }
+
+    /**
+     * Publisher of all elements, which fetches pages on demand.
+     * @return Publisher
+     * @since 2.0
+     */
+    public Flow.Publisher<T> publisher() {
+        return this.pages.publisher();
+    }
+
+    /**
+     * Pagination that fetches next pages in background.
+     * @param depth How many pages to prefetch, zero to fetch on demand
+     * @return New pagination
+     * @see RtValuePagination#prefetching(int)
+     * @since 2.0
+     */
+    public RtPagination<T> prefetching(final int depth) {
+        return new RtPagination<>(
+            this.pages.prefetching(depth), this.hydrating
+        );
+    }
+
+    /**
+     * Pagination that parses elements of pages one by one.
+     * @return New pagination
+     * @see RtValuePagination#streaming()
+     * @since 2.0
+     */
+    public RtPagination<T> streaming() {
+        return new RtPagination<>(
+            this.pages.streaming(), this.hydrating
+        );
+    }
+
+    /**
+     * Pagination that shares repeated strings among elements.
+     * @return New pagination
+     * @see RtValuePagination#deduplicating()
+     * @since 2.0
+     */
+    public RtPagination<T> deduplicating() {
+        return new RtPagination<>(
+            this.pages.deduplicating(), this.hydrating
+        );
+    }
+
+    /**
+     * Pagination that reads pages with this codec.
+     * @param codec Codec
+     * @return New pagination
+     * @see RtValuePagination#decoding(JsonCodec)
+     * @since 2.0
+     */
+    public RtPagination<T> decoding(final JsonCodec codec) {
+        return new RtPagination<>(
+            this.pages.decoding(codec), this.hydrating
+        );
+    }
+
+    /**
+     * Pagination with pages of this size.
+     * @param size Number of elements in a page, up to 100
+     * @return New pagination
+     * @see RtValuePagination#perPage(int)
+     * @since 2.0
+     */
+    public RtPagination<T> perPage(final int size) {
+        return new RtPagination<>(
+            this.pages.perPage(size), this.hydrating
+        );
+    }
+
+    /**
+     * Pagination that stops after this number of elements.
+     * @param items Maximum number of elements, zero for no limit
+     * @return New pagination
+     * @see RtValuePagination#limit(int)
+     * @since 2.0
+     */
+    public RtPagination<T> limit(final int items) {
+        return new RtPagination<>(
+            this.pages.limit(items), this.hydrating
+        );
+    }
+
+    /**
+     * Pagination that stops after this number of pages.
+     * @param max Maximum number of pages, zero for no limit
+     * @return New pagination
+     * @see RtValuePagination#maxPages(int)
+     * @since 2.0
+     */
+    public RtPagination<T> maxPages(final int max) {
+        return new RtPagination<>(
+            this.pages.maxPages(max), this.hydrating
+        );
+    }
+
+    /**
+     * Pagination that doesn't fetch new pages after this time.
+     * @param time Time, zero for no limit
+     * @param unit Unit of time
+     * @return New pagination
+     * @see RtValuePagination#budget(long, TimeUnit)
+     * @since 2.0
+     */
+    public RtPagination<T> budget(final long time, final TimeUnit unit) {
+        return new RtPagination<>(
+            this.pages.budget(time, unit), this.hydrating
+        );
+    }
+
+    /**
+     * The same pagination with another mapping.
+     * @param mpp Mapping
+     * @param <X> Type of custom object
+     * @return New pagination
+     */
+    <X> RtPagination<X> with(final RtValuePagination.Mapping<X, JsonObject> mpp) {
+        return new RtPagination<>(this.pages.with(mpp), null);
+    }
+
+    /**
+     * The same pagination, which creates objects that keep JSON
+     * from pages and don't fetch it again.
+     * @param fallback Mapping to use, if the pagination doesn't know
+     *  how to create such objects
+     * @return New pagination
+     * @since 2.0
+     */
+    RtPagination<T> hydrated(
+        final RtValuePagination.Mapping<T, JsonObject> fallback) {
+        RtValuePagination.Mapping<T, JsonObject> mpp = this.hydrating;
+        if (mpp == null) {
+            mpp = fallback;
+        }
+        return this.with(mpp);
+    }
+
+    /**
+     * All objects from the last one to the first one, which keep JSON
+     * from pages, if this pagination knows how to create them.
+     * @return Objects in reverse order
+     * @see RtValuePagination#backwards()
+     * @since 2.0
+     */
+    Iterable<T> backwards() {
+        RtValuePagination<T, JsonObject> pgs = this.pages;
+        if (this.hydrating != null) {
+            pgs = pgs.with(this.hydrating);
+        }
+        return pgs.backwards();
+    }
+
+    /**
+     * Pagination of a few fields of every object, with nothing else
+     * of their JSON kept in memory.
+     * @param fields Names of fields, nested ones with dots
+     * @return New pagination
+     * @see Projection
+     * @since 2.0
+     */
+    public RtPagination<Projection.Row> projected(final String... fields) {
+        return this.with(new Projection(fields));
+    }
+
+    /**
+     * Pagination that fetches pages in parallel, keeping their order.
+     * @param threads How many pages to fetch at the same time
+     * @return New pagination
+     * @see RtValuePagination#parallel(int)
+     * @since 2.0
+     */
+    public RtPagination<T> parallel(final int threads) {
+        return new RtPagination<>(
+            this.pages.parallel(threads), this.hydrating
+        );
+    }
+
+    /**
+     * Pagination that fetches pages in parallel.
+     * @param threads How many pages to fetch at the same time
+     * @param ordered Elements must come out in order of pages
+     * @return New pagination
+     * @see RtValuePagination#parallel(int, boolean)
+     * @since 2.0
+     */
+    public RtPagination<T> parallel(final int threads,
+        final boolean ordered) {
+        return new RtPagination<>(
+            this.pages.parallel(threads, ordered), this.hydrating
+        );
+    }
+
     /**
      * Entry.
      * @return Entry point
@@ -35,6 +35,11 @@ final class RtPublicKey implements PublicKey {
      */
     private final transient int num;
 
+    /**
+     * JSON of the key.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req RESTful request
@@ -42,6 +47,18 @@ final class RtPublicKey implements PublicKey {
      * @param number Number of the get
      */
     RtPublicKey(final Request req, final User user, final int number) {
+        this(req, user, number, null);
+    }
+
+    /**
+     * Ctor of a key with JSON known already.
+     * @param req RESTful request
+     * @param user Owner of this comment
+     * @param number Number of the get
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtPublicKey(final Request req, final User user, final int number,
+        final JsonObject json) {
         this(
             req.uri()
                 .path("/user")
@@ -49,14 +66,21 @@ final class RtPublicKey implements PublicKey {
                 .path(Integer.toString(number))
                 .back(),
             number,
-            user
+            user,
+            json
         );
     }
 
-    private RtPublicKey(final Request request, final int num, final User owner) {
+    private RtPublicKey(
+        final Request request,
+        final int num,
+        final User owner,
+        final JsonObject json
+    ) {
         this.request = request;
         this.num = num;
         this.owner = owner;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -71,7 +95,7 @@ final class RtPublicKey implements PublicKey {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
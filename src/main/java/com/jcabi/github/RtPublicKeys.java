@@ -63,7 +63,10 @@ final class RtPublicKeys implements PublicKeys {
     public Iterable<PublicKey> iterate() {
         return new RtPagination<>(
             this.request,
-            object -> this.get(object.getInt("id"))
+            object -> this.get(object.getInt("id")),
+            object -> new RtPublicKey(
+                this.entry, this.owner, object.getInt("id"), object
+            )
         );
     }
 
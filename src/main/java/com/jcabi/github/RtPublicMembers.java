@@ -96,6 +96,12 @@ public final class RtPublicMembers implements PublicMembers {
                 this.organization.github(),
                 this.entry,
                 object.getString("login")
+            ),
+            object -> new RtUser(
+                this.organization.github(),
+                this.entry,
+                object.getString("login"),
+                object
             )
         );
     }
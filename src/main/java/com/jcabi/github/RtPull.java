@@ -45,6 +45,11 @@ final class RtPull implements Pull {
      */
     private final transient int num;
 
+    /**
+     * JSON of the pull request.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req Request
@@ -52,6 +57,18 @@ final class RtPull implements Pull {
      * @param number Number of the get
      */
     RtPull(final Request req, final Repo repo, final int number) {
+        this(req, repo, number, null);
+    }
+
+    /**
+     * Ctor of a pull request with JSON known already.
+     * @param req Request
+     * @param repo Repository
+     * @param number Number of the get
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtPull(final Request req, final Repo repo, final int number,
+        final JsonObject json) {
         this(
             req,
             req.uri()
@@ -62,15 +79,23 @@ final class RtPull implements Pull {
                 .path(Integer.toString(number))
                 .back(),
             repo,
-            number
+            number,
+            json
         );
     }
 
-    private RtPull(final Request entry, final Request request, final Repo owner, final int num) {
+    private RtPull(
+        final Request entry,
+        final Request request,
+        final Repo owner,
+        final int num,
+        final JsonObject json
+    ) {
         this.entry = entry;
         this.request = request;
         this.owner = owner;
         this.num = num;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -96,6 +121,12 @@ final class RtPull implements Pull {
                 this.entry,
                 this.owner,
                 object.getString("sha")
+            ),
+            object -> new RtCommit(
+                this.entry,
+                this.owner,
+                object.getString("sha"),
+                object
             )
         );
     }
@@ -176,7 +207,7 @@ final class RtPull implements Pull {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
@@ -36,6 +36,11 @@ final class RtPullComment implements PullComment {
      */
     private final transient int num;
 
+    /**
+     * JSON of the comment.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req RESTful request
@@ -43,6 +48,18 @@ final class RtPullComment implements PullComment {
      * @param number Number of the get
      */
     RtPullComment(final Request req, final Pull pull, final int number) {
+        this(req, pull, number, null);
+    }
+
+    /**
+     * Ctor of a comment with JSON known already.
+     * @param req RESTful request
+     * @param pull Owner of this comment
+     * @param number Number of the get
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtPullComment(final Request req, final Pull pull, final int number,
+        final JsonObject json) {
         this(
             req.uri()
                 .path("/repos")
@@ -53,14 +70,21 @@ final class RtPullComment implements PullComment {
                 .path(Integer.toString(number))
                 .back(),
             number,
-            pull
+            pull,
+            json
         );
     }
 
-    private RtPullComment(final Request request, final int num, final Pull owner) {
+    private RtPullComment(
+        final Request request,
+        final int num,
+        final Pull owner,
+        final JsonObject json
+    ) {
         this.request = request;
         this.num = num;
         this.owner = owner;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -70,7 +94,7 @@ final class RtPullComment implements PullComment {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
@@ -81,6 +81,9 @@ final class RtPullComments implements PullComments {
             this.request.uri().queryParams(params).back(),
             value -> this.get(
                 value.getInt("id")
+            ),
+            value -> new RtPullComment(
+                this.entry, this.owner, value.getInt("id"), value
             )
         );
     }
@@ -100,6 +103,9 @@ final class RtPullComments implements PullComments {
                 .back().uri().queryParams(params).back(),
             value -> this.get(
                 value.getInt("id")
+            ),
+            value -> new RtPullComment(
+                this.entry, this.owner, value.getInt("id"), value
             )
         );
     }
@@ -103,7 +103,10 @@ final class RtPulls implements Pulls {
     public Iterable<Pull> iterate(final Map<String, String> params) {
         return new RtPagination<>(
             this.request.uri().queryParams(params).back(),
-            object -> this.get(object.getInt("number"))
+            object -> this.get(object.getInt("number")),
+            object -> new RtPull(
+                this.entry, this.owner, object.getInt("number"), object
+            )
         );
     }
 }
@@ -35,6 +35,11 @@ final class RtReference implements Reference {
      */
     private final transient String name;
 
+    /**
+     * JSON of the reference.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public constructor.
      * @param req RESTful request
@@ -42,24 +47,43 @@ final class RtReference implements Reference {
      * @param ref The name of the reference
      */
     RtReference(final Request req, final Repo repo, final String ref) {
+        this(req, repo, ref, null);
+    }
+
+    /**
+     * Ctor of a reference with JSON known already.
+     * @param req RESTful request
+     * @param repo Owner of this reference
+     * @param ref The name of the reference
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtReference(final Request req, final Repo repo, final String ref,
+        final JsonObject json) {
         this(
             req.uri()
                 .path("/repos").path(repo.coordinates().user())
                 .path(repo.coordinates().repo()).path("/git").path(ref).back(),
             ref,
-            repo
+            repo,
+            json
         );
     }
 
-    private RtReference(final Request request, final String name, final Repo owner) {
+    private RtReference(
+        final Request request,
+        final String name,
+        final Repo owner,
+        final JsonObject json
+    ) {
         this.request = request;
         this.name = name;
         this.owner = owner;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
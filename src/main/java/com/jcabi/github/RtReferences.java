@@ -97,6 +97,10 @@ final class RtReferences implements References {
             this.request,
             object -> this.get(
                 object.getString(RtReferences.REF)
+            ),
+            object -> new RtReference(
+                this.entry, this.owner, object.getString(RtReferences.REF),
+                object
             )
         );
     }
@@ -107,6 +111,10 @@ final class RtReferences implements References {
             this.request.uri().path(subnamespace).back(),
             object -> this.get(
                 object.getString(RtReferences.REF)
+            ),
+            object -> new RtReference(
+                this.entry, this.owner, object.getString(RtReferences.REF),
+                object
             )
         );
     }
@@ -42,6 +42,11 @@ final class RtRelease implements Release {
      */
     private final transient int release;
 
+    /**
+     * JSON of the release.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req RESTful API entry point
@@ -49,6 +54,18 @@ final class RtRelease implements Release {
      * @param nmbr Release id
      */
     RtRelease(final Request req, final Repo repo, final int nmbr) {
+        this(req, repo, nmbr, null);
+    }
+
+    /**
+     * Ctor of a release with JSON known already.
+     * @param req RESTful API entry point
+     * @param repo Repository
+     * @param nmbr Release id
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtRelease(final Request req, final Repo repo, final int nmbr,
+        final JsonObject json) {
         this(
             req,
             nmbr,
@@ -59,7 +76,8 @@ final class RtRelease implements Release {
                 .path(repo.coordinates().repo())
                 .path("/releases")
                 .path(String.valueOf(nmbr))
-                .back()
+                .back(),
+            json
         );
     }
 
@@ -67,12 +85,14 @@ final class RtRelease implements Release {
         final Request entry,
         final int release,
         final Repo owner,
-        final Request request
+        final Request request,
+        final JsonObject json
     ) {
         this.entry = entry;
         this.release = release;
         this.owner = owner;
         this.request = request;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -97,7 +117,7 @@ final class RtRelease implements Release {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
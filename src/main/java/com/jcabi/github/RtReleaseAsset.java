@@ -40,6 +40,11 @@ final class RtReleaseAsset implements ReleaseAsset {
      */
     private final transient int num;
 
+    /**
+     * JSON of the asset.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req RESTful Request
@@ -50,6 +55,22 @@ final class RtReleaseAsset implements ReleaseAsset {
         final Request req,
         final Release release,
         final int number
+    ) {
+        this(req, release, number, null);
+    }
+
+    /**
+     * Ctor of an asset with JSON known already.
+     * @param req RESTful Request
+     * @param release Release
+     * @param number Number of the release asset
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtReleaseAsset(
+        final Request req,
+        final Release release,
+        final int number,
+        final JsonObject json
     ) {
         this(
             req.uri()
@@ -61,14 +82,21 @@ final class RtReleaseAsset implements ReleaseAsset {
                 .path(Integer.toString(number))
                 .back(),
             number,
-            release
+            release,
+            json
         );
     }
 
-    private RtReleaseAsset(final Request request, final int num, final Release owner) {
+    private RtReleaseAsset(
+        final Request request,
+        final int num,
+        final Release owner,
+        final JsonObject json
+    ) {
         this.request = request;
         this.num = num;
         this.owner = owner;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -88,7 +116,7 @@ final class RtReleaseAsset implements ReleaseAsset {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
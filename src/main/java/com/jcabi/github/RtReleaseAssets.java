@@ -77,6 +77,9 @@ final class RtReleaseAssets implements ReleaseAssets {
                 .method(Request.GET),
             value -> this.get(
                 value.getInt("id")
+            ),
+            value -> new RtReleaseAsset(
+                this.entry, this.owner, value.getInt("id"), value
             )
         );
     }
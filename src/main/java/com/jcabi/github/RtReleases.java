@@ -75,6 +75,12 @@ final class RtReleases implements Releases {
                 this.entry,
                 this.owner,
                 object.getInt("id")
+            ),
+            object -> new RtRelease(
+                this.entry,
+                this.owner,
+                object.getInt("id"),
+                object
             )
         );
     }
@@ -24,7 +24,7 @@ import lombok.EqualsAndHashCode;
 @Loggable(Loggable.DEBUG)
 @EqualsAndHashCode(of = {"ghub", "entry", "coords"})
 @SuppressWarnings("PMD.CouplingBetweenObjects")
-final class RtRepo implements Repo {
+final class RtRepo implements Repo, Existence.Probe {
 
     /**
      * GitHub.
@@ -46,6 +46,11 @@ final class RtRepo implements Repo {
      */
     private final transient Coordinates coords;
 
+    /**
+     * JSON of the repository.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param github GitHub
@@ -53,6 +58,18 @@ final class RtRepo implements Repo {
      * @param crd Coordinate of the repo
      */
     RtRepo(final GitHub github, final Request req, final Coordinates crd) {
+        this(github, req, crd, null);
+    }
+
+    /**
+     * Ctor of a repository with JSON known already.
+     * @param github GitHub
+     * @param req Request
+     * @param crd Coordinate of the repo
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtRepo(final GitHub github, final Request req, final Coordinates crd,
+        final JsonObject json) {
         this(
             github,
             req,
@@ -61,7 +78,8 @@ final class RtRepo implements Repo {
                 .path("/repos")
                 .path(crd.user())
                 .path(crd.repo())
-                .back()
+                .back(),
+            json
         );
     }
 
@@ -69,12 +87,14 @@ final class RtRepo implements Repo {
         final GitHub ghub,
         final Request entry,
         final Coordinates coords,
-        final Request request
+        final Request request,
+        final JsonObject json
     ) {
         this.ghub = ghub;
         this.entry = entry;
         this.coords = coords;
         this.request = request;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -223,7 +243,12 @@ final class RtRepo implements Repo {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
+    }
+
+    @Override
+    public boolean exists() throws IOException {
+        return new RtJson(this.request).exists();
     }
 
     @Override
@@ -35,6 +35,11 @@ final class RtRepoCommit implements RepoCommit {
      */
     private final transient String hash;
 
+    /**
+     * JSON of the commit.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param req RESTful request
@@ -42,6 +47,18 @@ final class RtRepoCommit implements RepoCommit {
      * @param sha Number of the get
      */
     RtRepoCommit(final Request req, final Repo repo, final String sha) {
+        this(req, repo, sha, null);
+    }
+
+    /**
+     * Ctor of a commit with JSON known already.
+     * @param req RESTful request
+     * @param repo Owner of this commit
+     * @param sha Number of the get
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtRepoCommit(final Request req, final Repo repo, final String sha,
+        final JsonObject json) {
         this(
             req.uri()
                 .path("/repos")
@@ -51,14 +68,21 @@ final class RtRepoCommit implements RepoCommit {
                 .path(sha)
                 .back(),
             sha,
-            repo
+            repo,
+            json
         );
     }
 
-    private RtRepoCommit(final Request request, final String hash, final Repo owner) {
+    private RtRepoCommit(
+        final Request request,
+        final String hash,
+        final Repo owner,
+        final JsonObject json
+    ) {
         this.request = request;
         this.hash = hash;
         this.owner = owner;
+        this.jsn = RtJson.readable(request, json);
     }
 
     @Override
@@ -78,7 +102,7 @@ final class RtRepoCommit implements RepoCommit {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
     }
 
     @Override
@@ -78,7 +78,10 @@ final class RtRepoCommits implements RepoCommits {
     public Iterable<RepoCommit> iterate(final Map<String, String> params) {
         return new RtPagination<>(
             this.request.uri().queryParams(params).back(),
-            value -> this.get(value.getString("sha"))
+            value -> this.get(value.getString("sha")),
+            value -> new RtRepoCommit(
+                this.entry, this.owner, value.getString("sha"), value
+            )
         );
     }
 
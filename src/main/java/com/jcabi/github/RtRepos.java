@@ -11,6 +11,9 @@ import com.jcabi.http.response.JsonResponse;
 import com.jcabi.http.response.RestResponse;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
 
 /**
@@ -22,6 +25,11 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode(of = { "ghub", "entry" })
 final class RtRepos implements Repos {
 
+    /**
+     * Default maximum number of existence checks at the same time.
+     */
+    private static final int PROBES = 16;
+
     /**
      * GitHub.
      */
@@ -94,6 +102,12 @@ final class RtRepos implements Repos {
                 .queryParam("since", identifier).back(),
             object -> this.get(
                 new Coordinates.Simple(object.getString("full_name"))
+            ),
+            object -> new RtRepo(
+                this.ghub,
+                this.entry,
+                new Coordinates.Simple(object.getString("full_name")),
+                object
             )
         );
     }
@@ -102,7 +116,59 @@ final class RtRepos implements Repos {
     public boolean exists(final Coordinates coords) throws IOException {
         return this.entry.uri()
             .path("/repos/".concat(coords.user().concat("/").concat(coords.repo()))).back()
-            .method(Request.GET).fetch().as(RestResponse.class)
+            .method(Request.HEAD).fetch()
             .status() == HttpURLConnection.HTTP_OK;
     }
+
+    /**
+     * Check if repositories exist, with HEAD requests.
+     *
+     * <p>No more than 16 requests are sent at the same time.
+     *
+     * @param coords Coordinates of the repos
+     * @return Existence of every repo, in the order of coordinates
+     * @throws IOException If something goes wrong
+     */
+    @Override
+    public Map<Coordinates, Boolean> exists(final Iterable<Coordinates> coords)
+        throws IOException {
+        return this.exists(coords, RtRepos.PROBES);
+    }
+
+    /**
+     * Check if repositories exist, with HEAD requests.
+     *
+     * <p>Requests go through the wire of this object, which paces them:
+     * a {@link com.jcabi.github.wire.GovernedWire} admits every one of them
+     * by the rate limit left, and without it they are sent as soon as
+     * a thread is free.
+     *
+     * @param coords Coordinates of the repos
+     * @param probes Maximum number of requests at the same time
+     * @return Existence of every repo, in the order of coordinates
+     * @throws IOException If something goes wrong
+     */
+    @Override
+    public Map<Coordinates, Boolean> exists(final Iterable<Coordinates> coords,
+        final int probes) throws IOException {
+        final Map<Coordinates, Boolean> found = new LinkedHashMap<>(0);
+        try {
+            final Iterable<Map.Entry<Coordinates, Boolean>> checks =
+                new Parallel<>(
+                    coords, probes,
+                    name -> new AbstractMap.SimpleImmutableEntry<>(
+                        name, this.exists(name)
+                    )
+                );
+            for (final Map.Entry<Coordinates, Boolean> ent : checks) {
+                found.put(ent.getKey(), ent.getValue());
+            }
+        } catch (final IllegalStateException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw ex;
+        }
+        return found;
+    }
 }
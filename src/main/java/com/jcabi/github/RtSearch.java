@@ -7,6 +7,7 @@ package com.jcabi.github;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.http.Request;
+import jakarta.json.JsonObject;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -63,7 +64,7 @@ final class RtSearch implements Search {
     }
 
     @Override
-    public Iterable<Repo> repos(
+    public RtSearchPagination<Repo> repos(
         final String keywords,
         final String sort,
         final Search.Order order) {
@@ -71,13 +72,20 @@ final class RtSearch implements Search {
             this.request, "repositories", keywords, sort, order.identifier(),
             object -> this.github().repos().get(
                 new Coordinates.Simple(object.getString("full_name"))
+            ),
+            object -> new RtRepo(
+                this.ghub,
+                this.ghub.entry(),
+                new Coordinates.Simple(object.getString("full_name")),
+                object
             )
         );
     }
 
     @Override
-    public Iterable<Issue> issues(final String keywords, final String sort,
-        final Search.Order order, final Map<Search.Qualifier, String> qualifiers) {
+    public RtSearchPagination<Issue> issues(final String keywords,
+        final String sort, final Search.Order order,
+        final Map<Search.Qualifier, String> qualifiers) {
         final StringBuilder keyword = new StringBuilder(keywords);
         for (final Map.Entry<Search.Qualifier, String> entry : qualifiers
             .entrySet()) {
@@ -90,23 +98,23 @@ final class RtSearch implements Search {
             keyword.toString(),
             sort,
             order.identifier(),
-            object -> {
-                try {
-                    final String[] parts = RtSearch.SLASH.split(
-                        new URI(object.getString("url")).getPath(), -1
-                    );
-                    return this.ghub.repos().get(
-                        new Coordinates.Simple(parts[2], parts[3])
-                    ).issues().get(object.getInt("number"));
-                } catch (final URISyntaxException ex) {
-                    throw new IllegalStateException(ex);
-                }
-            }
+            object -> this.ghub.repos().get(RtSearch.coordinates(object))
+                .issues().get(object.getInt("number")),
+            object -> new RtIssue(
+                this.ghub.entry(),
+                new RtRepo(
+                    this.ghub,
+                    this.ghub.entry(),
+                    RtSearch.coordinates(object)
+                ),
+                object.getInt("number"),
+                object
+            )
         );
     }
 
     @Override
-    public Iterable<User> users(
+    public RtSearchPagination<User> users(
         final String keywords,
         final String sort,
         final Search.Order order) {
@@ -114,12 +122,18 @@ final class RtSearch implements Search {
             this.request, "users", keywords, sort, order.identifier(),
             object -> this.ghub.users().get(
                 object.getString("login")
+            ),
+            object -> new RtUser(
+                this.ghub,
+                this.ghub.entry(),
+                object.getString("login"),
+                object
             )
         );
     }
 
     @Override
-    public Iterable<Content> codes(
+    public RtSearchPagination<Content> codes(
         final String keywords,
         final String sort,
         final Search.Order order) {
@@ -143,4 +157,20 @@ final class RtSearch implements Search {
             }
         );
     }
+
+    /**
+     * Coordinates of the repository of a found issue.
+     * @param object JSON of the issue
+     * @return Coordinates
+     */
+    private static Coordinates coordinates(final JsonObject object) {
+        try {
+            final String[] parts = RtSearch.SLASH.split(
+                new URI(object.getString("url")).getPath(), -1
+            );
+            return new Coordinates.Simple(parts[2], parts[3]);
+        } catch (final URISyntaxException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
 }
@@ -8,26 +8,33 @@ import com.jcabi.aspects.Immutable;
 import com.jcabi.http.Request;
 import jakarta.json.JsonObject;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
 
 /**
  * GitHub search pagination.
+ *
+ * <p>Searches of {@link RtGitHub} return it, so page size and limits
+ * may be set for them, the same way as in {@link RtPagination}:
+ * <pre> Iterable&lt;Issue&gt; latest = RtSearchPagination.class.cast(
+ *   github.search().issues("bug", "updated", Search.Order.DESC, quals)
+ * ).limit(50);</pre>
+ *
+ * <p>GitHub doesn't return more than 1000 results of a search anyway.
+ *
  * @param <T> Type of iterable objects
  * @since 0.4
  */
 @Immutable
-@EqualsAndHashCode
-final class RtSearchPagination<T> implements Iterable<T> {
+@EqualsAndHashCode(of = "pages")
+public final class RtSearchPagination<T> implements Iterable<T> {
 
     /**
-     * Search request.
+     * Pagination of search results.
      */
-    private final transient Request request;
-
-    /**
-     * Pagination mapping.
-     */
-    private final transient RtValuePagination.Mapping<T, JsonObject> mapping;
+    private final transient RtPagination<T> pages;
 
     /**
      * Ctor.
@@ -42,29 +49,133 @@ final class RtSearchPagination<T> implements Iterable<T> {
     RtSearchPagination(final Request req, final String path,
         final String keywords, final String sort, final String order,
         final RtValuePagination.Mapping<T, JsonObject> mppng) {
+        this(req, path, keywords, sort, order, mppng, null);
+    }
+
+    /**
+     * Ctor of a search, which knows how to create found objects that
+     * keep JSON from pages, for {@link Bulk}.
+     * @param req RESTful API entry point
+     * @param path Search path
+     * @param keywords Search keywords
+     * @param sort Sort field
+     * @param order Sort order
+     * @param mppng Pagination mapping
+     * @param hydrating Mapping to objects, which keep JSON given, or NULL
+     * @checkstyle ParameterNumber (5 lines)
+     * @since 2.0
+     */
+    RtSearchPagination(final Request req, final String path,
+        final String keywords, final String sort, final String order,
+        final RtValuePagination.Mapping<T, JsonObject> mppng,
+        final RtValuePagination.Mapping<T, JsonObject> hydrating) {
         this(
-            req.uri().path(path)
-                .queryParam("q", keywords)
-                .queryParam("sort", sort)
-                .queryParam("order", order)
-                .back(),
-            mppng
+            new RtPagination<>(
+                new SearchRequest(
+                    req.uri().path(path)
+                        .queryParam("q", keywords)
+                        .queryParam("sort", sort)
+                        .queryParam("order", order)
+                        .back()
+                ),
+                mppng,
+                hydrating
+            )
         );
     }
 
-    private RtSearchPagination(
-        final Request request,
-        final RtValuePagination.Mapping<T, JsonObject> mapping
-    ) {
-        this.request = request;
-        this.mapping = mapping;
+    private RtSearchPagination(final RtPagination<T> pgs) {
+        this.pages = pgs;
     }
 
     @Override
     public Iterator<T> iterator() {
-        return new RtPagination<>(
-            new SearchRequest(this.request),
-            this.mapping
-        ).iterator();
+        return this.pages.iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return this.pages.spliterator();
+    }
+
+    /**
+     * Publisher of all found elements, which fetches pages on demand.
+     * @return Publisher
+     * @since 2.0
+     */
+    public Flow.Publisher<T> publisher() {
+        return this.pages.publisher();
+    }
+
+    /**
+     * Search that shares repeated strings among results.
+     * @return New pagination
+     * @see RtValuePagination#deduplicating()
+     * @since 2.0
+     */
+    public RtSearchPagination<T> deduplicating() {
+        return new RtSearchPagination<>(this.pages.deduplicating());
+    }
+
+    /**
+     * Search that reads pages with this codec.
+     * @param codec Codec
+     * @return New pagination
+     * @see RtValuePagination#decoding(JsonCodec)
+     * @since 2.0
+     */
+    public RtSearchPagination<T> decoding(final JsonCodec codec) {
+        return new RtSearchPagination<>(this.pages.decoding(codec));
+    }
+
+    /**
+     * Search with pages of this size.
+     * @param size Number of results in a page, up to 100
+     * @return New pagination
+     * @since 2.0
+     */
+    public RtSearchPagination<T> perPage(final int size) {
+        return new RtSearchPagination<>(this.pages.perPage(size));
+    }
+
+    /**
+     * Search that stops after this number of results.
+     * @param items Maximum number of results, zero for no limit
+     * @return New pagination
+     * @since 2.0
+     */
+    public RtSearchPagination<T> limit(final int items) {
+        return new RtSearchPagination<>(this.pages.limit(items));
+    }
+
+    /**
+     * Search that stops after this number of pages.
+     * @param max Maximum number of pages, zero for no limit
+     * @return New pagination
+     * @since 2.0
+     */
+    public RtSearchPagination<T> maxPages(final int max) {
+        return new RtSearchPagination<>(this.pages.maxPages(max));
+    }
+
+    /**
+     * Search that doesn't fetch new pages after this time.
+     * @param time Time, zero for no limit
+     * @param unit Unit of time
+     * @return New pagination
+     * @since 2.0
+     */
+    public RtSearchPagination<T> budget(final long time,
+        final TimeUnit unit) {
+        return new RtSearchPagination<>(this.pages.budget(time, unit));
+    }
+
+    /**
+     * Pagination of search results.
+     * @return Pagination
+     * @since 2.0
+     */
+    RtPagination<T> pagination() {
+        return this.pages;
     }
 }
@@ -22,7 +22,7 @@ import lombok.EqualsAndHashCode;
 @Immutable
 @Loggable(Loggable.DEBUG)
 @EqualsAndHashCode(of = { "ghub", "request" })
-final class RtUser implements User {
+final class RtUser implements User, Existence.Probe {
 
     /**
      * Path for the notifications resource.
@@ -44,6 +44,11 @@ final class RtUser implements User {
      */
     private final transient String self;
 
+    /**
+     * JSON of the user.
+     */
+    private final transient JsonReadable jsn;
+
     /**
      * Public ctor.
      * @param github GitHub
@@ -60,13 +65,31 @@ final class RtUser implements User {
      * @param login User identity/identity
      */
     RtUser(final GitHub github, final Request req, final String login) {
-        this(github, login, RtUser.path(req, login));
+        this(github, req, login, null);
     }
 
-    private RtUser(final GitHub github, final String login, final Request req) {
+    /**
+     * Ctor of a user with JSON known already.
+     * @param github GitHub
+     * @param req Request
+     * @param login User identity/identity
+     * @param json JSON of it, or NULL to fetch it on every call
+     */
+    RtUser(final GitHub github, final Request req, final String login,
+        final JsonObject json) {
+        this(github, login, RtUser.path(req, login), json);
+    }
+
+    private RtUser(
+        final GitHub github,
+        final String login,
+        final Request req,
+        final JsonObject json
+    ) {
         this.ghub = github;
         this.self = login;
         this.request = req;
+        this.jsn = RtJson.readable(req, json);
     }
 
     @Override
@@ -127,7 +150,12 @@ final class RtUser implements User {
 
     @Override
     public JsonObject json() throws IOException {
-        return new RtJson(this.request).fetch();
+        return this.jsn.json();
+    }
+
+    @Override
+    public boolean exists() throws IOException {
+        return new RtJson(this.request).exists();
     }
 
     @Override
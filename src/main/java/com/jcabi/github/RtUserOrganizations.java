@@ -65,7 +65,10 @@ final class RtUserOrganizations implements UserOrganizations {
     public Iterable<Organization> iterate() throws IOException {
         return new RtPagination<>(
             this.entry.uri().path("/users").path(this.owner.login()).path("/orgs").back(),
-            new OrganizationMapping(this.ghub.organizations())
+            new OrganizationMapping(this.ghub.organizations()),
+            object -> new RtOrganization(
+                this.ghub, this.entry, object.getString("login"), object
+            )
         );
     }
 }
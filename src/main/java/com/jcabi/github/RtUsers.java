@@ -79,6 +79,12 @@ final class RtUsers implements Users {
             this.request.uri().queryParam("since", identifier).back(),
             object -> this.get(
                 String.valueOf(object.getInt("id"))
+            ),
+            object -> new RtUser(
+                this.ghub,
+                this.entry,
+                String.valueOf(object.getInt("id")),
+                object
             )
         );
     }
@@ -7,18 +7,54 @@ package com.jcabi.github;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.http.Request;
 import jakarta.json.JsonValue;
+import java.io.Serializable;
+import java.net.URI;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
 
 /**
  * GitHub value pagination.
+ *
+ * <p>Pages are fetched one by one, when the previous one is consumed.
+ * Consumers that do some work on every element may want to get the next
+ * pages in background, while they are busy with the current one:
+ * <pre> Iterable&lt;JsonObject&gt; issues = new RtValuePagination&lt;&gt;(
+ *   request, mapping
+ * ).prefetching(2);</pre>
+ *
+ * <p>Large listings, which tell the number of the last page in the
+ * {@code Link} header, may be fetched in parallel instead, with
+ * {@link #parallel(int)}.
+ *
+ * <p>By default every page is parsed as a whole, so all its elements
+ * are in memory until the page is consumed. With {@link #streaming()}
+ * they are parsed one at a time, when they are needed.
+ *
+ * <p>The size of pages and the number of elements, pages and time spent
+ * may be limited too. For example, this pagination makes just one
+ * request, for 50 elements:
+ * <pre> Iterable&lt;JsonObject&gt; latest = new RtValuePagination&lt;&gt;(
+ *   request, mapping
+ * ).limit(50);</pre>
+ *
+ * <p>Long crawls may save the cursor of the iterator from time to time
+ * and continue from it after a restart, without fetching the pages
+ * already processed:
+ * <pre> RtValuePagination.Resumable&lt;JsonObject&gt; items = pages.iterator();
+ * // iterate and save items.cursor(), it's Serializable
+ * RtValuePagination.Resumable&lt;JsonObject&gt; rest = pages.resume(saved);</pre>
+ *
  * @param <T> Type of iterable objects
  * @param <P> Type of source objects
  * @see <a href="https://developer.github.com/v3/#pagination">Pagination</a>
  * @since 0.8
  */
 @Immutable
-@EqualsAndHashCode(of = { "entry", "map" })
+@EqualsAndHashCode(of = { "entry", "map", "paging" })
 public final class RtValuePagination<T, P extends JsonValue> implements
     Iterable<T> {
 
@@ -32,6 +68,11 @@ public final class RtValuePagination<T, P extends JsonValue> implements
      */
     private final transient Request entry;
 
+    /**
+     * How to fetch pages.
+     */
+    private final transient Paging paging;
+
     /**
      * Public ctor.
      * @param req Request
@@ -40,9 +81,24 @@ public final class RtValuePagination<T, P extends JsonValue> implements
     public RtValuePagination(
         final Request req,
         final RtValuePagination.Mapping<T, P> mpp
+    ) {
+        this(req, mpp, new Paging());
+    }
+
+    /**
+     * Ctor.
+     * @param req Request
+     * @param mpp Mapping
+     * @param pgn How to fetch pages
+     */
+    private RtValuePagination(
+        final Request req,
+        final RtValuePagination.Mapping<T, P> mpp,
+        final Paging pgn
     ) {
         this.entry = req;
         this.map = mpp;
+        this.paging = pgn;
     }
 
     @Override
@@ -51,8 +107,290 @@ public final class RtValuePagination<T, P extends JsonValue> implements
     }
 
     @Override
-    public Iterator<T> iterator() {
-        return new Items<>(this.entry, this.map);
+    public RtValuePagination.Resumable<T> iterator() {
+        return new Items<>(this.start(), this.map, this.paging);
+    }
+
+    /**
+     * Iterator, which continues from the cursor of another one.
+     *
+     * <p>Elements and pages the stopped iterator went through count
+     * against the limits of the new one.
+     *
+     * @param cursor Cursor of the iterator stopped
+     * @return Iterator
+     * @since 2.0
+     */
+    public RtValuePagination.Resumable<T> resume(
+        final RtValuePagination.Cursor cursor) {
+        return new Items<>(
+            this.entry.uri().set(cursor.page()).back(),
+            this.map, this.paging, cursor
+        );
+    }
+
+    /**
+     * Spliterator, which splits at page boundaries.
+     *
+     * <p>If the first page tells the number of the last one, a parallel
+     * stream fetches the rest of the pages in parallel, in the common
+     * fork-join pool, and maps their elements there. Prefetching and
+     * parallel modes are ignored here. With limits of elements, pages or
+     * time the spliterator can't be split and goes through the iterator.
+     *
+     * @return Spliterator
+     * @since 2.0
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        final Spliterator<T> split;
+        if (this.paging.limit() == 0 && this.paging.maxPages() == 0
+            && this.paging.budget() == 0L) {
+            split = new ItemsSpliterator<>(
+                this.start(), this.map, this.paging
+            );
+        } else {
+            split = Spliterators.spliteratorUnknownSize(
+                this.iterator(), Spliterator.ORDERED | Spliterator.NONNULL
+            );
+        }
+        return split;
+    }
+
+    /**
+     * All elements from the last one to the first one.
+     *
+     * <p>Pages are fetched from the one in the {@code Link} with
+     * {@code rel="last"} of the first page back to the first one, so
+     * a consumer, which needs only the newest elements, stops after
+     * a page or two. Size of pages is honoured, limits are not.
+     *
+     * @return Elements in reverse order
+     * @since 2.0
+     */
+    Iterable<T> backwards() {
+        return () -> new ReversedItems<>(this.start(), this.map, this.paging);
+    }
+
+    /**
+     * Publisher of all elements, which fetches pages only when its
+     * subscriber demands more elements than there are fetched already.
+     *
+     * <p>Pages are fetched one by one in background and nothing is
+     * fetched after the subscription is cancelled. Size of pages,
+     * streaming mode and limits of elements, pages and time are
+     * honoured, while prefetching and parallel modes are not: the
+     * subscriber controls the traffic by its demand.
+     *
+     * @return Publisher
+     * @since 2.0
+     */
+    public Flow.Publisher<T> publisher() {
+        return new AsyncPages<>(
+            Items.<P>source(this.start(), this.paging), this.map
+        );
+    }
+
+    /**
+     * Pagination that fetches next pages in background.
+     * @param pages How many pages to prefetch, zero to fetch on demand
+     * @return New pagination
+     * @since 2.0
+     */
+    public RtValuePagination<T, P> prefetching(final int pages) {
+        return new RtValuePagination<>(
+            this.entry, this.map, this.paging.prefetching(pages)
+        );
+    }
+
+    /**
+     * Pagination that parses elements of pages one by one, when they
+     * are needed, instead of reading whole pages into memory.
+     * @return New pagination
+     * @since 2.0
+     */
+    public RtValuePagination<T, P> streaming() {
+        return new RtValuePagination<>(
+            this.entry, this.map, this.paging.streaming(true)
+        );
+    }
+
+    /**
+     * Pagination that shares repeated strings among all elements it
+     * reads, like logins, label names, states and URLs of users.
+     *
+     * <p>Elements of thousands of pages keep much less memory this way,
+     * if they are kept, for example by {@link Bulk}. The pool of strings
+     * is shared by all paginations and bounded.
+     *
+     * @return New pagination
+     * @since 2.0
+     */
+    public RtValuePagination<T, P> deduplicating() {
+        return new RtValuePagination<>(
+            this.entry, this.map, this.paging.deduplicating(true)
+        );
+    }
+
+    /**
+     * Pagination that reads pages with this codec, instead of the one
+     * configured for the entire library.
+     *
+     * <p>Mappings get elements made by the codec. For example,
+     * {@link LazyJson} doesn't build trees of elements, but reads only
+     * the fields the mapping asks for. Streaming and deduplicating
+     * paginations read pages with their own parsers and ignore codecs.
+     *
+     * @param codec Codec
+     * @return New pagination
+     * @see JsonCodec
+     * @since 2.0
+     */
+    public RtValuePagination<T, P> decoding(final JsonCodec codec) {
+        return new RtValuePagination<>(
+            this.entry, this.map, this.paging.decoding(codec)
+        );
+    }
+
+    /**
+     * Pagination with pages of this size, instead of the one the
+     * entry request may ask for.
+     * @param size Number of elements in a page, up to 100
+     * @return New pagination
+     * @since 2.0
+     */
+    public RtValuePagination<T, P> perPage(final int size) {
+        return new RtValuePagination<>(
+            this.entry, this.map, this.paging.sized(size)
+        );
+    }
+
+    /**
+     * Pagination that stops after this number of elements and doesn't
+     * fetch pages it won't need.
+     * @param items Maximum number of elements, zero for no limit
+     * @return New pagination
+     * @since 2.0
+     */
+    public RtValuePagination<T, P> limit(final int items) {
+        return new RtValuePagination<>(
+            this.entry, this.map, this.paging.limited(items)
+        );
+    }
+
+    /**
+     * Pagination that stops after this number of pages.
+     * @param pages Maximum number of pages, zero for no limit
+     * @return New pagination
+     * @since 2.0
+     */
+    public RtValuePagination<T, P> maxPages(final int pages) {
+        return new RtValuePagination<>(
+            this.entry, this.map, this.paging.capped(pages)
+        );
+    }
+
+    /**
+     * Pagination that doesn't fetch new pages after this time since
+     * the first one was requested.
+     * @param time Time, zero for no limit
+     * @param unit Unit of time
+     * @return New pagination
+     * @since 2.0
+     */
+    public RtValuePagination<T, P> budget(final long time,
+        final TimeUnit unit) {
+        return new RtValuePagination<>(
+            this.entry, this.map, this.paging.timed(time, unit)
+        );
+    }
+
+    /**
+     * Request of the first page.
+     * @return Request
+     */
+    private Request start() {
+        Request start = this.entry;
+        if (this.paging.perPage() > 0) {
+            start = start.uri().set(
+                RtValuePagination.sized(
+                    start.uri().get(), this.paging.perPage()
+                )
+            ).back();
+        }
+        return start;
+    }
+
+    /**
+     * URI with this page size, instead of the one it may have.
+     * @param uri URI
+     * @param size Page size
+     * @return URI
+     */
+    private static URI sized(final URI uri, final int size) {
+        final StringBuilder query = new StringBuilder(0);
+        if (uri.getRawQuery() != null) {
+            for (final String param : uri.getRawQuery().split("&")) {
+                if (!param.isEmpty() && !param.startsWith("per_page=")) {
+                    query.append(param).append('&');
+                }
+            }
+        }
+        query.append("per_page=").append(size);
+        final String text = uri.toString();
+        int end = text.length();
+        if (uri.getRawFragment() != null) {
+            end = text.lastIndexOf('#');
+        }
+        if (uri.getRawQuery() != null) {
+            end = text.indexOf('?');
+        }
+        final StringBuilder out = new StringBuilder(text.length() + 16)
+            .append(text, 0, end).append('?').append(query);
+        if (uri.getRawFragment() != null) {
+            out.append('#').append(uri.getRawFragment());
+        }
+        return URI.create(out.toString());
+    }
+
+    /**
+     * The same pagination with another mapping.
+     * @param mpp Mapping
+     * @param <X> Type of custom object
+     * @return New pagination
+     */
+    <X> RtValuePagination<X, P> with(final RtValuePagination.Mapping<X, P> mpp) {
+        return new RtValuePagination<>(this.entry, mpp, this.paging);
+    }
+
+    /**
+     * Pagination that fetches all pages after the first one in parallel,
+     * if the first one tells the number of the last one, keeping the order
+     * of elements.
+     * @param threads How many pages to fetch at the same time, zero to
+     *  walk "next" links one by one
+     * @return New pagination
+     * @since 2.0
+     */
+    public RtValuePagination<T, P> parallel(final int threads) {
+        return this.parallel(threads, true);
+    }
+
+    /**
+     * Pagination that fetches all pages after the first one in parallel,
+     * if the first one tells the number of the last one.
+     * @param threads How many pages to fetch at the same time, zero to
+     *  walk "next" links one by one
+     * @param ordered Elements must come out in order of pages, otherwise
+     *  pages come out as soon as they are fetched
+     * @return New pagination
+     * @since 2.0
+     */
+    public RtValuePagination<T, P> parallel(final int threads,
+        final boolean ordered) {
+        return new RtValuePagination<>(
+            this.entry, this.map, this.paging.parallel(threads, ordered)
+        );
     }
 
     /**
@@ -88,4 +426,126 @@ public final class RtValuePagination<T, P extends JsonValue> implements
          */
         X map(P value);
     }
+
+    /**
+     * Iterator, which can tell where it is.
+     * @param <X> Type of custom object
+     * @since 2.0
+     */
+    public interface Resumable<X> extends Iterator<X> {
+
+        /**
+         * Position of the iterator, to continue from it later.
+         * @return Cursor
+         */
+        RtValuePagination.Cursor cursor();
+    }
+
+    /**
+     * Position of an iterator: the page in use, the number of its
+     * elements already returned, and how many elements and pages the
+     * iterator went through before, so that limits of a resumed
+     * iterator count them too.
+     * @since 2.0
+     */
+    @Immutable
+    @EqualsAndHashCode
+    public static final class Cursor implements Serializable {
+
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 0x7a3c1e5b9d2f4861L;
+
+        /**
+         * URI of the page.
+         */
+        private final String uri;
+
+        /**
+         * Number of elements of the page already returned.
+         */
+        private final int done;
+
+        /**
+         * Number of elements returned in total.
+         */
+        private final int total;
+
+        /**
+         * Number of pages taken before this one.
+         */
+        private final int turned;
+
+        /**
+         * Public ctor.
+         * @param page URI of the page
+         * @param offset Number of elements of the page already returned
+         */
+        public Cursor(final URI page, final int offset) {
+            this(page, offset, offset, 0);
+        }
+
+        /**
+         * Public ctor.
+         * @param page URI of the page
+         * @param offset Number of elements of the page already returned
+         * @param served Number of elements returned in total
+         * @param pages Number of pages taken before this one
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        public Cursor(final URI page, final int offset, final int served,
+            final int pages) {
+            if (offset < 0 || served < offset || pages < 0) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Invalid position: +%d of %d served, %d pages",
+                        offset, served, pages
+                    )
+                );
+            }
+            this.uri = page.toString();
+            this.done = offset;
+            this.total = served;
+            this.turned = pages;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s +%d", this.uri, this.done);
+        }
+
+        /**
+         * URI of the page.
+         * @return URI
+         */
+        public URI page() {
+            return URI.create(this.uri);
+        }
+
+        /**
+         * Number of elements of the page already returned.
+         * @return Number
+         */
+        public int offset() {
+            return this.done;
+        }
+
+        /**
+         * Number of elements returned in total, including the ones
+         * of this page.
+         * @return Number
+         */
+        public int served() {
+            return this.total;
+        }
+
+        /**
+         * Number of pages taken before this one.
+         * @return Number
+         */
+        public int pages() {
+            return this.turned;
+        }
+    }
 }
@@ -9,6 +9,10 @@ import java.util.Map;
 
 /**
  * GitHub search.
+ *
+ * <p>Results of searches of {@link RtGitHub} are
+ * {@link RtSearchPagination}, with their page size and limits.
+ *
  * @see <a href="https://developer.github.com/v3/search/">Search API</a>
  * @since 0.8
  */
@@ -84,6 +84,6 @@ final class SearchRequest implements Request {
 
     @Override
     public Request through(final Wire wire) {
-        throw new UnsupportedOperationException("#through");
+        return new SearchRequest(this.request.through(wire));
     }
 }
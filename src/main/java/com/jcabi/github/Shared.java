@@ -0,0 +1,233 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Items shared by many consumers.
+ *
+ * <p>This class should be used as a decorator for an iterable of objects
+ * obtained from GitHub, when a number of worker threads process them
+ * together, for example:
+ *
+ * <pre> Iterable&lt;Issue&gt; issues = new Shared&lt;&gt;(
+ *   repo.issues().iterate(new HashMap&lt;String, String&gt;()),
+ *   100
+ * );
+ * for (int idx = 0; idx &lt; 8; ++idx) {
+ *   new Thread(
+ *     () -&gt; {
+ *       for (Issue issue : issues) {
+ *         System.out.println(new Issue.Smart(issue).title());
+ *       }
+ *     }
+ *   ).start();
+ * }</pre>
+ *
+ * <p>Every call of {@link #iterator()} returns a new consumer, and every
+ * item goes to one of them only. The first consumer starts a background
+ * thread, which iterates the original items and puts them into a queue,
+ * no more than the given number ahead of the consumers. When the original
+ * items are over, all consumers stop. If the original iterator fails,
+ * with an exception or an error, like {@link AssertionError} of a page
+ * with an unexpected HTTP status, the failure is thrown from
+ * {@link Iterator#hasNext()} of all consumers, wrapped into
+ * {@link IllegalStateException}.
+ *
+ * <p>When consumers stop before the end of items, the background thread
+ * waits for room in the queue forever. Call {@link #stop()} to stop it;
+ * consumers then get the items fetched already and stop too.
+ *
+ * <p>Items can be consumed only once: consumers created after the end
+ * get nothing.
+ *
+ * @param <T> Type of items
+ * @since 2.0
+ */
+@EqualsAndHashCode(of = "origin")
+public final class Shared<T> implements Iterable<T> {
+
+    /**
+     * End of items, in the queue.
+     */
+    private static final Object END = new Object();
+
+    /**
+     * Original items.
+     */
+    private final transient Iterable<T> origin;
+
+    /**
+     * Items fetched, but not consumed yet.
+     */
+    private final transient BlockingQueue<Object> queue;
+
+    /**
+     * Free places in the queue.
+     */
+    private final transient Semaphore room;
+
+    /**
+     * Fetching started.
+     */
+    private final transient AtomicBoolean started;
+
+    /**
+     * Stop requested.
+     */
+    private final transient AtomicBoolean stopped;
+
+    /**
+     * Background thread, once started.
+     */
+    private final transient AtomicReference<Thread> producer;
+
+    /**
+     * Failure of the original iterator, if any.
+     */
+    private final transient AtomicReference<Throwable> failure;
+
+    /**
+     * Public ctor.
+     * @param items Original items
+     * @param ahead Maximum number of items fetched ahead of consumers
+     */
+    public Shared(final Iterable<T> items, final int ahead) {
+        if (ahead < 1) {
+            throw new IllegalArgumentException(
+                String.format("Queue size must be positive: %d", ahead)
+            );
+        }
+        this.origin = items;
+        this.queue = new LinkedBlockingQueue<>();
+        this.room = new Semaphore(ahead);
+        this.started = new AtomicBoolean();
+        this.stopped = new AtomicBoolean();
+        this.producer = new AtomicReference<>();
+        this.failure = new AtomicReference<>();
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (this.started.compareAndSet(false, true)) {
+            final Thread thread = new Thread(this::fetch, "jcabi-github-shared");
+            thread.setDaemon(true);
+            this.producer.set(thread);
+            thread.start();
+        }
+        return new Shared.Consumer();
+    }
+
+    /**
+     * Stop fetching original items.
+     *
+     * <p>The background thread stops waiting for room in the queue and
+     * ends, and consumers stop after the items fetched already. Items are
+     * not fetched at all if none of consumers are created yet.
+     */
+    public void stop() {
+        this.stopped.set(true);
+        if (!this.started.compareAndSet(false, true)) {
+            final Thread thread = this.producer.get();
+            if (thread != null) {
+                thread.interrupt();
+            }
+        } else {
+            this.queue.add(Shared.END);
+        }
+    }
+
+    /**
+     * Put all original items into the queue.
+     * @checkstyle IllegalCatchCheck (25 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private void fetch() {
+        try {
+            final Iterator<T> items = this.origin.iterator();
+            while (!this.stopped.get() && items.hasNext()) {
+                final T item = items.next();
+                this.room.acquire();
+                this.queue.add(item);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            if (!this.stopped.get()) {
+                this.failure.set(ex);
+            }
+        } catch (final Throwable ex) {
+            if (!this.stopped.get()) {
+                this.failure.set(ex);
+            }
+        } finally {
+            this.queue.add(Shared.END);
+        }
+    }
+
+    /**
+     * One consumer.
+     * @since 2.0
+     */
+    private final class Consumer implements Iterator<T> {
+
+        /**
+         * Item taken from the queue, or NULL.
+         */
+        private transient Object ahead;
+
+        @Override
+        public boolean hasNext() {
+            if (this.ahead == null) {
+                try {
+                    this.ahead = Shared.this.queue.take();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+                if (this.ahead == Shared.END) {
+                    Shared.this.queue.add(Shared.END);
+                } else {
+                    Shared.this.room.release();
+                }
+            }
+            if (this.ahead == Shared.END
+                && Shared.this.failure.get() != null) {
+                throw new IllegalStateException(Shared.this.failure.get());
+            }
+            return this.ahead != Shared.END;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException(
+                    "no more shared items, use #hasNext()"
+                );
+            }
+            final T item = (T) this.ahead;
+            this.ahead = null;
+            return item;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("#remove()");
+        }
+    }
+}
@@ -5,7 +5,6 @@
 package com.jcabi.github;
 
 import com.jcabi.aspects.Immutable;
-import com.jcabi.aspects.Loggable;
 import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
@@ -16,11 +15,18 @@ import lombok.ToString;
 
 /**
  * Smart JSON (supplementary help class).
+ *
+ * <p>It's not {@code @Loggable}, since Smart getters call it many times
+ * per object and log their calls themselves.
+ *
+ * <p>By default every call reads JSON of the object again, which usually
+ * means an HTTP request per getter. A snapshot reads it once, when it's
+ * made, and keeps it, see {@link Snapshottable}.
+ *
  * @since 0.5
  */
 @Immutable
 @ToString
-@Loggable(Loggable.DEBUG)
 @EqualsAndHashCode(of = "object")
 final class SmartJson {
 
@@ -37,6 +43,20 @@ final class SmartJson {
         this.object = obj;
     }
 
+    /**
+     * The same JSON, read now and kept in memory.
+     * @return Smart JSON
+     * @throws IOException If there is any I/O problem
+     * @since 2.0
+     */
+    SmartJson snapshot() throws IOException {
+        JsonReadable origin = this.object;
+        if (origin instanceof SmartJson.Fixed) {
+            origin = ((SmartJson.Fixed) origin).origin;
+        }
+        return new SmartJson(new SmartJson.Fixed(origin, origin.json()));
+    }
+
     /**
      * Get its property as string.
      * @param name Name of the property
@@ -115,4 +135,38 @@ final class SmartJson {
         return value != null
             && !JsonValue.ValueType.NULL.equals(value.getValueType());
     }
+
+    /**
+     * JSON read once, with the object it was read from.
+     * @since 2.0
+     */
+    @ToString(of = "origin")
+    @EqualsAndHashCode(of = { "origin", "json" })
+    private static final class Fixed implements JsonReadable {
+
+        /**
+         * Original object.
+         */
+        private final transient JsonReadable origin;
+
+        /**
+         * JSON read.
+         */
+        private final transient JsonObject json;
+
+        /**
+         * Ctor.
+         * @param obj Original object
+         * @param read JSON read from it
+         */
+        Fixed(final JsonReadable obj, final JsonObject read) {
+            this.origin = obj;
+            this.json = read;
+        }
+
+        @Override
+        public JsonObject json() {
+            return this.json;
+        }
+    }
 }
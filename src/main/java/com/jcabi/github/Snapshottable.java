@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.aspects.Immutable;
+import java.io.IOException;
+
+/**
+ * Object, which can read its JSON once and keep it.
+ *
+ * <p>Getters of {@code Smart} decorators read JSON of their objects on
+ * every call, which usually means an HTTP request per getter. A snapshot
+ * is the same decorator, which read JSON once, when it was made, and
+ * serves all getters from it:
+ *
+ * <pre> Issue.Smart issue = new Issue.Smart(repo.issues().get(1)).snapshot();
+ * String title = issue.title();
+ * String state = issue.state();</pre>
+ *
+ * <p>A snapshot is immutable, like the decorator. To see changes, take
+ * a new one, from the snapshot or from the original decorator. To take
+ * new snapshots when the old ones get too old, use {@link FreshSnapshot}.
+ *
+ * @param <T> Type of snapshots
+ * @since 2.0
+ */
+@Immutable
+@FunctionalInterface
+public interface Snapshottable<T> {
+
+    /**
+     * Read JSON now and make the same object, which keeps it.
+     * @return Snapshot
+     * @throws IOException If there is any I/O problem
+     */
+    T snapshot() throws IOException;
+}
@@ -99,7 +99,7 @@ public interface Status extends JsonReadable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "status", "jsn" })
-    final class Smart implements Status {
+    final class Smart implements Status, Snapshottable<Status.Smart> {
 
         /**
          * Encapsulated status.
@@ -116,8 +116,22 @@ public interface Status extends JsonReadable {
          * @param stat Status
          */
         public Smart(final Status stat) {
+            this(stat, new SmartJson(stat));
+        }
+
+        /**
+         * Ctor.
+         * @param stat Status
+         * @param json SmartJson object
+         */
+        private Smart(final Status stat, final SmartJson json) {
             this.status = stat;
-            this.jsn = new SmartJson(stat);
+            this.jsn = json;
+        }
+
+        @Override
+        public Status.Smart snapshot() throws IOException {
+            return new Status.Smart(this.status, this.jsn.snapshot());
         }
 
         /**
@@ -188,7 +202,7 @@ public interface Status extends JsonReadable {
         public User creator() throws IOException {
             return this.status.commit().repo().github()
                 .users().get(
-                    this.status.json()
+                    this.jsn.json()
                         .getJsonObject("creator")
                         .getString("login")
             );
@@ -211,7 +225,7 @@ public interface Status extends JsonReadable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.status.json();
+            return this.jsn.json();
         }
     }
 }
@@ -85,7 +85,7 @@ public interface User extends JsonReadable, JsonPatchable {
     @ToString
     @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "user", "jsn" })
-    final class Smart implements User {
+    final class Smart implements User, Snapshottable<User.Smart> {
 
         /**
          * Encapsulated user.
@@ -102,8 +102,22 @@ public interface User extends JsonReadable, JsonPatchable {
          * @param usr User
          */
         public Smart(final User usr) {
+            this(usr, new SmartJson(usr));
+        }
+
+        /**
+         * Ctor.
+         * @param usr User
+         * @param json SmartJson object
+         */
+        private Smart(final User usr, final SmartJson json) {
             this.user = usr;
-            this.jsn = new SmartJson(usr);
+            this.jsn = json;
+        }
+
+        @Override
+        public User.Smart snapshot() throws IOException {
+            return new User.Smart(this.user, this.jsn.snapshot());
         }
 
         /**
@@ -122,7 +136,7 @@ public interface User extends JsonReadable, JsonPatchable {
          * @throws IOException If it fails
          */
         public int id() throws IOException {
-            return this.user.json().getJsonNumber("id").intValue();
+            return this.jsn.json().getJsonNumber("id").intValue();
         }
 
         /**
@@ -245,7 +259,7 @@ public interface User extends JsonReadable, JsonPatchable {
 
         @Override
         public JsonObject json() throws IOException {
-            return this.user.json();
+            return this.jsn.json();
         }
 
         @Override
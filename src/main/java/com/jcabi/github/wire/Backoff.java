@@ -0,0 +1,191 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.ToString;
+
+/**
+ * Backoff policy for {@link BackoffWire}, together with its statistics.
+ *
+ * <p>The policy defines how many times a request is retried, how long
+ * to wait between attempts when GitHub doesn't say it in
+ * {@code Retry-After} header, and how many mutating requests
+ * ({@code POST}, {@code PATCH}, {@code PUT} and {@code DELETE}) may be
+ * in flight to one host at the same time. The delays grow exponentially
+ * with "decorrelated jitter": every next delay is a random value between
+ * the base delay and three times the previous one, but never more than
+ * the cap.
+ *
+ * <p>One object should be shared by all threads, otherwise the limit of
+ * concurrent mutating requests doesn't work.
+ *
+ * @since 2.0
+ */
+@ToString(of = { "attempts", "base", "cap", "writers" })
+public final class Backoff {
+
+    /**
+     * Maximum number of attempts.
+     */
+    private final transient int attempts;
+
+    /**
+     * Base delay, in milliseconds.
+     */
+    private final transient long base;
+
+    /**
+     * Maximum delay, in milliseconds.
+     */
+    private final transient long cap;
+
+    /**
+     * Maximum number of concurrent mutating requests per host.
+     */
+    private final transient int writers;
+
+    /**
+     * Semaphores, by host.
+     */
+    private final transient ConcurrentMap<String, Semaphore> hosts;
+
+    /**
+     * Total number of retries.
+     */
+    private final transient AtomicLong retried;
+
+    /**
+     * Total time spent waiting, in milliseconds.
+     */
+    private final transient AtomicLong waited;
+
+    /**
+     * Number of primary rate limit responses.
+     */
+    private final transient AtomicLong primary;
+
+    /**
+     * Number of secondary rate limit responses.
+     */
+    private final transient AtomicLong secondary;
+
+    /**
+     * Ctor.
+     *
+     * <p>Five attempts, delays between one second and one minute,
+     * mutating requests are sent one by one, as GitHub recommends.
+     */
+    public Backoff() {
+        this(5, 1_000L, 60_000L, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param total Maximum number of attempts
+     * @param first Base delay, in milliseconds
+     * @param longest Maximum delay, in milliseconds
+     * @param concurrent Maximum number of concurrent mutating requests
+     *  per host
+     */
+    public Backoff(final int total, final long first, final long longest,
+        final int concurrent) {
+        this.attempts = total;
+        this.base = first;
+        this.cap = longest;
+        this.writers = concurrent;
+        this.hosts = new ConcurrentHashMap<>(0);
+        this.retried = new AtomicLong();
+        this.waited = new AtomicLong();
+        this.primary = new AtomicLong();
+        this.secondary = new AtomicLong();
+    }
+
+    /**
+     * Total number of retries made.
+     * @return Number of retries
+     */
+    public long retries() {
+        return this.retried.get();
+    }
+
+    /**
+     * Total time spent waiting before retries.
+     * @return Milliseconds
+     */
+    public long waited() {
+        return this.waited.get();
+    }
+
+    /**
+     * How many times the primary rate limit was hit.
+     * @return Number of responses
+     */
+    public long primaryLimits() {
+        return this.primary.get();
+    }
+
+    /**
+     * How many times the secondary rate limit was hit.
+     * @return Number of responses
+     */
+    public long secondaryLimits() {
+        return this.secondary.get();
+    }
+
+    /**
+     * Maximum number of attempts.
+     * @return Number of attempts
+     */
+    int attempts() {
+        return this.attempts;
+    }
+
+    /**
+     * Next delay with decorrelated jitter.
+     * @param previous Previous delay, zero if there was none
+     * @return Delay in milliseconds
+     */
+    long next(final long previous) {
+        final long upper = Math.max(this.base, previous * 3L);
+        final long delay;
+        if (upper > this.base) {
+            delay = ThreadLocalRandom.current().nextLong(this.base, upper + 1L);
+        } else {
+            delay = this.base;
+        }
+        return Math.min(this.cap, delay);
+    }
+
+    /**
+     * Semaphore of mutating requests to the host.
+     * @param host Host name
+     * @return Semaphore
+     */
+    Semaphore writers(final String host) {
+        return this.hosts.computeIfAbsent(
+            host, name -> new Semaphore(this.writers, true)
+        );
+    }
+
+    /**
+     * Register a retry.
+     * @param primry TRUE if primary limit was hit, FALSE if secondary
+     * @param delay Time to wait before the retry, in milliseconds
+     */
+    void retry(final boolean primry, final long delay) {
+        if (primry) {
+            this.primary.incrementAndGet();
+        } else {
+            this.secondary.incrementAndGet();
+        }
+        this.retried.incrementAndGet();
+        this.waited.addAndGet(delay);
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import com.jcabi.log.Logger;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Wire that retries requests rejected by GitHub rate limits.
+ *
+ * <p>GitHub has two kinds of rate limits. When the primary limit is
+ * exhausted, it replies with {@code 403} or {@code 429} and
+ * {@code X-RateLimit-Remaining: 0}; this wire waits until
+ * {@code X-RateLimit-Reset} and tries again. When a secondary limit
+ * is hit (too many concurrent requests, too many writes per minute,
+ * etc.), it replies with {@code 403} or {@code 429} and, usually,
+ * with {@code Retry-After} header; this wire waits as long as it says,
+ * or, if the header is absent, as long as {@link Backoff} decides, with
+ * exponentially growing jittered delays. Other responses, including
+ * other {@code 403}, are returned as is. See
+ * <a href="https://docs.github.com/en/rest/using-the-rest-api/rate-limits-for-the-rest-api">
+ * rate limits</a>.
+ *
+ * <p>Mutating requests are also limited: no more than the configured
+ * number of them are sent to one host at the same time.
+ *
+ * <pre>
+ * {@code
+ * Backoff backoff = new Backoff();
+ * GitHub github = new RtGitHub(
+ *     new RtGitHub(oauth).entry().through(BackoffWire.class, backoff)
+ * );
+ * }
+ * </pre>
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode(of = { "origin", "backoff" })
+public final class BackoffWire implements Wire {
+
+    /**
+     * Methods that change data.
+     */
+    private static final Set<String> MUTATING = new HashSet<>(
+        Arrays.asList(Request.POST, Request.PATCH, Request.PUT, Request.DELETE)
+    );
+
+    /**
+     * HTTP status "Too Many Requests".
+     */
+    private static final int TOO_MANY = 429;
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Backoff policy.
+     */
+    private final transient Backoff backoff;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     */
+    public BackoffWire(final Wire wire) {
+        this(wire, new Backoff());
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param policy Backoff policy, shared by all threads
+     */
+    public BackoffWire(final Wire wire, final Backoff policy) {
+        this.origin = wire;
+        this.backoff = policy;
+    }
+
+    @Override
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final byte[] body = IOUtils.toByteArray(content);
+        long jitter = 0L;
+        int attempt = 1;
+        Response resp = this.attempt(
+            req, home, method, headers, body, connect, read
+        );
+        while (attempt < this.backoff.attempts()
+            && BackoffWire.limited(resp)) {
+            final boolean primary = BackoffWire.primary(resp);
+            if (!primary && !BackoffWire.secondary(resp)) {
+                break;
+            }
+            long delay;
+            if (primary) {
+                delay = BackoffWire.untilReset(resp);
+            } else {
+                delay = BackoffWire.retryAfter(resp);
+                if (delay < 0L) {
+                    jitter = this.backoff.next(jitter);
+                    delay = jitter;
+                }
+            }
+            this.backoff.retry(primary, delay);
+            Logger.info(
+                this,
+                "%s rate limit hit at %s %s, attempt #%d, waiting for %[ms]s",
+                BackoffWire.kind(primary), method, home, attempt, delay
+            );
+            try {
+                TimeUnit.MILLISECONDS.sleep(delay);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+            ++attempt;
+            resp = this.attempt(
+                req, home, method, headers, body, connect, read
+            );
+        }
+        return resp;
+    }
+
+    /**
+     * Send one attempt.
+     * @param req Request
+     * @param home URI
+     * @param method HTTP method
+     * @param headers Headers
+     * @param body Body
+     * @param connect Connect timeout
+     * @param read Read timeout
+     * @return Response
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Response attempt(final Request req, final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final byte[] body, final int connect, final int read)
+        throws IOException {
+        final Response resp;
+        if (BackoffWire.MUTATING.contains(method.toUpperCase(Locale.ENGLISH))) {
+            final Semaphore writers = this.backoff.writers(
+                URI.create(home).getAuthority()
+            );
+            try {
+                writers.acquire();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+            try {
+                resp = this.origin.send(
+                    req, home, method, headers,
+                    new ByteArrayInputStream(body), connect, read
+                );
+            } finally {
+                writers.release();
+            }
+        } else {
+            resp = this.origin.send(
+                req, home, method, headers,
+                new ByteArrayInputStream(body), connect, read
+            );
+        }
+        return resp;
+    }
+
+    /**
+     * Is it a rejection by rate limit at all.
+     * @param resp Response
+     * @return TRUE if it is
+     */
+    private static boolean limited(final Response resp) {
+        return resp.status() == HttpURLConnection.HTTP_FORBIDDEN
+            || resp.status() == BackoffWire.TOO_MANY;
+    }
+
+    /**
+     * Is it a rejection by primary rate limit.
+     * @param resp Response
+     * @return TRUE if it is
+     */
+    private static boolean primary(final Response resp) {
+        return BackoffWire.limited(resp)
+            && "0".equals(Headers.first(resp, "X-RateLimit-Remaining"))
+            && Headers.first(resp, "X-RateLimit-Reset") != null
+            && Headers.first(resp, "Retry-After") == null;
+    }
+
+    /**
+     * Is it a rejection by secondary rate limit.
+     *
+     * <p>Headers are checked first. The body is read only if
+     * a {@code 403} has no {@code Retry-After} and is JSON, since
+     * a secondary limit is told from a lack of permissions only by
+     * the message.
+     *
+     * @param resp Response
+     * @return TRUE if it is
+     */
+    private static boolean secondary(final Response resp) {
+        return resp.status() == BackoffWire.TOO_MANY
+            || resp.status() == HttpURLConnection.HTTP_FORBIDDEN
+            && (Headers.first(resp, "Retry-After") != null
+            || BackoffWire.json(resp) && resp.body()
+            .toLowerCase(Locale.ENGLISH).contains("secondary rate limit"));
+    }
+
+    /**
+     * Is the body of the response JSON.
+     * @param resp Response
+     * @return TRUE if it is
+     */
+    private static boolean json(final Response resp) {
+        final String type = Headers.first(resp, "Content-Type");
+        return type != null
+            && type.toLowerCase(Locale.ENGLISH).contains("json");
+    }
+
+    /**
+     * Milliseconds until the primary limit is reset.
+     * @param resp Response
+     * @return Milliseconds
+     */
+    private static long untilReset(final Response resp) {
+        return Math.max(
+            0L,
+            TimeUnit.SECONDS.toMillis(
+                Long.parseLong(Headers.first(resp, "X-RateLimit-Reset"))
+            ) - System.currentTimeMillis()
+        ) + TimeUnit.SECONDS.toMillis(1L);
+    }
+
+    /**
+     * Milliseconds from the {@code Retry-After} header.
+     * @param resp Response
+     * @return Milliseconds, or -1 if header is absent or not a number
+     */
+    private static long retryAfter(final Response resp) {
+        final String value = Headers.first(resp, "Retry-After");
+        long delay = -1L;
+        if (value != null) {
+            try {
+                delay = TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+            } catch (final NumberFormatException ex) {
+                delay = -1L;
+            }
+        }
+        return delay;
+    }
+
+    /**
+     * Name of the limit, for logging.
+     * @param primary Is it primary
+     * @return Name
+     */
+    private static String kind(final boolean primary) {
+        final String kind;
+        if (primary) {
+            kind = "Primary";
+        } else {
+            kind = "Secondary";
+        }
+        return kind;
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.immutable.Array;
+import jakarta.ws.rs.core.HttpHeaders;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that makes conditional GET requests, using {@code ETag} and
+ * {@code Last-Modified} headers of previously seen responses.
+ *
+ * <p>Every successful GET response that has an {@code ETag} or a
+ * {@code Last-Modified} header is saved into a {@link HttpCache}. The
+ * next GET request to the same URI is sent with {@code If-None-Match}
+ * (or {@code If-Modified-Since}) header and if GitHub replies with
+ * {@code 304 Not Modified}, the response is built from the cache. Such
+ * responses are not counted against the rate limit, see
+ * <a href="https://docs.github.com/en/rest/using-the-rest-api/best-practices-for-using-the-rest-api#use-conditional-requests-if-appropriate">
+ * conditional requests</a>.
+ *
+ * <p>The cache is keyed by HTTP method, URI, {@code Accept} header
+ * and a digest of {@code Authorization} header, so that different
+ * credentials never see each other's responses.
+ *
+ * <p>You can use {@code CachingWire} with a {@link com.jcabi.github.GitHub}
+ * object:
+ * <pre>
+ * {@code
+ * HttpCache cache = new HttpCache.InMemory();
+ * GitHub github = new RtGitHub(
+ *     new RtGitHub(oauth).entry().through(CachingWire.class, cache)
+ * );
+ * }
+ * </pre>
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode(of = { "origin", "cache" })
+public final class CachingWire implements Wire {
+
+    /**
+     * Headers of 304 response that must not replace cached ones.
+     */
+    private static final Set<String> KEEP = new TreeSet<>(
+        String.CASE_INSENSITIVE_ORDER
+    );
+
+    static {
+        CachingWire.KEEP.add(HttpHeaders.CONTENT_LENGTH);
+        CachingWire.KEEP.add(HttpHeaders.CONTENT_TYPE);
+        CachingWire.KEEP.add(HttpHeaders.CONTENT_ENCODING);
+    }
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Cache of responses.
+     */
+    private final transient HttpCache cache;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     */
+    public CachingWire(final Wire wire) {
+        this(wire, new HttpCache.InMemory());
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param storage Cache of responses
+     */
+    public CachingWire(final Wire wire, final HttpCache storage) {
+        this.origin = wire;
+        this.cache = storage;
+    }
+
+    @Override
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final Response resp;
+        if (Request.GET.equals(method)) {
+            resp = this.conditional(
+                req, home, headers, content, connect, read
+            );
+        } else {
+            resp = this.origin.send(
+                req, home, method, headers, content, connect, read
+            );
+        }
+        return resp;
+    }
+
+    /**
+     * Key of the request in the cache.
+     * @param method HTTP method
+     * @param home URI
+     * @param headers Request headers
+     * @return Key
+     */
+    static String key(final String method, final String home,
+        final Collection<Map.Entry<String, String>> headers) {
+        return String.join(
+            " ",
+            method,
+            home,
+            CachingWire.header(headers, HttpHeaders.ACCEPT, ""),
+            CachingWire.digest(
+                CachingWire.header(headers, HttpHeaders.AUTHORIZATION, "")
+            )
+        );
+    }
+
+    /**
+     * Send GET request conditionally.
+     * @param req Request
+     * @param home URI
+     * @param headers Headers
+     * @param content Body
+     * @param connect Connect timeout
+     * @param read Read timeout
+     * @return Response
+     * @throws IOException If fails
+     */
+    private Response conditional(final Request req, final String home,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content, final int connect, final int read)
+        throws IOException {
+        final String key = CachingWire.key(Request.GET, home, headers);
+        final HttpCache.Entry cached = this.cache.get(key);
+        final Collection<Map.Entry<String, String>> hdrs;
+        if (cached == null) {
+            this.cache.counters().miss();
+            hdrs = headers;
+        } else {
+            this.cache.counters().hit();
+            hdrs = CachingWire.validators(headers, cached);
+        }
+        final Response resp = this.origin.send(
+            req, home, Request.GET, hdrs, content, connect, read
+        );
+        final Response result;
+        if (cached != null
+            && resp.status() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            this.cache.counters().revalidated();
+            result = CachingWire.restore(req, cached, resp);
+        } else {
+            if (resp.status() == HttpURLConnection.HTTP_OK) {
+                this.save(key, resp);
+            }
+            result = resp;
+        }
+        return result;
+    }
+
+    /**
+     * Save response into the cache, if it can be validated later.
+     * @param key Key
+     * @param resp Response
+     * @throws IOException If fails
+     */
+    private void save(final String key, final Response resp)
+        throws IOException {
+        final String etag = Headers.first(resp, HttpHeaders.ETAG);
+        final String modified = Headers.first(
+            resp, HttpHeaders.LAST_MODIFIED
+        );
+        if (etag != null || modified != null) {
+            final List<Map.Entry<String, String>> hdrs = new ArrayList<>(0);
+            for (final Map.Entry<String, List<String>> header
+                : resp.headers().entrySet()) {
+                for (final String value : header.getValue()) {
+                    hdrs.add(
+                        new AbstractMap.SimpleImmutableEntry<>(
+                            header.getKey(), value
+                        )
+                    );
+                }
+            }
+            this.cache.put(
+                key,
+                new HttpCache.Entry(
+                    etag, modified, resp.reason(), hdrs, resp.binary()
+                )
+            );
+        }
+    }
+
+    /**
+     * Add validators to the headers.
+     * @param headers Original headers
+     * @param cached Cached entry
+     * @return New headers
+     */
+    private static Collection<Map.Entry<String, String>> validators(
+        final Collection<Map.Entry<String, String>> headers,
+        final HttpCache.Entry cached) {
+        final List<Map.Entry<String, String>> hdrs =
+            new ArrayList<>(headers.size() + 1);
+        for (final Map.Entry<String, String> header : headers) {
+            final String name = header.getKey().toLowerCase(Locale.ENGLISH);
+            if (!"if-none-match".equals(name)
+                && !"if-modified-since".equals(name)) {
+                hdrs.add(header);
+            }
+        }
+        if (cached.etag() == null) {
+            hdrs.add(
+                new AbstractMap.SimpleImmutableEntry<>(
+                    HttpHeaders.IF_MODIFIED_SINCE, cached.modified()
+                )
+            );
+        } else {
+            hdrs.add(
+                new AbstractMap.SimpleImmutableEntry<>(
+                    HttpHeaders.IF_NONE_MATCH, cached.etag()
+                )
+            );
+        }
+        return hdrs;
+    }
+
+    /**
+     * Build a response from cached entry and fresh 304 response.
+     *
+     * <p>Fresh headers, like {@code X-RateLimit-Remaining}, replace
+     * cached ones, except the headers that describe the body.
+     *
+     * @param req Request
+     * @param cached Cached entry
+     * @param fresh The 304 response
+     * @return Response
+     */
+    private static Response restore(final Request req,
+        final HttpCache.Entry cached, final Response fresh) {
+        final Map<String, List<String>> latest = fresh.headers();
+        final List<Map.Entry<String, String>> hdrs = new ArrayList<>(0);
+        for (final Map.Entry<String, String> header : cached.headers()) {
+            if (CachingWire.KEEP.contains(header.getKey())
+                || !latest.containsKey(header.getKey())) {
+                hdrs.add(header);
+            }
+        }
+        for (final Map.Entry<String, List<String>> header
+            : latest.entrySet()) {
+            if (!CachingWire.KEEP.contains(header.getKey())) {
+                for (final String value : header.getValue()) {
+                    hdrs.add(
+                        new AbstractMap.SimpleImmutableEntry<>(
+                            header.getKey(), value
+                        )
+                    );
+                }
+            }
+        }
+        return new DefaultResponse(
+            req,
+            HttpURLConnection.HTTP_OK,
+            cached.reason(),
+            new Array<>(hdrs),
+            cached.body()
+        );
+    }
+
+    /**
+     * Get request header value.
+     * @param headers Headers
+     * @param name Header name
+     * @param def Default value
+     * @return Value found
+     */
+    private static String header(
+        final Collection<Map.Entry<String, String>> headers,
+        final String name, final String def) {
+        String value = def;
+        for (final Map.Entry<String, String> header : headers) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                value = header.getValue();
+                break;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * SHA-256 digest of the text, in hex.
+     * @param text The text
+     * @return Digest
+     */
+    private static String digest(final String text) {
+        final String result;
+        if (text.isEmpty()) {
+            result = "anonymous";
+        } else {
+            final MessageDigest sha;
+            try {
+                sha = MessageDigest.getInstance("SHA-256");
+            } catch (final NoSuchAlgorithmException ex) {
+                throw new IllegalStateException(ex);
+            }
+            final StringBuilder hex = new StringBuilder(64);
+            for (final byte bte
+                : sha.digest(text.getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format("%02x", bte));
+            }
+            result = hex.toString();
+        }
+        return result;
+    }
+}
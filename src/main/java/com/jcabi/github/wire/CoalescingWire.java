@@ -0,0 +1,171 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that merges identical concurrent GET requests into one.
+ *
+ * <p>While a GET request is in flight, other threads that make the same
+ * request (the same URI, {@code Accept} and {@code Authorization}
+ * headers) don't send it again, but wait for it to finish and get the
+ * same response, or the same exception. Requests that come after the
+ * response is received are sent as usual.
+ *
+ * <p>All requests made from one {@link com.jcabi.github.GitHub} object
+ * share the wire, so it's enough to add it to the entry:
+ * <pre>
+ * {@code
+ * GitHub github = new RtGitHub(
+ *     new RtGitHub(oauth).entry().through(CoalescingWire.class)
+ * );
+ * }
+ * </pre>
+ *
+ * @since 2.0
+ */
+@ToString(of = "origin")
+@EqualsAndHashCode(of = "origin")
+public final class CoalescingWire implements Wire {
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Requests in flight, by key.
+     */
+    private final transient ConcurrentMap<String, CompletableFuture<Response>>
+        flights;
+
+    /**
+     * Number of requests that were not sent, but joined another one.
+     */
+    private final transient AtomicLong joined;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     */
+    public CoalescingWire(final Wire wire) {
+        this.origin = wire;
+        this.flights = new ConcurrentHashMap<>(0);
+        this.joined = new AtomicLong();
+    }
+
+    @Override
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final Response resp;
+        if (Request.GET.equals(method)) {
+            final String key = CachingWire.key(method, home, headers);
+            final CompletableFuture<Response> mine = new CompletableFuture<>();
+            final CompletableFuture<Response> flight =
+                this.flights.putIfAbsent(key, mine);
+            if (flight == null) {
+                resp = this.lead(
+                    key, mine, req, home, headers, content, connect, read
+                );
+            } else {
+                this.joined.incrementAndGet();
+                resp = CoalescingWire.follow(flight);
+            }
+        } else {
+            resp = this.origin.send(
+                req, home, method, headers, content, connect, read
+            );
+        }
+        return resp;
+    }
+
+    /**
+     * How many requests were not sent, since they joined identical
+     * requests in flight.
+     * @return Number of requests
+     */
+    public long coalesced() {
+        return this.joined.get();
+    }
+
+    /**
+     * Send the request and share its result with followers.
+     * @param key Key of the request
+     * @param flight Future to complete
+     * @param req Request
+     * @param home URI
+     * @param headers Headers
+     * @param content Body
+     * @param connect Connect timeout
+     * @param read Read timeout
+     * @return Response
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Response lead(final String key,
+        final CompletableFuture<Response> flight, final Request req,
+        final String home, final Collection<Map.Entry<String, String>> headers,
+        final InputStream content, final int connect, final int read)
+        throws IOException {
+        try {
+            final Response resp = this.origin.send(
+                req, home, Request.GET, headers, content, connect, read
+            );
+            flight.complete(resp);
+            return resp;
+        } catch (final IOException ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            if (!flight.isDone()) {
+                flight.completeExceptionally(
+                    new IOException(String.format("GET %s failed", home))
+                );
+            }
+            this.flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * Wait for the request in flight.
+     * @param flight Future of the request
+     * @return Response
+     * @throws IOException If the request failed
+     */
+    private static Response follow(final CompletableFuture<Response> flight)
+        throws IOException {
+        try {
+            return flight.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw new IOException(ex.getCause().getMessage(), ex.getCause());
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
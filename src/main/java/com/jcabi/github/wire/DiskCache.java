@@ -0,0 +1,478 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.log.Logger;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.ToString;
+
+/**
+ * Cache of HTTP responses in a file, which survives JVM restarts.
+ *
+ * <p>Entries are appended to a single segment file, one record per
+ * {@link #put(String, HttpCache.Entry)}, through its channel, and the file
+ * is memory-mapped for reading. The mapping is made when the file is
+ * opened and compacted, and again only when the file grows twice as big
+ * as the mapped part; records appended after it are read through the
+ * channel. An index of keys is kept in memory and is rebuilt
+ * by scanning the file when the cache is opened, the latest record of
+ * a key wins. When the file grows above the given size, it is compacted:
+ * the most recently written live records that fit into half of the size
+ * are copied into a new file, which then replaces the old one. Records
+ * bigger than half of the size are not stored at all.
+ *
+ * <p>The object is thread-safe and one instance should be shared by
+ * all {@link com.jcabi.github.GitHub} objects that use the same file:
+ * <pre>
+ * {@code
+ * HttpCache cache = new DiskCache(Paths.get("/var/cache/github.bin"));
+ * GitHub first = new RtGitHub(
+ *     new RtGitHub(oauth).entry().through(CachingWire.class, cache)
+ * );
+ * GitHub second = new RtGitHub(
+ *     new RtGitHub(other).entry().through(CachingWire.class, cache)
+ * );
+ * }
+ * </pre>
+ *
+ * @since 2.0
+ */
+@ToString(of = { "path", "max" })
+@SuppressWarnings("PMD.TooManyMethods")
+public final class DiskCache implements HttpCache, Closeable {
+
+    /**
+     * Default maximum size of the file, in bytes.
+     */
+    private static final long SIZE = 256L * 1024L * 1024L;
+
+    /**
+     * Path of the segment file.
+     */
+    private final transient Path path;
+
+    /**
+     * Maximum size of the file, in bytes.
+     */
+    private final transient long max;
+
+    /**
+     * Counters.
+     */
+    private final transient HttpCache.Counters cnt;
+
+    /**
+     * Lock.
+     */
+    private final transient ReadWriteLock lock;
+
+    /**
+     * Positions of records, in order of writing.
+     */
+    private final transient Map<String, long[]> index;
+
+    /**
+     * Channel of the file.
+     */
+    private transient FileChannel channel;
+
+    /**
+     * Mapped content of the file, maybe not all of it.
+     */
+    private transient MappedByteBuffer mapped;
+
+    /**
+     * Size of the file.
+     */
+    private transient long size;
+
+    /**
+     * Ctor.
+     * @param file Path of the segment file
+     * @throws IOException If fails
+     */
+    public DiskCache(final Path file) throws IOException {
+        this(file, DiskCache.SIZE);
+    }
+
+    /**
+     * Ctor.
+     * @param file Path of the segment file
+     * @param bytes Maximum size of the file in bytes
+     * @throws IOException If fails
+     */
+    public DiskCache(final Path file, final long bytes) throws IOException {
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Size of %d bytes can't be memory-mapped, use less than %d",
+                    bytes, Integer.MAX_VALUE
+                )
+            );
+        }
+        this.path = file.toAbsolutePath();
+        this.max = bytes;
+        this.cnt = new HttpCache.Counters();
+        this.lock = new ReentrantReadWriteLock();
+        this.index = new LinkedHashMap<>(0);
+        this.open();
+    }
+
+    /**
+     * Ctor.
+     * @param file Path of the segment file
+     * @throws IOException If fails
+     */
+    public DiskCache(final String file) throws IOException {
+        this(Paths.get(file));
+    }
+
+    @Override
+    public HttpCache.Entry get(final String key) throws IOException {
+        this.lock.readLock().lock();
+        final byte[] record;
+        try {
+            final long[] pos = this.index.get(key);
+            if (pos == null) {
+                record = null;
+            } else {
+                record = this.bytes(pos[0], (int) pos[1]);
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+        final HttpCache.Entry entry;
+        if (record == null) {
+            entry = null;
+        } else {
+            entry = DiskCache.decode(record).getValue();
+        }
+        return entry;
+    }
+
+    @Override
+    public void put(final String key, final HttpCache.Entry entry)
+        throws IOException {
+        final byte[] record = DiskCache.encode(key, entry);
+        this.lock.writeLock().lock();
+        try {
+            if (Integer.BYTES + record.length > this.max / 2L) {
+                this.index.remove(key);
+                Logger.debug(
+                    this, "Response of %d bytes is too big to cache at %s",
+                    record.length, key
+                );
+            } else {
+                this.append(key, record);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public HttpCache.Counters counters() {
+        return this.cnt;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.lock.writeLock().lock();
+        try {
+            this.channel.close();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Append the record to the file, compacting it first if needed.
+     * @param key Key
+     * @param record The record
+     * @throws IOException If fails
+     */
+    private void append(final String key, final byte[] record)
+        throws IOException {
+        if (this.size + record.length + Integer.BYTES > this.max) {
+            this.compact(this.max / 2L - record.length - Integer.BYTES);
+        }
+        final ByteBuffer buf = ByteBuffer.allocate(
+            Integer.BYTES + record.length
+        );
+        buf.putInt(record.length).put(record).flip();
+        while (buf.hasRemaining()) {
+            this.channel.write(buf, this.size + buf.position());
+        }
+        this.index.remove(key);
+        this.index.put(
+            key, new long[] {this.size + Integer.BYTES, record.length}
+        );
+        this.size += buf.limit();
+        if (this.size > 2L * this.mapped.capacity()) {
+            this.remap();
+        }
+    }
+
+    /**
+     * Read bytes of the file, from the mapping if they are mapped.
+     * @param pos Position in the file
+     * @param length Number of bytes
+     * @return Bytes
+     * @throws IOException If fails
+     */
+    private byte[] bytes(final long pos, final int length) throws IOException {
+        final byte[] bytes = new byte[length];
+        if (pos + length <= this.mapped.capacity()) {
+            final ByteBuffer buf = this.mapped.duplicate();
+            buf.position((int) pos);
+            buf.get(bytes);
+        } else {
+            final ByteBuffer buf = ByteBuffer.wrap(bytes);
+            while (buf.hasRemaining()) {
+                if (this.channel.read(buf, pos + buf.position()) < 0) {
+                    throw new EOFException(
+                        String.format("%s is shorter than expected", this.path)
+                    );
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Open the file and rebuild the index.
+     * @throws IOException If fails
+     */
+    private void open() throws IOException {
+        if (this.path.getParent() != null) {
+            Files.createDirectories(this.path.getParent());
+        }
+        this.channel = FileChannel.open(
+            this.path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+        this.size = this.channel.size();
+        this.remap();
+        this.index.clear();
+        long pos = 0L;
+        while (pos + Integer.BYTES <= this.size) {
+            final int length = this.mapped.getInt((int) pos);
+            if (length <= 0 || pos + Integer.BYTES + length > this.size) {
+                break;
+            }
+            final byte[] record = new byte[length];
+            final ByteBuffer buf = this.mapped.duplicate();
+            buf.position((int) pos + Integer.BYTES);
+            buf.get(record);
+            final String key;
+            try {
+                key = DiskCache.decode(record).getKey();
+            } catch (final IOException ex) {
+                break;
+            }
+            this.index.remove(key);
+            this.index.put(key, new long[] {pos + Integer.BYTES, length});
+            pos += Integer.BYTES + length;
+        }
+        if (pos < this.size) {
+            Logger.warn(
+                this, "Truncating %s at %d, the tail of %d bytes is broken",
+                this.path, pos, this.size - pos
+            );
+            this.channel.truncate(pos);
+            this.size = pos;
+            this.remap();
+        }
+    }
+
+    /**
+     * Copy the latest live records into a new file.
+     * @param limit Maximum number of bytes to keep
+     * @throws IOException If fails
+     */
+    private void compact(final long limit) throws IOException {
+        final List<Map.Entry<String, long[]>> live =
+            new ArrayList<>(this.index.entrySet());
+        int first = live.size();
+        long total = 0L;
+        while (first > 0) {
+            final long next = total + Integer.BYTES + live.get(first - 1)
+                .getValue()[1];
+            if (next > limit) {
+                break;
+            }
+            total = next;
+            --first;
+        }
+        final Path temp = this.path.resolveSibling(
+            String.format("%s.compact", this.path.getFileName())
+        );
+        try (FileChannel out = FileChannel.open(
+            temp,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE
+        )) {
+            for (final Map.Entry<String, long[]> rec
+                : live.subList(first, live.size())) {
+                final ByteBuffer buf = ByteBuffer.wrap(
+                    this.bytes(
+                        rec.getValue()[0] - Integer.BYTES,
+                        Integer.BYTES + (int) rec.getValue()[1]
+                    )
+                );
+                while (buf.hasRemaining()) {
+                    out.write(buf);
+                }
+            }
+            out.force(true);
+        }
+        this.mapped = null;
+        this.channel.close();
+        Files.move(
+            temp, this.path,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE
+        );
+        Logger.info(
+            this, "Compacted %s from %d to %d bytes, %d of %d entries kept",
+            this.path, this.size, total, live.size() - first, live.size()
+        );
+        this.open();
+    }
+
+    /**
+     * Map the file into memory again.
+     * @throws IOException If fails
+     */
+    private void remap() throws IOException {
+        this.mapped = this.channel.map(
+            FileChannel.MapMode.READ_ONLY, 0L, this.size
+        );
+    }
+
+    /**
+     * Serialize the entry.
+     * @param key Key
+     * @param entry The entry
+     * @return Bytes
+     * @throws IOException If fails
+     */
+    private static byte[] encode(final String key,
+        final HttpCache.Entry entry) throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(baos)) {
+            DiskCache.write(out, key);
+            DiskCache.write(out, entry.etag());
+            DiskCache.write(out, entry.modified());
+            DiskCache.write(out, entry.reason());
+            out.writeInt(entry.headers().size());
+            for (final Map.Entry<String, String> header : entry.headers()) {
+                DiskCache.write(out, header.getKey());
+                DiskCache.write(out, header.getValue());
+            }
+            final byte[] body = entry.body();
+            out.writeInt(body.length);
+            out.write(body);
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Deserialize the record.
+     * @param record Bytes
+     * @return Key and entry
+     * @throws IOException If fails
+     */
+    private static Map.Entry<String, HttpCache.Entry> decode(
+        final byte[] record) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+            new ByteArrayInputStream(record)
+        )) {
+            final String key = DiskCache.read(in);
+            final String etag = DiskCache.read(in);
+            final String modified = DiskCache.read(in);
+            final String reason = DiskCache.read(in);
+            final int total = in.readInt();
+            final List<Map.Entry<String, String>> headers =
+                new ArrayList<>(total);
+            for (int idx = 0; idx < total; ++idx) {
+                headers.add(
+                    new AbstractMap.SimpleImmutableEntry<>(
+                        DiskCache.read(in), DiskCache.read(in)
+                    )
+                );
+            }
+            final byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new AbstractMap.SimpleImmutableEntry<>(
+                key,
+                new HttpCache.Entry(etag, modified, reason, headers, body)
+            );
+        } catch (final EOFException | NegativeArraySizeException ex) {
+            throw new IOException("Broken record in the cache", ex);
+        }
+    }
+
+    /**
+     * Write a string, which may be NULL.
+     * @param out Output
+     * @param text The string or NULL
+     * @throws IOException If fails
+     */
+    private static void write(final DataOutputStream out, final String text)
+        throws IOException {
+        if (text == null) {
+            out.writeInt(-1);
+        } else {
+            final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Read a string, which may be NULL.
+     * @param in Input
+     * @return The string or NULL
+     * @throws IOException If fails
+     */
+    private static String read(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        final String text;
+        if (length < 0) {
+            text = null;
+        } else {
+            final byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            text = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return text;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that asks a {@link Governor} for a permit before every request
+ * and reports rate limit headers of every response back to it.
+ *
+ * <p>Unlike {@link CarefulWire}, which puts a thread to sleep only after
+ * the limit is almost exhausted, this wire paces requests before they
+ * are sent, so that the budget lasts until {@code X-RateLimit-Reset}.
+ * The governor must be shared by all threads:
+ * <pre>
+ * {@code
+ * Governor governor = new Governor();
+ * GitHub github = new RtGitHub(
+ *     new RtGitHub(oauth).entry().through(GovernedWire.class, governor)
+ * );
+ * }
+ * </pre>
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode(of = { "origin", "governor" })
+public final class GovernedWire implements Wire {
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Governor.
+     */
+    private final transient Governor governor;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param gvr Governor to share
+     */
+    public GovernedWire(final Wire wire, final Governor gvr) {
+        this.origin = wire;
+        this.governor = gvr;
+    }
+
+    @Override
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        try {
+            this.governor.acquire(Governor.resource(home));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        final Response resp = this.origin
+            .send(req, home, method, headers, content, connect, read);
+        final String remaining = Headers.first(
+            resp, "X-RateLimit-Remaining"
+        );
+        final String reset = Headers.first(resp, "X-RateLimit-Reset");
+        if (remaining != null && reset != null) {
+            String resource = Headers.first(
+                resp, "X-RateLimit-Resource"
+            );
+            if (resource == null) {
+                resource = Governor.resource(home);
+            }
+            this.governor.update(
+                resource, Integer.parseInt(remaining), Long.parseLong(reset)
+            );
+        }
+        return resp;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.ToString;
+
+/**
+ * Rate limit governor, which spreads the remaining budget of requests
+ * evenly over the time left until the limit is reset.
+ *
+ * <p>GitHub counts requests separately for different resources, like
+ * {@code core}, {@code search} and {@code graphql}. For each of them
+ * the governor keeps a token bucket: the bucket is refilled at the rate
+ * of {@code X-RateLimit-Remaining} divided by the number of seconds left
+ * until {@code X-RateLimit-Reset}, and it holds no more than the given
+ * number of tokens, which is the size of the allowed burst. Every
+ * request takes one token before it is sent, waiting for it if the
+ * bucket is empty. Until the first response with rate limit headers
+ * is seen, requests are not delayed.
+ *
+ * <p>One governor must be shared by all threads and all
+ * {@link com.jcabi.github.GitHub} objects that use the same credentials,
+ * see {@link GovernedWire}.
+ *
+ * @since 2.0
+ */
+@ToString(of = "burst")
+public final class Governor {
+
+    /**
+     * Core resource.
+     */
+    public static final String CORE = "core";
+
+    /**
+     * Search resource.
+     */
+    public static final String SEARCH = "search";
+
+    /**
+     * GraphQL resource.
+     */
+    public static final String GRAPHQL = "graphql";
+
+    /**
+     * Maximum number of tokens in a bucket.
+     */
+    private final transient int burst;
+
+    /**
+     * Buckets, by resource.
+     */
+    private final transient ConcurrentMap<String, Governor.Bucket> buckets;
+
+    /**
+     * Ctor.
+     */
+    public Governor() {
+        this(10);
+    }
+
+    /**
+     * Ctor.
+     * @param size Maximum number of requests sent without delay
+     */
+    public Governor(final int size) {
+        this.burst = size;
+        this.buckets = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Wait until the request to the resource can be sent.
+     * @param resource Name of the resource, for example {@link #CORE}
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public void acquire(final String resource) throws InterruptedException {
+        final Governor.Bucket bucket = this.bucket(resource);
+        final long delay = bucket.reserve(System.currentTimeMillis());
+        if (delay > 0L) {
+            bucket.waiting.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(delay);
+            } finally {
+                bucket.waiting.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Update the budget of the resource.
+     * @param resource Name of the resource
+     * @param remaining Value of {@code X-RateLimit-Remaining} header
+     * @param reset Value of {@code X-RateLimit-Reset} header, in seconds
+     */
+    public void update(final String resource, final int remaining,
+        final long reset) {
+        this.bucket(resource).update(
+            System.currentTimeMillis(), remaining,
+            TimeUnit.SECONDS.toMillis(reset)
+        );
+    }
+
+    /**
+     * Current rate of permits of the resource.
+     * @param resource Name of the resource
+     * @return Permits per second, or NaN if nothing is known yet
+     */
+    public double rate(final String resource) {
+        return this.bucket(resource).rate();
+    }
+
+    /**
+     * Number of requests to the resource waiting for permits now.
+     * @param resource Name of the resource
+     * @return Number of waiting requests
+     */
+    public int queue(final String resource) {
+        return this.bucket(resource).waiting.get();
+    }
+
+    /**
+     * Find the resource, which the request to the URI is counted against.
+     * @param uri URI of the request
+     * @return Name of the resource
+     */
+    public static String resource(final String uri) {
+        final String path = URI.create(uri).getPath();
+        final String resource;
+        if (path == null) {
+            resource = Governor.CORE;
+        } else if (path.startsWith("/search/")) {
+            resource = Governor.SEARCH;
+        } else if (path.startsWith("/graphql")) {
+            resource = Governor.GRAPHQL;
+        } else {
+            resource = Governor.CORE;
+        }
+        return resource;
+    }
+
+    /**
+     * Get the bucket of the resource.
+     * @param resource Name of the resource
+     * @return Bucket
+     */
+    private Governor.Bucket bucket(final String resource) {
+        return this.buckets.computeIfAbsent(
+            resource.toLowerCase(Locale.ENGLISH),
+            name -> new Governor.Bucket(this.burst)
+        );
+    }
+
+    /**
+     * Token bucket of one resource.
+     * @since 2.0
+     */
+    private static final class Bucket {
+
+        /**
+         * Number of requests waiting for tokens.
+         */
+        private final transient AtomicInteger waiting;
+
+        /**
+         * Maximum number of tokens.
+         */
+        private final transient int capacity;
+
+        /**
+         * Tokens available, negative if reserved in advance.
+         */
+        private transient double tokens;
+
+        /**
+         * Tokens per millisecond, negative if unknown.
+         */
+        private transient double speed;
+
+        /**
+         * Requests left until reset, as we think.
+         */
+        private transient long remaining;
+
+        /**
+         * Time of reset, in milliseconds.
+         */
+        private transient long reset;
+
+        /**
+         * Time of last refill, in milliseconds.
+         */
+        private transient long refilled;
+
+        /**
+         * Ctor.
+         * @param size Maximum number of tokens
+         */
+        Bucket(final int size) {
+            this.waiting = new AtomicInteger();
+            this.capacity = size;
+            this.tokens = size;
+            this.speed = -1.0d;
+        }
+
+        /**
+         * Take one token.
+         * @param now Current time in milliseconds
+         * @return How many milliseconds to wait before using it
+         */
+        synchronized long reserve(final long now) {
+            final long delay;
+            if (this.speed < 0.0d || now >= this.reset) {
+                delay = 0L;
+            } else if (this.remaining <= 0L) {
+                delay = this.reset - now;
+            } else {
+                this.refill(now);
+                this.tokens -= 1.0d;
+                this.remaining -= 1L;
+                if (this.tokens >= 0.0d) {
+                    delay = 0L;
+                } else {
+                    delay = (long) Math.ceil(-this.tokens / this.speed);
+                }
+            }
+            return delay;
+        }
+
+        /**
+         * Update the budget.
+         * @param now Current time in milliseconds
+         * @param left Requests left until reset
+         * @param when Time of reset in milliseconds
+         */
+        synchronized void update(final long now, final int left,
+            final long when) {
+            this.refill(now);
+            this.remaining = left;
+            this.reset = when;
+            if (when > now) {
+                this.speed = (double) left / (double) (when - now);
+            } else {
+                this.speed = -1.0d;
+            }
+            this.tokens = Math.min(this.tokens, left);
+        }
+
+        /**
+         * Current rate.
+         * @return Permits per second or NaN
+         */
+        synchronized double rate() {
+            final double rate;
+            if (this.speed < 0.0d) {
+                rate = Double.NaN;
+            } else {
+                rate = this.speed * TimeUnit.SECONDS.toMillis(1L);
+            }
+            return rate;
+        }
+
+        /**
+         * Add tokens for the time passed since last refill.
+         * @param now Current time in milliseconds
+         */
+        private void refill(final long now) {
+            if (this.speed > 0.0d && now > this.refilled) {
+                this.tokens = Math.min(
+                    this.capacity,
+                    this.tokens + (now - this.refilled) * this.speed
+                );
+            }
+            this.refilled = now;
+        }
+    }
+}
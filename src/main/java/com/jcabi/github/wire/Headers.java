@@ -0,0 +1,38 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Response;
+import java.util.List;
+
+/**
+ * Headers of responses, as wires of this package read them.
+ *
+ * @since 2.0
+ */
+final class Headers {
+
+    /**
+     * Ctor.
+     */
+    private Headers() {
+        // utility class
+    }
+
+    /**
+     * Get first value of the header.
+     * @param resp Response
+     * @param name Header name
+     * @return Value or NULL if absent
+     */
+    static String first(final Response resp, final String name) {
+        final List<String> values = resp.headers().get(name);
+        String value = null;
+        if (values != null && !values.isEmpty()) {
+            value = values.get(0);
+        }
+        return value;
+    }
+}
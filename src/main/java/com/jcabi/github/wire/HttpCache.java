@@ -0,0 +1,290 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Storage of HTTP responses, used by {@link CachingWire}.
+ *
+ * <p>Implementations must be thread-safe, since one cache is usually
+ * shared by all requests made through a {@link com.jcabi.github.GitHub}
+ * object.
+ *
+ * @since 2.0
+ */
+public interface HttpCache {
+
+    /**
+     * Find an entry.
+     * @param key Key of the entry
+     * @return Entry or NULL if it is absent
+     * @throws IOException If fails
+     */
+    HttpCache.Entry get(String key) throws IOException;
+
+    /**
+     * Save an entry, replacing the previous one, if any.
+     * @param key Key of the entry
+     * @param entry The entry
+     * @throws IOException If fails
+     */
+    void put(String key, HttpCache.Entry entry) throws IOException;
+
+    /**
+     * Counters of this cache.
+     * @return Counters
+     */
+    HttpCache.Counters counters();
+
+    /**
+     * Cached HTTP response.
+     * @since 2.0
+     */
+    @ToString(of = { "etag", "modified" })
+    @EqualsAndHashCode
+    final class Entry {
+
+        /**
+         * Value of {@code ETag} header, or NULL.
+         */
+        private final transient String etag;
+
+        /**
+         * Value of {@code Last-Modified} header, or NULL.
+         */
+        private final transient String modified;
+
+        /**
+         * HTTP reason.
+         */
+        private final transient String reason;
+
+        /**
+         * HTTP headers.
+         */
+        private final transient List<Map.Entry<String, String>> hdrs;
+
+        /**
+         * Body.
+         */
+        private final transient byte[] content;
+
+        /**
+         * Ctor.
+         * @param tag Value of {@code ETag} header, or NULL
+         * @param mdf Value of {@code Last-Modified} header, or NULL
+         * @param rsn HTTP reason
+         * @param headers HTTP headers
+         * @param body Body of the response
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        public Entry(final String tag, final String mdf, final String rsn,
+            final Collection<Map.Entry<String, String>> headers,
+            final byte[] body) {
+            this.etag = tag;
+            this.modified = mdf;
+            this.reason = rsn;
+            final List<Map.Entry<String, String>> list =
+                new ArrayList<>(headers.size());
+            for (final Map.Entry<String, String> header : headers) {
+                list.add(
+                    new AbstractMap.SimpleImmutableEntry<>(
+                        header.getKey(), header.getValue()
+                    )
+                );
+            }
+            this.hdrs = Collections.unmodifiableList(list);
+            this.content = body.clone();
+        }
+
+        /**
+         * Value of {@code ETag} header.
+         * @return ETag or NULL if response didn't have it
+         */
+        public String etag() {
+            return this.etag;
+        }
+
+        /**
+         * Value of {@code Last-Modified} header.
+         * @return Date or NULL if response didn't have it
+         */
+        public String modified() {
+            return this.modified;
+        }
+
+        /**
+         * HTTP reason.
+         * @return Reason
+         */
+        public String reason() {
+            return this.reason;
+        }
+
+        /**
+         * HTTP headers of the response.
+         * @return Headers
+         */
+        public List<Map.Entry<String, String>> headers() {
+            return this.hdrs;
+        }
+
+        /**
+         * Body of the response.
+         * @return Body
+         */
+        public byte[] body() {
+            return this.content.clone();
+        }
+    }
+
+    /**
+     * Counters of cache usage.
+     * @since 2.0
+     */
+    @ToString
+    final class Counters {
+
+        /**
+         * Requests that found an entry in the cache.
+         */
+        private final transient AtomicLong found = new AtomicLong();
+
+        /**
+         * Requests that found nothing in the cache.
+         */
+        private final transient AtomicLong missed = new AtomicLong();
+
+        /**
+         * Requests answered with 304 and served from the cache.
+         */
+        private final transient AtomicLong unmodified = new AtomicLong();
+
+        /**
+         * Register a hit.
+         */
+        public void hit() {
+            this.found.incrementAndGet();
+        }
+
+        /**
+         * Register a miss.
+         */
+        public void miss() {
+            this.missed.incrementAndGet();
+        }
+
+        /**
+         * Register a 304 response served from the cache.
+         */
+        public void revalidated() {
+            this.unmodified.incrementAndGet();
+        }
+
+        /**
+         * How many requests found an entry in the cache.
+         * @return Total number of hits
+         */
+        public long hits() {
+            return this.found.get();
+        }
+
+        /**
+         * How many requests found nothing in the cache.
+         * @return Total number of misses
+         */
+        public long misses() {
+            return this.missed.get();
+        }
+
+        /**
+         * How many cached entries were revalidated by 304 responses.
+         * @return Total number of 304 responses
+         */
+        public long revalidations() {
+            return this.unmodified.get();
+        }
+    }
+
+    /**
+     * Cache in memory, which forgets least recently used entries.
+     * @since 2.0
+     */
+    @ToString(of = "max")
+    final class InMemory implements HttpCache {
+
+        /**
+         * Maximum number of entries.
+         */
+        private final transient int max;
+
+        /**
+         * Entries.
+         */
+        private final transient Map<String, HttpCache.Entry> entries;
+
+        /**
+         * Counters.
+         */
+        private final transient HttpCache.Counters cnt;
+
+        /**
+         * Ctor.
+         */
+        public InMemory() {
+            this(10_000);
+        }
+
+        /**
+         * Ctor.
+         * @param total Maximum number of entries to keep
+         */
+        public InMemory(final int total) {
+            this.max = total;
+            this.cnt = new HttpCache.Counters();
+            this.entries = new LinkedHashMap<String, HttpCache.Entry>(
+                16, 0.75f, true
+            ) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                    final Map.Entry<String, HttpCache.Entry> eldest) {
+                    return this.size() > InMemory.this.max;
+                }
+            };
+        }
+
+        @Override
+        public HttpCache.Entry get(final String key) {
+            synchronized (this.entries) {
+                return this.entries.get(key);
+            }
+        }
+
+        @Override
+        public void put(final String key, final HttpCache.Entry entry) {
+            synchronized (this.entries) {
+                this.entries.put(key, entry);
+            }
+        }
+
+        @Override
+        public HttpCache.Counters counters() {
+            return this.cnt;
+        }
+    }
+}
@@ -0,0 +1,591 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import lombok.ToString;
+
+/**
+ * Metrics of HTTP traffic, grouped by route, used by {@link MetricsWire}.
+ *
+ * <p>A route is a normalized template of the URI path and the HTTP
+ * method, for example {@code GET /repos/{owner}/{repo}/issues/{number}},
+ * so that requests to different issues are counted together. For every
+ * route the object counts requests, statuses, bytes sent and received,
+ * requests charged against the rate limit and a histogram of latencies.
+ *
+ * <p>Metrics can be read programmatically, with {@link #snapshot()},
+ * or via JMX, after {@link #register()}: every route is an MXBean named
+ * {@code com.jcabi.github:type=Route,name="GET /users/{user}"}.
+ *
+ * <p>The object is thread-safe and may be shared by many wires.
+ *
+ * @since 2.0
+ */
+@ToString(of = "domain")
+public final class Metrics {
+
+    /**
+     * Upper bounds of latency buckets, in milliseconds.
+     */
+    private static final long[] BOUNDS = {
+        10L, 25L, 50L, 100L, 250L, 500L, 1_000L, 2_500L, 5_000L, 10_000L,
+        Long.MAX_VALUE,
+    };
+
+    /**
+     * Path segments after which comes the name of a user or organization.
+     */
+    private static final Set<String> OWNERS = new HashSet<>(
+        Arrays.asList("users", "orgs", "gists")
+    );
+
+    /**
+     * Path segments after which the rest of the path is one value.
+     */
+    private static final Set<String> TAILS = new HashSet<>(
+        Arrays.asList("contents", "refs", "ref")
+    );
+
+    /**
+     * Path segments after which comes a name.
+     */
+    private static final Set<String> NAMES = new HashSet<>(
+        Arrays.asList(
+            "labels", "branches", "collaborators", "assignees", "members",
+            "public_members", "tags", "languages", "emojis", "blobs", "trees",
+            "commits", "statuses", "check-runs", "compare"
+        )
+    );
+
+    /**
+     * SHA of a commit.
+     */
+    private static final Pattern SHA = Pattern.compile("[0-9a-f]{40}");
+
+    /**
+     * Number.
+     */
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    /**
+     * JMX domain.
+     */
+    private final transient String domain;
+
+    /**
+     * Routes.
+     */
+    private final transient ConcurrentMap<String, Metrics.Route> routes;
+
+    /**
+     * JMX server, or NULL if not registered.
+     */
+    private transient MBeanServer server;
+
+    /**
+     * Ctor.
+     */
+    public Metrics() {
+        this("com.jcabi.github");
+    }
+
+    /**
+     * Ctor.
+     * @param dmn JMX domain
+     */
+    public Metrics(final String dmn) {
+        this.domain = dmn;
+        this.routes = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Register all routes, the existing and the future ones, in the
+     * platform MBean server.
+     * @return This object
+     * @throws JMException If fails
+     */
+    public Metrics register() throws JMException {
+        synchronized (this.routes) {
+            this.server = ManagementFactory.getPlatformMBeanServer();
+            for (final Map.Entry<String, Metrics.Route> route
+                : this.routes.entrySet()) {
+                this.publish(route.getKey(), route.getValue());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Current metrics of all routes.
+     * @return Metrics by route
+     */
+    public Map<String, Metrics.RouteMXBean> snapshot() {
+        final Map<String, Metrics.RouteMXBean> all = new TreeMap<>();
+        for (final Map.Entry<String, Metrics.Route> route
+            : this.routes.entrySet()) {
+            all.put(route.getKey(), new Metrics.Copy(route.getValue()));
+        }
+        return Collections.unmodifiableMap(all);
+    }
+
+    /**
+     * Record one request.
+     * @param method HTTP method
+     * @param uri URI of the request
+     * @param status HTTP status, or zero if the request failed
+     * @param millis Latency
+     * @param sent Bytes sent
+     * @param received Bytes received
+     * @param charged Was it counted against the rate limit
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public void record(final String method, final String uri,
+        final int status, final long millis, final long sent,
+        final long received, final boolean charged) {
+        final String name = String.format(
+            "%s %s", method, Metrics.template(URI.create(uri).getPath())
+        );
+        Metrics.Route route = this.routes.get(name);
+        if (route == null) {
+            synchronized (this.routes) {
+                route = this.routes.get(name);
+                if (route == null) {
+                    route = new Metrics.Route();
+                    this.routes.put(name, route);
+                    if (this.server != null) {
+                        this.publish(name, route);
+                    }
+                }
+            }
+        }
+        route.add(status, millis, sent, received, charged);
+    }
+
+    /**
+     * Normalize the path to a template.
+     * @param path Path of URI
+     * @return Template
+     */
+    static String template(final String path) {
+        final StringBuilder out = new StringBuilder(path.length());
+        final String[] parts = path.split("/");
+        String prev = "";
+        int idx = 0;
+        while (idx < parts.length) {
+            final String part = parts[idx];
+            ++idx;
+            if (part.isEmpty()) {
+                continue;
+            }
+            out.append('/');
+            if ("repos".equals(prev) && idx < parts.length) {
+                out.append("{owner}/{repo}");
+                ++idx;
+                prev = "{repo}";
+                continue;
+            }
+            if (Metrics.TAILS.contains(prev)) {
+                out.append("{path}");
+                break;
+            }
+            if (Metrics.OWNERS.contains(prev)) {
+                out.append("{name}");
+            } else if (Metrics.SHA.matcher(part).matches()) {
+                out.append("{sha}");
+            } else if (Metrics.NUMBER.matcher(part).matches()) {
+                out.append("{number}");
+            } else if (Metrics.NAMES.contains(prev)) {
+                out.append("{name}");
+            } else {
+                out.append(part);
+            }
+            prev = part;
+        }
+        if (out.length() == 0) {
+            out.append('/');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Register the route in JMX.
+     * @param name Name of the route
+     * @param route The route
+     */
+    private void publish(final String name, final Metrics.Route route) {
+        try {
+            final ObjectName oname = new ObjectName(
+                String.format(
+                    "%s:type=Route,name=%s", this.domain, ObjectName.quote(name)
+                )
+            );
+            if (!this.server.isRegistered(oname)) {
+                this.server.registerMBean(route, oname);
+            }
+        } catch (final JMException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Metrics of one route, exposed via JMX.
+     * @since 2.0
+     */
+    public interface RouteMXBean {
+
+        /**
+         * Total number of requests.
+         * @return Number
+         */
+        long getRequests();
+
+        /**
+         * Number of requests that failed or got status 400 or higher.
+         * @return Number
+         */
+        long getErrors();
+
+        /**
+         * Number of requests counted against the rate limit.
+         * @return Number
+         */
+        long getRateLimitCost();
+
+        /**
+         * Total bytes sent.
+         * @return Bytes
+         */
+        long getBytesSent();
+
+        /**
+         * Total bytes received.
+         * @return Bytes
+         */
+        long getBytesReceived();
+
+        /**
+         * Mean latency.
+         * @return Milliseconds
+         */
+        double getMeanLatency();
+
+        /**
+         * Maximum latency.
+         * @return Milliseconds
+         */
+        long getMaxLatency();
+
+        /**
+         * Latency below which are 50% of requests, approximately.
+         * @return Milliseconds
+         */
+        long getLatency50();
+
+        /**
+         * Latency below which are 95% of requests, approximately.
+         * @return Milliseconds
+         */
+        long getLatency95();
+
+        /**
+         * Latency below which are 99% of requests, approximately.
+         * @return Milliseconds
+         */
+        long getLatency99();
+
+        /**
+         * Number of responses by HTTP status, zero for failed requests.
+         * @return Numbers by status
+         */
+        Map<String, Long> getStatuses();
+    }
+
+    /**
+     * Live metrics of one route.
+     * @since 2.0
+     */
+    private static final class Route implements Metrics.RouteMXBean {
+
+        /**
+         * Requests.
+         */
+        private final transient LongAdder requests = new LongAdder();
+
+        /**
+         * Errors.
+         */
+        private final transient LongAdder errors = new LongAdder();
+
+        /**
+         * Charged requests.
+         */
+        private final transient LongAdder cost = new LongAdder();
+
+        /**
+         * Bytes sent.
+         */
+        private final transient LongAdder sent = new LongAdder();
+
+        /**
+         * Bytes received.
+         */
+        private final transient LongAdder received = new LongAdder();
+
+        /**
+         * Total latency.
+         */
+        private final transient LongAdder latency = new LongAdder();
+
+        /**
+         * Maximum latency.
+         */
+        private final transient LongAccumulator max =
+            new LongAccumulator(Math::max, 0L);
+
+        /**
+         * Histogram of latencies.
+         */
+        private final transient AtomicLongArray buckets =
+            new AtomicLongArray(Metrics.BOUNDS.length);
+
+        /**
+         * Responses by status.
+         */
+        private final transient ConcurrentMap<Integer, LongAdder> statuses =
+            new ConcurrentHashMap<>(0);
+
+        /**
+         * Record one request.
+         * @param status HTTP status, or zero if the request failed
+         * @param millis Latency
+         * @param out Bytes sent
+         * @param in Bytes received
+         * @param charged Was it counted against the rate limit
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        void add(final int status, final long millis, final long out,
+            final long in, final boolean charged) {
+            this.requests.increment();
+            if (status == 0 || status >= 400) {
+                this.errors.increment();
+            }
+            if (charged) {
+                this.cost.increment();
+            }
+            this.sent.add(out);
+            this.received.add(in);
+            this.latency.add(millis);
+            this.max.accumulate(millis);
+            int bucket = 0;
+            while (millis > Metrics.BOUNDS[bucket]) {
+                ++bucket;
+            }
+            this.buckets.incrementAndGet(bucket);
+            this.statuses.computeIfAbsent(status, key -> new LongAdder())
+                .increment();
+        }
+
+        @Override
+        public long getRequests() {
+            return this.requests.sum();
+        }
+
+        @Override
+        public long getErrors() {
+            return this.errors.sum();
+        }
+
+        @Override
+        public long getRateLimitCost() {
+            return this.cost.sum();
+        }
+
+        @Override
+        public long getBytesSent() {
+            return this.sent.sum();
+        }
+
+        @Override
+        public long getBytesReceived() {
+            return this.received.sum();
+        }
+
+        @Override
+        public double getMeanLatency() {
+            final long total = this.requests.sum();
+            final double mean;
+            if (total == 0L) {
+                mean = 0.0d;
+            } else {
+                mean = (double) this.latency.sum() / (double) total;
+            }
+            return mean;
+        }
+
+        @Override
+        public long getMaxLatency() {
+            return this.max.get();
+        }
+
+        @Override
+        public long getLatency50() {
+            return this.percentile(0.50d);
+        }
+
+        @Override
+        public long getLatency95() {
+            return this.percentile(0.95d);
+        }
+
+        @Override
+        public long getLatency99() {
+            return this.percentile(0.99d);
+        }
+
+        @Override
+        public Map<String, Long> getStatuses() {
+            final Map<String, Long> all = new TreeMap<>();
+            for (final Map.Entry<Integer, LongAdder> entry
+                : this.statuses.entrySet()) {
+                all.put(String.valueOf(entry.getKey()), entry.getValue().sum());
+            }
+            return all;
+        }
+
+        /**
+         * Upper bound of the bucket with the given percentile.
+         * @param share Percentile, between zero and one
+         * @return Milliseconds
+         */
+        private long percentile(final double share) {
+            long total = 0L;
+            for (int idx = 0; idx < this.buckets.length(); ++idx) {
+                total += this.buckets.get(idx);
+            }
+            final long target = (long) Math.ceil(total * share);
+            long seen = 0L;
+            long bound = 0L;
+            for (int idx = 0; idx < this.buckets.length(); ++idx) {
+                seen += this.buckets.get(idx);
+                if (seen >= target && total > 0L) {
+                    bound = Math.min(Metrics.BOUNDS[idx], this.max.get());
+                    break;
+                }
+            }
+            return bound;
+        }
+    }
+
+    /**
+     * Immutable copy of metrics of one route.
+     * @since 2.0
+     */
+    @ToString
+    private static final class Copy implements Metrics.RouteMXBean {
+
+        /**
+         * Numbers.
+         */
+        private final transient long[] numbers;
+
+        /**
+         * Mean latency.
+         */
+        private final transient double mean;
+
+        /**
+         * Statuses.
+         */
+        private final transient Map<String, Long> statuses;
+
+        /**
+         * Ctor.
+         * @param route Live metrics
+         */
+        Copy(final Metrics.RouteMXBean route) {
+            this.numbers = new long[] {
+                route.getRequests(), route.getErrors(),
+                route.getRateLimitCost(), route.getBytesSent(),
+                route.getBytesReceived(), route.getMaxLatency(),
+                route.getLatency50(), route.getLatency95(),
+                route.getLatency99(),
+            };
+            this.mean = route.getMeanLatency();
+            this.statuses = Collections.unmodifiableMap(route.getStatuses());
+        }
+
+        @Override
+        public long getRequests() {
+            return this.numbers[0];
+        }
+
+        @Override
+        public long getErrors() {
+            return this.numbers[1];
+        }
+
+        @Override
+        public long getRateLimitCost() {
+            return this.numbers[2];
+        }
+
+        @Override
+        public long getBytesSent() {
+            return this.numbers[3];
+        }
+
+        @Override
+        public long getBytesReceived() {
+            return this.numbers[4];
+        }
+
+        @Override
+        public double getMeanLatency() {
+            return this.mean;
+        }
+
+        @Override
+        public long getMaxLatency() {
+            return this.numbers[5];
+        }
+
+        @Override
+        public long getLatency50() {
+            return this.numbers[6];
+        }
+
+        @Override
+        public long getLatency95() {
+            return this.numbers[7];
+        }
+
+        @Override
+        public long getLatency99() {
+            return this.numbers[8];
+        }
+
+        @Override
+        public Map<String, Long> getStatuses() {
+            return this.statuses;
+        }
+    }
+}
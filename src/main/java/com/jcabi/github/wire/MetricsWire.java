@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Wire that records latency, traffic and status of every request
+ * into {@link Metrics}.
+ *
+ * <p>Search requests go through the same wire as all other requests
+ * of a {@link com.jcabi.github.GitHub} object, so they are recorded too:
+ * <pre>
+ * {@code
+ * Metrics metrics = new Metrics().register();
+ * GitHub github = new RtGitHub(
+ *     new RtGitHub(oauth).entry().through(MetricsWire.class, metrics)
+ * );
+ * }
+ * </pre>
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode(of = { "origin", "metrics" })
+public final class MetricsWire implements Wire {
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Metrics.
+     */
+    private final transient Metrics metrics;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param mtr Metrics to record to
+     */
+    public MetricsWire(final Wire wire, final Metrics mtr) {
+        this.origin = wire;
+        this.metrics = mtr;
+    }
+
+    @Override
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final byte[] body = IOUtils.toByteArray(content);
+        final long start = System.nanoTime();
+        int status = 0;
+        long received = 0L;
+        boolean charged = false;
+        try {
+            final Response resp = this.origin.send(
+                req, home, method, headers,
+                new ByteArrayInputStream(body), connect, read
+            );
+            status = resp.status();
+            received = resp.binary().length;
+            charged = status != HttpURLConnection.HTTP_NOT_MODIFIED
+                && MetricsWire.limited(resp);
+            return resp;
+        } finally {
+            this.metrics.record(
+                method, home, status,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                body.length, received, charged
+            );
+        }
+    }
+
+    /**
+     * Does the response have rate limit headers.
+     * @param resp Response
+     * @return TRUE if it has
+     */
+    private static boolean limited(final Response resp) {
+        final List<String> values = resp.headers().get("X-RateLimit-Remaining");
+        return values != null && !values.isEmpty();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import jakarta.ws.rs.core.HttpHeaders;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that authenticates every request with the token from a
+ * {@link TokenPool} that has the most requests remaining.
+ *
+ * <p>The {@code Authorization} header of the request, if any, is
+ * replaced. The token is taken for the resource of the request, like
+ * {@code search} for {@code /search/issues}. Rate limit headers of the
+ * response are reported back to the pool, for the resource of
+ * {@code X-RateLimit-Resource}, so that exhausted tokens are parked until
+ * their reset:
+ * <pre>
+ * {@code
+ * TokenPool pool = new TokenPool("token-1", "token-2", "token-3");
+ * GitHub github = new RtGitHub(
+ *     new RtGitHub().entry().through(PooledWire.class, pool)
+ * );
+ * }
+ * </pre>
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode(of = { "origin", "pool" })
+public final class PooledWire implements Wire {
+
+    /**
+     * Methods that don't change data.
+     */
+    private static final Set<String> SAFE = new HashSet<>(
+        Arrays.asList(Request.GET, Request.HEAD, Request.OPTIONS)
+    );
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Pool of tokens.
+     */
+    private final transient TokenPool pool;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param tokens Pool of tokens, shared by all threads
+     */
+    public PooledWire(final Wire wire, final TokenPool tokens) {
+        this.origin = wire;
+        this.pool = tokens;
+    }
+
+    @Override
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final String token;
+        try {
+            token = this.pool.take(
+                Governor.resource(home),
+                !PooledWire.SAFE.contains(method.toUpperCase(Locale.ENGLISH))
+            );
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        final List<Map.Entry<String, String>> hdrs =
+            new ArrayList<>(headers.size() + 1);
+        for (final Map.Entry<String, String> header : headers) {
+            if (!HttpHeaders.AUTHORIZATION.equalsIgnoreCase(header.getKey())) {
+                hdrs.add(header);
+            }
+        }
+        hdrs.add(
+            new AbstractMap.SimpleImmutableEntry<>(
+                HttpHeaders.AUTHORIZATION, String.format("token %s", token)
+            )
+        );
+        final Response resp = this.origin
+            .send(req, home, method, hdrs, content, connect, read);
+        final String remaining = Headers.first(
+            resp, "X-RateLimit-Remaining"
+        );
+        final String reset = Headers.first(resp, "X-RateLimit-Reset");
+        if (remaining != null && reset != null) {
+            String resource = Headers.first(resp, "X-RateLimit-Resource");
+            if (resource == null) {
+                resource = Governor.resource(home);
+            }
+            this.pool.update(
+                token, resource,
+                Integer.parseInt(remaining), Long.parseLong(reset)
+            );
+        }
+        return resp;
+    }
+}
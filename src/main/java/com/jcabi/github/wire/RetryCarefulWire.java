@@ -22,7 +22,10 @@ import lombok.ToString;
  * times before giving up and rethrowing the exception.
  *
  * <p>Just a wrapper for a {@link RetryWire} that wraps a
- * {@link CarefulWire} that wraps the underlying wire.
+ * {@link CarefulWire} that wraps the underlying wire. With a
+ * {@link Backoff} given to the constructor, a {@link BackoffWire} goes
+ * between them, so responses rejected by primary or secondary rate limits
+ * are retried too, honouring {@code Retry-After}.
  *
  * <p>You can use {@code RetryCarefulWire} with a
  * {@link com.jcabi.github.GitHub} object:
@@ -56,6 +59,22 @@ public final class RetryCarefulWire implements Wire {
         this.real = new RetryWire(new CarefulWire(wire, threshold));
     }
 
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param threshold Threshold of number of remaining requests, below which
+     *  requests are blocked until reset
+     * @param backoff Backoff policy for rate limited responses, shared by
+     *  all threads
+     * @since 2.0
+     */
+    public RetryCarefulWire(final Wire wire, final int threshold,
+        final Backoff backoff) {
+        this.real = new RetryWire(
+            new BackoffWire(new CarefulWire(wire, threshold), backoff)
+        );
+    }
+
     @Override
     public Response send(
         final Request req,
@@ -0,0 +1,345 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.ToString;
+
+/**
+ * Pool of OAuth tokens, used by {@link PooledWire}.
+ *
+ * <p>The pool remembers {@code X-RateLimit-Remaining} and
+ * {@code X-RateLimit-Reset} of every token, separately for every resource
+ * of {@code X-RateLimit-Resource}, like {@link Governor#CORE} and
+ * {@link Governor#SEARCH}, and gives out the token with the most requests
+ * remaining for the resource of the request. A token with no requests
+ * remaining for a resource is parked until its reset time, for this
+ * resource only. When all tokens are parked, the caller waits for the
+ * earliest reset.
+ *
+ * <p>If stickiness is enabled, all mutating requests use the same token,
+ * as long as it has requests remaining, so that a sequence of writes is
+ * made on behalf of one user.
+ *
+ * <p>The object is thread-safe and must be shared by all threads.
+ *
+ * @since 2.0
+ */
+@ToString(of = "sticky")
+public final class TokenPool {
+
+    /**
+     * Tokens.
+     */
+    private final transient List<TokenPool.Token> tokens;
+
+    /**
+     * Use the same token for all mutating requests.
+     */
+    private final transient boolean sticky;
+
+    /**
+     * Token for mutating requests, or NULL.
+     */
+    private transient TokenPool.Token writer;
+
+    /**
+     * Position to start looking from, to rotate equally good tokens.
+     */
+    private transient int cursor;
+
+    /**
+     * Ctor.
+     * @param all OAuth tokens
+     */
+    public TokenPool(final String... all) {
+        this(Arrays.asList(all), false);
+    }
+
+    /**
+     * Ctor.
+     * @param all OAuth tokens
+     * @param stick Use the same token for all mutating requests
+     */
+    public TokenPool(final Collection<String> all, final boolean stick) {
+        if (all.isEmpty()) {
+            throw new IllegalArgumentException(
+                "At least one token is required"
+            );
+        }
+        this.tokens = new ArrayList<>(all.size());
+        for (final String token : all) {
+            this.tokens.add(new TokenPool.Token(token));
+        }
+        this.sticky = stick;
+    }
+
+    /**
+     * Take the healthiest token for the core resource, waiting if all of
+     * them are exhausted.
+     * @param write Is it for a mutating request
+     * @return Token
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public String take(final boolean write) throws InterruptedException {
+        return this.take(Governor.CORE, write);
+    }
+
+    /**
+     * Take the healthiest token for the resource, waiting if all of
+     * them are exhausted.
+     * @param resource Name of the resource, for example {@link Governor#CORE}
+     * @param write Is it for a mutating request
+     * @return Token
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public String take(final String resource, final boolean write)
+        throws InterruptedException {
+        final String name = resource.toLowerCase(Locale.ENGLISH);
+        while (true) {
+            final long delay;
+            synchronized (this.tokens) {
+                final long now = System.currentTimeMillis();
+                final TokenPool.Token best = this.best(name, write, now);
+                if (best != null) {
+                    best.budget(name).taken();
+                    return best.value;
+                }
+                long earliest = Long.MAX_VALUE;
+                for (final TokenPool.Token token : this.tokens) {
+                    earliest = Math.min(earliest, token.budget(name).reset);
+                }
+                delay = Math.max(1L, earliest - now);
+            }
+            TimeUnit.MILLISECONDS.sleep(delay);
+        }
+    }
+
+    /**
+     * Update the budget of the token for the core resource.
+     * @param token The token
+     * @param remaining Value of {@code X-RateLimit-Remaining} header
+     * @param reset Value of {@code X-RateLimit-Reset} header, in seconds
+     */
+    public void update(final String token, final int remaining,
+        final long reset) {
+        this.update(token, Governor.CORE, remaining, reset);
+    }
+
+    /**
+     * Update the budget of the token for the resource.
+     * @param token The token
+     * @param resource Value of {@code X-RateLimit-Resource} header
+     * @param remaining Value of {@code X-RateLimit-Remaining} header
+     * @param reset Value of {@code X-RateLimit-Reset} header, in seconds
+     */
+    public void update(final String token, final String resource,
+        final int remaining, final long reset) {
+        synchronized (this.tokens) {
+            for (final TokenPool.Token item : this.tokens) {
+                if (item.value.equals(token)) {
+                    final TokenPool.Budget budget = item.budget(
+                        resource.toLowerCase(Locale.ENGLISH)
+                    );
+                    budget.remaining = remaining;
+                    budget.reset = TimeUnit.SECONDS.toMillis(reset);
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of tokens that have requests to the core resource
+     * remaining now.
+     * @return Number of tokens
+     */
+    public int healthy() {
+        return this.healthy(Governor.CORE);
+    }
+
+    /**
+     * Number of tokens that have requests to the resource remaining now.
+     * @param resource Name of the resource
+     * @return Number of tokens
+     */
+    public int healthy(final String resource) {
+        final String name = resource.toLowerCase(Locale.ENGLISH);
+        synchronized (this.tokens) {
+            final long now = System.currentTimeMillis();
+            int total = 0;
+            for (final TokenPool.Token token : this.tokens) {
+                if (token.budget(name).available(now)) {
+                    ++total;
+                }
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Total number of requests to the core resource remaining, as
+     * reported by GitHub.
+     * @return Number of requests, or -1 if some token was never used
+     */
+    public long remaining() {
+        return this.remaining(Governor.CORE);
+    }
+
+    /**
+     * Total number of requests to the resource remaining, as reported
+     * by GitHub.
+     * @param resource Name of the resource
+     * @return Number of requests, or -1 if some token was never used
+     */
+    public long remaining(final String resource) {
+        final String name = resource.toLowerCase(Locale.ENGLISH);
+        synchronized (this.tokens) {
+            long total = 0L;
+            for (final TokenPool.Token token : this.tokens) {
+                final TokenPool.Budget budget = token.budget(name);
+                if (budget.remaining < 0) {
+                    total = -1L;
+                    break;
+                }
+                total += budget.remaining;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Find the best token.
+     * @param resource Name of the resource, in lower case
+     * @param write Is it for a mutating request
+     * @param now Current time in milliseconds
+     * @return Token or NULL if all are parked
+     */
+    private TokenPool.Token best(final String resource, final boolean write,
+        final long now) {
+        TokenPool.Token best = null;
+        if (write && this.sticky && this.writer != null
+            && this.writer.budget(resource).available(now)) {
+            best = this.writer;
+        } else {
+            final int size = this.tokens.size();
+            for (int idx = 0; idx < size; ++idx) {
+                final TokenPool.Token token =
+                    this.tokens.get((this.cursor + idx) % size);
+                final TokenPool.Budget budget = token.budget(resource);
+                if (budget.available(now)
+                    && (best == null
+                    || budget.left(now) > best.budget(resource).left(now))) {
+                    best = token;
+                }
+            }
+            this.cursor = (this.cursor + 1) % size;
+            if (write && this.sticky) {
+                this.writer = best;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * One token.
+     * @since 2.0
+     */
+    private static final class Token {
+
+        /**
+         * The token.
+         */
+        private final transient String value;
+
+        /**
+         * Budgets, by resource.
+         */
+        private final transient Map<String, TokenPool.Budget> budgets;
+
+        /**
+         * Ctor.
+         * @param token The token
+         */
+        Token(final String token) {
+            this.value = token;
+            this.budgets = new HashMap<>(0);
+        }
+
+        /**
+         * Budget of the resource.
+         * @param resource Name of the resource, in lower case
+         * @return Budget
+         */
+        TokenPool.Budget budget(final String resource) {
+            return this.budgets.computeIfAbsent(
+                resource, name -> new TokenPool.Budget()
+            );
+        }
+    }
+
+    /**
+     * Budget of one token for one resource.
+     * @since 2.0
+     */
+    private static final class Budget {
+
+        /**
+         * Requests remaining, negative if unknown.
+         */
+        private transient int remaining;
+
+        /**
+         * Time of reset, in milliseconds.
+         */
+        private transient long reset;
+
+        /**
+         * Ctor.
+         */
+        Budget() {
+            this.remaining = -1;
+        }
+
+        /**
+         * Can it be used now.
+         * @param now Current time in milliseconds
+         * @return TRUE if it can
+         */
+        boolean available(final long now) {
+            return this.remaining != 0 || now >= this.reset;
+        }
+
+        /**
+         * Requests left, as far as we know.
+         * @param now Current time in milliseconds
+         * @return Number of requests
+         */
+        int left(final long now) {
+            final int left;
+            if (this.remaining < 0 || now >= this.reset) {
+                left = Integer.MAX_VALUE;
+            } else {
+                left = this.remaining;
+            }
+            return left;
+        }
+
+        /**
+         * Register one more request in flight.
+         */
+        void taken() {
+            if (this.remaining > 0) {
+                --this.remaining;
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.http.request.ApacheRequest;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.json.JsonObject;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link AsyncGitHub}.
+ * @since 2.0
+ */
+final class AsyncGitHubTest {
+
+    /**
+     * Number of repositories to fetch.
+     */
+    private static final int TOTAL = 20;
+
+    /**
+     * How long the stub server holds a request, waiting for all others
+     * to arrive, in seconds.
+     */
+    private static final long PATIENCE = 10L;
+
+    @Test
+    void keepsMoreRequestsInFlightThanBlockingClient() throws Exception {
+        final ExecutorService threads = Executors.newCachedThreadPool();
+        final AtomicInteger blocking = new AtomicInteger();
+        final HttpServer one = AsyncGitHubTest.server(
+            threads, new CountDownLatch(1), blocking, new AtomicInteger()
+        );
+        final AtomicInteger async = new AtomicInteger();
+        final HttpServer all = AsyncGitHubTest.server(
+            threads, new CountDownLatch(AsyncGitHubTest.TOTAL), async,
+            new AtomicInteger()
+        );
+        try {
+            final GitHub github = new RtGitHub(
+                new ApacheRequest(AsyncGitHubTest.home(one))
+            );
+            for (int idx = 0; idx < AsyncGitHubTest.TOTAL; ++idx) {
+                github.repos().get(AsyncGitHubTest.repo(idx)).json();
+            }
+            final AsyncGitHub client = new AsyncGitHub(
+                "secret", AsyncGitHubTest.home(all)
+            );
+            final List<CompletableFuture<JsonObject>> repos =
+                new ArrayList<>(0);
+            for (int idx = 0; idx < AsyncGitHubTest.TOTAL; ++idx) {
+                repos.add(client.repo(AsyncGitHubTest.repo(idx)));
+            }
+            CompletableFuture.allOf(repos.toArray(new CompletableFuture<?>[0]))
+                .get(1L, TimeUnit.MINUTES);
+            MatcherAssert.assertThat(
+                "Blocking client sent requests at the same time",
+                blocking.get(),
+                Matchers.equalTo(1)
+            );
+            MatcherAssert.assertThat(
+                "Requests were not in flight at the same time",
+                async.get(),
+                Matchers.equalTo(AsyncGitHubTest.TOTAL)
+            );
+            MatcherAssert.assertThat(
+                "JSON wasn't mapped",
+                repos.get(0).get().getString("full_name"),
+                Matchers.equalTo("jcabi/r0")
+            );
+        } finally {
+            one.stop(0);
+            all.stop(0);
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void publishesPagesOnDemand() throws Exception {
+        final ExecutorService threads = Executors.newCachedThreadPool();
+        final AtomicInteger hits = new AtomicInteger();
+        final HttpServer server = AsyncGitHubTest.server(
+            threads, new CountDownLatch(0), new AtomicInteger(), hits
+        );
+        try {
+            final List<String> names = new CopyOnWriteArrayList<>();
+            final CountDownLatch done = new CountDownLatch(1);
+            new AsyncGitHub("secret", AsyncGitHubTest.home(server))
+                .iterate("/list", json -> json.getString("name"))
+                .subscribe(AsyncGitHubTest.subscriber(names, done, 3));
+            MatcherAssert.assertThat(
+                "Publisher didn't stop",
+                done.await(1L, TimeUnit.MINUTES),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                "Wrong elements published",
+                names,
+                Matchers.contains("a", "b", "c")
+            );
+            MatcherAssert.assertThat(
+                "Page was requested after cancellation",
+                hits.get(),
+                Matchers.equalTo(2)
+            );
+        } finally {
+            server.stop(0);
+            threads.shutdownNow();
+        }
+    }
+
+    private static Flow.Subscriber<String> subscriber(
+        final List<String> names, final CountDownLatch done, final int max) {
+        final AtomicInteger seen = new AtomicInteger();
+        return new Flow.Subscriber<String>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(final Flow.Subscription sub) {
+                this.subscription = sub;
+                sub.request(1L);
+            }
+
+            @Override
+            public void onNext(final String item) {
+                names.add(item);
+                if (seen.incrementAndGet() == max) {
+                    this.subscription.cancel();
+                    done.countDown();
+                } else {
+                    this.subscription.request(1L);
+                }
+            }
+
+            @Override
+            public void onError(final Throwable error) {
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        };
+    }
+
+    private static URI home(final HttpServer server) {
+        return URI.create(
+            String.format("http://localhost:%d", server.getAddress().getPort())
+        );
+    }
+
+    private static Coordinates repo(final int idx) {
+        return new Coordinates.Simple("jcabi", String.format("r%d", idx));
+    }
+
+    private static HttpServer server(final ExecutorService threads,
+        final CountDownLatch arrived, final AtomicInteger peak,
+        final AtomicInteger hits) throws IOException {
+        final AtomicInteger flight = new AtomicInteger();
+        final HttpServer server = HttpServer.create(
+            new InetSocketAddress("localhost", 0), 0
+        );
+        server.createContext(
+            "/repos",
+            exchange -> {
+                peak.accumulateAndGet(flight.incrementAndGet(), Math::max);
+                arrived.countDown();
+                try {
+                    arrived.await(AsyncGitHubTest.PATIENCE, TimeUnit.SECONDS);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                flight.decrementAndGet();
+                AsyncGitHubTest.reply(
+                    exchange,
+                    String.format(
+                        "{\"full_name\":\"%s\"}",
+                        exchange.getRequestURI().getPath()
+                            .substring("/repos/".length())
+                    )
+                );
+            }
+        );
+        server.createContext(
+            "/list",
+            exchange -> {
+                hits.incrementAndGet();
+                final String body;
+                if (exchange.getRequestURI().getQuery() == null) {
+                    exchange.getResponseHeaders().add(
+                        "Link",
+                        String.format(
+                            "<%s/list?page=2>; rel=\"next\"",
+                            AsyncGitHubTest.home(server)
+                        )
+                    );
+                    body = "[{\"name\":\"a\"},{\"name\":\"b\"}]";
+                } else {
+                    exchange.getResponseHeaders().add(
+                        "Link",
+                        String.format(
+                            "<%s/list?page=3>; rel=\"next\"",
+                            AsyncGitHubTest.home(server)
+                        )
+                    );
+                    body = "[{\"name\":\"c\"},{\"name\":\"d\"}]";
+                }
+                AsyncGitHubTest.reply(exchange, body);
+            }
+        );
+        server.setExecutor(threads);
+        server.start();
+        return server;
+    }
+
+    private static void reply(final HttpExchange exchange, final String body)
+        throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -4,17 +4,26 @@
  */
 package com.jcabi.github;
 
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.ApacheRequest;
 import com.jcabi.http.request.FakeRequest;
 import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.HttpURLConnection;
+import java.util.Collections;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 
 /**
  * Test case for {@link Bulk}.
  * @since 0.17
  */
+@ExtendWith(RandomPort.class)
 final class BulkTest {
 
     @Test
@@ -37,4 +46,100 @@ final class BulkTest {
         Mockito.verify(origin).number();
         Mockito.verify(origin, Mockito.never()).json();
     }
+
+    @Test
+    void createsIssuesWithJsonOfPage() throws IOException {
+        final Repo repo = Mockito.mock(Repo.class);
+        Mockito.doReturn(new Coordinates.Simple("jeff", "test"))
+            .when(repo).coordinates();
+        final Issue issue = new Bulk<>(
+            new RtIssues(
+                new FakeRequest().withBody(
+                    "[{\"number\": 1, \"title\": \"hello\"}]"
+                ),
+                repo
+            ).iterate(Collections.emptyMap())
+        ).iterator().next();
+        MatcherAssert.assertThat(
+            "Title is not taken from the page",
+            new Issue.Smart(issue).title(),
+            Matchers.equalTo("hello")
+        );
+        MatcherAssert.assertThat(
+            "Issue is wrapped into a proxy",
+            Proxy.isProxyClass(issue.getClass()),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void createsHooksAndReferencesWithJsonOfPage() throws IOException {
+        final Repo repo = Mockito.mock(Repo.class);
+        Mockito.doReturn(new Coordinates.Simple("jeff", "test"))
+            .when(repo).coordinates();
+        final Hook hook = new Bulk<>(
+            new RtHooks(
+                new FakeRequest().withBody("[{\"id\": 5, \"name\": \"web\"}]"),
+                repo
+            ).iterate()
+        ).iterator().next();
+        MatcherAssert.assertThat(
+            "Hook is wrapped into a proxy",
+            Proxy.isProxyClass(hook.getClass()),
+            Matchers.is(false)
+        );
+        final Reference ref = new Bulk<>(
+            new RtReferences(
+                new FakeRequest().withBody(
+                    "[{\"ref\": \"refs/heads/main\", \"node_id\": \"x\"}]"
+                ),
+                repo
+            ).iterate()
+        ).iterator().next();
+        MatcherAssert.assertThat(
+            "Reference is not created with JSON of the page",
+            ref.json().getString("node_id"),
+            Matchers.equalTo("x")
+        );
+        MatcherAssert.assertThat(
+            "Reference is wrapped into a proxy",
+            Proxy.isProxyClass(ref.getClass()),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void createsFoundIssuesWithJsonOfPage() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    String.join(
+                        "",
+                        "{\"total_count\":1,\"items\":[{\"number\":7,",
+                        "\"url\":\"https://api.github.com/repos/jeff/test",
+                        "/issues/7\",\"title\":\"found\"}]}"
+                    )
+                )
+            ).start(RandomPort.port())
+        ) {
+            final Issue issue = new Bulk<>(
+                new RtGitHub(new ApacheRequest(container.home()))
+                    .search().issues(
+                        "found", "updated", Search.Order.DESC,
+                        Collections.emptyMap()
+                    )
+            ).iterator().next();
+            MatcherAssert.assertThat(
+                "Title is not taken from the page",
+                new Issue.Smart(issue).title(),
+                Matchers.equalTo("found")
+            );
+            MatcherAssert.assertThat(
+                "Found issue was fetched one by one",
+                container.queries(),
+                Matchers.equalTo(1)
+            );
+        }
+    }
 }
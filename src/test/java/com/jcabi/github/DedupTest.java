@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.ApacheRequest;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Dedup}.
+ * @since 2.0
+ */
+@ExtendWith(RandomPort.class)
+final class DedupTest {
+
+    @Test
+    void sharesRepeatedStrings() {
+        final JsonArray array = new Dedup(100).read(
+            String.join(
+                "",
+                "[{\"state\":\"open\",\"title\":\"first\",",
+                "\"user\":{\"login\":\"jeff\",\"url\":\"http://a/jeff\"}},",
+                "{\"state\":\"open\",\"title\":\"first\",",
+                "\"user\":{\"login\":\"jeff\",\"url\":\"http://a/jeff\"}}]"
+            ).getBytes(StandardCharsets.UTF_8)
+        ).asJsonArray();
+        final JsonObject first = array.getJsonObject(0);
+        final JsonObject second = array.getJsonObject(1);
+        MatcherAssert.assertThat(
+            "Logins aren't shared",
+            second.getJsonObject("user").getString("login"),
+            Matchers.sameInstance(
+                first.getJsonObject("user").getString("login")
+            )
+        );
+        MatcherAssert.assertThat(
+            "URLs of users aren't shared",
+            second.getJsonObject("user").getString("url"),
+            Matchers.sameInstance(
+                first.getJsonObject("user").getString("url")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Titles are shared",
+            second.getString("title"),
+            Matchers.not(Matchers.sameInstance(first.getString("title")))
+        );
+    }
+
+    @Test
+    void sharesUrlsOfObjectsNestedIntoSingleObject() {
+        final Dedup dedup = new Dedup(100);
+        final String user = String.join(
+            "",
+            "\"user\":{\"login\":\"jeff\",",
+            "\"avatar_url\":\"http://a/jeff.png\"}}"
+        );
+        final JsonObject first = dedup.object(
+            "{\"number\":1,".concat(user).getBytes(StandardCharsets.UTF_8)
+        );
+        final JsonObject second = dedup.object(
+            "{\"number\":2,".concat(user).getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Avatars of users in single objects aren't shared",
+            second.getJsonObject("user").getString("avatar_url"),
+            Matchers.sameInstance(
+                first.getJsonObject("user").getString("avatar_url")
+            )
+        );
+    }
+
+    @Test
+    void keepsPoolBounded() {
+        final Dedup dedup = new Dedup(2);
+        for (final String text : new String[] {"a", "b", "c", "d", "e"}) {
+            dedup.intern(text);
+        }
+        MatcherAssert.assertThat(
+            "Pool is too big",
+            dedup.size(),
+            Matchers.lessThanOrEqualTo(2)
+        );
+    }
+
+    @Test
+    void sharesStringsAmongPages() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    DedupTest.page().withHeader(
+                        "Link", "</s?page=2>; rel=\"next\""
+                    )
+                )
+                .next(DedupTest.page())
+                .start(RandomPort.port())
+        ) {
+            final List<JsonObject> objects = new ArrayList<>(2);
+            new RtValuePagination<JsonObject, JsonObject>(
+                new ApacheRequest(container.home()), object -> object
+            ).deduplicating().streaming().forEach(objects::add);
+            MatcherAssert.assertThat(
+                "Logins aren't shared among pages",
+                objects.get(1).getJsonObject("user").getString("login"),
+                Matchers.sameInstance(
+                    objects.get(0).getJsonObject("user").getString("login")
+                )
+            );
+        }
+    }
+
+    private static MkAnswer.Simple page() {
+        return new MkAnswer.Simple(
+            HttpURLConnection.HTTP_OK,
+            "[{\"number\":1,\"user\":{\"login\":\"walter\"}}]"
+        );
+    }
+}
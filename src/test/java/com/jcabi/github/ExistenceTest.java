@@ -4,18 +4,26 @@
  */
 package com.jcabi.github;
 
+import com.jcabi.http.Request;
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.ApacheRequest;
 import jakarta.json.Json;
 import java.io.IOException;
+import java.net.HttpURLConnection;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 
 /**
  * Unit tests for {@link Existence}.
  * @since 0.38
  */
+@ExtendWith(RandomPort.class)
 final class ExistenceTest {
 
     @Test
@@ -52,4 +60,28 @@ final class ExistenceTest {
             "Should rethrow IOException"
         );
     }
+
+    @Test
+    void checksRepoWithHead() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_NOT_FOUND, "")
+            ).start(RandomPort.port())
+        ) {
+            MatcherAssert.assertThat(
+                "Absent repo exists",
+                new Existence(
+                    new RtGitHub(new ApacheRequest(container.home()))
+                        .repos()
+                        .get(new Coordinates.Simple("jeff", "absent"))
+                ).check(),
+                Matchers.is(Boolean.FALSE)
+            );
+            MatcherAssert.assertThat(
+                "Repo isn't checked with HEAD",
+                container.take().method(),
+                Matchers.equalTo(Request.HEAD)
+            );
+        }
+    }
 }
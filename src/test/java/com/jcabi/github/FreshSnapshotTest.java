@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import jakarta.json.Json;
+import java.io.IOException;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link FreshSnapshot}.
+ * @since 2.0
+ */
+final class FreshSnapshotTest {
+
+    @Test
+    void keepsSnapshotUntilRefresh() throws IOException {
+        final User user = FreshSnapshotTest.user();
+        final FreshSnapshot<User.Smart> fresh =
+            new FreshSnapshot<>(new User.Smart(user));
+        fresh.get().name();
+        fresh.get().json();
+        Mockito.verify(user, Mockito.times(1)).json();
+        fresh.refresh();
+        fresh.get().name();
+        Mockito.verify(user, Mockito.times(2)).json();
+    }
+
+    @Test
+    void takesNewSnapshotWhenOld() throws IOException {
+        final User user = FreshSnapshotTest.user();
+        final FreshSnapshot<User.Smart> fresh =
+            new FreshSnapshot<>(new User.Smart(user), Duration.ZERO);
+        fresh.get().name();
+        fresh.get().name();
+        Mockito.verify(user, Mockito.times(2)).json();
+    }
+
+    private static User user() throws IOException {
+        final User user = Mockito.mock(User.class);
+        Mockito.doReturn(
+            Json.createObjectBuilder()
+                .add("name", "Jeff")
+                .build()
+        ).when(user).json();
+        return user;
+    }
+}
@@ -44,6 +44,29 @@ final class IssueTest {
         );
     }
 
+    @Test
+    void readsJsonOnceInSnapshot() throws IOException {
+        final Issue issue = Mockito.mock(Issue.class);
+        Mockito.doReturn(
+            Json.createObjectBuilder()
+                .add("title", "some title")
+                .add("state", Issue.OPEN_STATE)
+                .add("body", "some body")
+                .build()
+        ).when(issue).json();
+        final Issue.Smart smart = new Issue.Smart(issue).snapshot();
+        smart.title();
+        smart.state();
+        smart.body();
+        Mockito.verify(issue, Mockito.times(1)).json();
+        MatcherAssert.assertThat(
+            "New snapshot has a wrong title",
+            smart.snapshot().title(),
+            Matchers.equalTo("some title")
+        );
+        Mockito.verify(issue, Mockito.times(2)).json();
+    }
+
     @Test
     void detectsPullRequest() throws IOException {
         final Issue issue = Mockito.mock(Issue.class);
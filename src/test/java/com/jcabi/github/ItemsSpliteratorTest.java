@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.ApacheRequest;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link ItemsSpliterator}.
+ * @since 2.0
+ */
+@ExtendWith(RandomPort.class)
+final class ItemsSpliteratorTest {
+
+    @Test
+    void estimatesSizeByLastPage() throws IOException {
+        try (MkContainer container = ItemsSpliteratorTest.pages()) {
+            MatcherAssert.assertThat(
+                "Size wasn't estimated",
+                ItemsSpliteratorTest.split(container).estimateSize(),
+                Matchers.equalTo(3L)
+            );
+        }
+    }
+
+    @Test
+    void splitsAtPageBoundaries() throws IOException {
+        try (MkContainer container = ItemsSpliteratorTest.pages()) {
+            final Spliterator<String> split =
+                ItemsSpliteratorTest.split(container);
+            final Spliterator<String> prefix = split.trySplit();
+            MatcherAssert.assertThat(
+                "Pages weren't split",
+                prefix.estimateSize(),
+                Matchers.equalTo(2L)
+            );
+        }
+    }
+
+    @Test
+    void streamsInParallel() throws IOException {
+        try (MkContainer container = ItemsSpliteratorTest.pages()) {
+            MatcherAssert.assertThat(
+                "Elements were lost",
+                StreamSupport.stream(
+                    ItemsSpliteratorTest.split(container), true
+                ).collect(Collectors.toList()),
+                Matchers.containsInAnyOrder("Jeff", "Mark", "Judy")
+            );
+        }
+    }
+
+    private static Spliterator<String> split(final MkContainer container) {
+        return new RtPagination<>(
+            new ApacheRequest(container.home()),
+            (JsonObject json) -> json.getString("name")
+        ).spliterator();
+    }
+
+    private static MkContainer pages() throws IOException {
+        return new MkGrizzlyContainer()
+            .next(
+                ItemsSpliteratorTest.page("Jeff").withHeader(
+                    "Link",
+                    String.join(
+                        ", ",
+                        "</u?page=2>; rel=\"next\"",
+                        "</u?page=3>; rel=\"last\""
+                    )
+                )
+            )
+            .next(ItemsSpliteratorTest.page("Mark"))
+            .next(ItemsSpliteratorTest.page("Judy"))
+            .start(RandomPort.port());
+    }
+
+    private static MkAnswer.Simple page(final String name) {
+        return new MkAnswer.Simple(
+            HttpURLConnection.HTTP_OK,
+            Json.createArrayBuilder()
+                .add(Json.createObjectBuilder().add("name", name))
+                .build().toString()
+        );
+    }
+}
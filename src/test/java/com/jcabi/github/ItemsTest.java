@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import java.net.URI;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Items}.
+ * @since 2.0
+ */
+final class ItemsTest {
+
+    @Test
+    void readsPageNumber() {
+        MatcherAssert.assertThat(
+            "Page number wasn't found",
+            Items.number(
+                URI.create("https://api.github.com/issues?per_page=2&page=34")
+            ),
+            Matchers.equalTo(34)
+        );
+    }
+
+    @Test
+    void ignoresOtherParams() {
+        MatcherAssert.assertThat(
+            "Page number was found in another param",
+            Items.number(URI.create("https://api.github.com/s?per_page=2")),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void makesUriOfAnotherPage() {
+        MatcherAssert.assertThat(
+            "URI of page is wrong",
+            Items.page(
+                URI.create("https://api.github.com/s?page=9&state=open"), 4
+            ).toString(),
+            Matchers.equalTo("https://api.github.com/s?page=4&state=open")
+        );
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.ApacheRequest;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link LatestEvents}.
+ * @since 2.0
+ */
+@ExtendWith(RandomPort.class)
+final class LatestEventsTest {
+
+    @Test
+    void walksEventsFromLastPage() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    LatestEventsTest.events(
+                        "{\"id\":1,\"event\":\"closed\"}",
+                        "{\"id\":2,\"event\":\"labeled\"}"
+                    ).withHeader(
+                        "Link",
+                        String.join(
+                            ", ",
+                            "</e?per_page=100&page=2>; rel=\"next\"",
+                            "</e?per_page=100&page=3>; rel=\"last\""
+                        )
+                    )
+                )
+                .next(
+                    LatestEventsTest.events(
+                        "{\"id\":5,\"event\":\"closed\"}",
+                        "{\"id\":6,\"event\":\"reopened\"}"
+                    )
+                )
+                .start(RandomPort.port())
+        ) {
+            MatcherAssert.assertThat(
+                "Latest event wasn't found",
+                new Issue.Smart(LatestEventsTest.issue(container))
+                    .latestEvent(Event.CLOSED)
+                    .number(),
+                Matchers.equalTo(5)
+            );
+            MatcherAssert.assertThat(
+                "Too many pages were fetched",
+                container.queries(),
+                Matchers.equalTo(2)
+            );
+        }
+    }
+
+    @Test
+    void remembersLatestEvents() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    LatestEventsTest.events(
+                        "{\"id\":1,\"event\":\"closed\"}",
+                        "{\"id\":2,\"event\":\"labeled\"}"
+                    )
+                )
+                .next(
+                    LatestEventsTest.events(
+                        "{\"id\":1,\"event\":\"closed\"}",
+                        "{\"id\":2,\"event\":\"labeled\"}",
+                        "{\"id\":3,\"event\":\"reopened\"}"
+                    )
+                )
+                .start(RandomPort.port())
+        ) {
+            final Issue issue = LatestEventsTest.issue(container);
+            final LatestEvents latest = new LatestEvents();
+            latest.of(issue, Event.LABELED);
+            MatcherAssert.assertThat(
+                "Event seen before was forgotten",
+                latest.of(issue, Event.CLOSED).number(),
+                Matchers.equalTo(1)
+            );
+        }
+    }
+
+    private static Issue issue(final MkContainer container) {
+        return new RtGitHub(new ApacheRequest(container.home()))
+            .repos()
+            .get(new Coordinates.Simple("jeff", "test"))
+            .issues()
+            .get(1);
+    }
+
+    private static MkAnswer.Simple events(final String... events) {
+        return new MkAnswer.Simple(
+            HttpURLConnection.HTTP_OK,
+            String.format("[%s]", String.join(",", events))
+        );
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.ApacheRequest;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link LazyJson}.
+ * @since 2.0
+ */
+@ExtendWith(RandomPort.class)
+final class LazyJsonTest {
+
+    @Test
+    void readsLikeTree() {
+        final byte[] body = String.join(
+            "",
+            "{\"number\":42,\"title\":\"Say \\\"hi\\\" \\u00e9\\n\",",
+            "\"user\":{\"login\":\"jeff\",\"site_admin\":false},",
+            "\"labels\":[{\"name\":\"bug\"},{\"name\":\"ü\"}],",
+            "\"score\":-1.5e3,\"id\":123456789012345678901,",
+            "\"milestone\":null,\"locked\":true,\"nested\":[[1,[2]],{}]}"
+        ).getBytes(StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            "JSON differs from the tree",
+            new LazyJson().object(body),
+            Matchers.equalTo(new JsonCodec.Tree().object(body))
+        );
+    }
+
+    @Test
+    void readsNestedFields() {
+        final JsonObject json = new LazyJson().array(
+            "[ {\"user\" : {\"login\": \"walter\"}} ]"
+                .getBytes(StandardCharsets.UTF_8)
+        ).getJsonObject(0);
+        MatcherAssert.assertThat(
+            "Nested field wasn't read",
+            json.getJsonObject("user").getString("login"),
+            Matchers.equalTo("walter")
+        );
+    }
+
+    @Test
+    void failsOnBrokenJsonWhenRead() {
+        final JsonObject json = new LazyJson().object(
+            "{\"a\":1".getBytes(StandardCharsets.UTF_8)
+        );
+        Assertions.assertThrows(
+            JsonException.class,
+            () -> json.get("a"),
+            "Broken JSON was read"
+        );
+    }
+
+    @Test
+    void checksTypesOfValues() {
+        final List<JsonNumber> numbers = new LazyJson().array(
+            "[1,\"a\"]".getBytes(StandardCharsets.UTF_8)
+        ).getValuesAs(JsonNumber.class);
+        MatcherAssert.assertThat(
+            "Number wasn't read",
+            numbers.get(0).intValue(),
+            Matchers.equalTo(1)
+        );
+        Assertions.assertThrows(
+            ClassCastException.class,
+            () -> numbers.get(1),
+            "String was returned as a number"
+        );
+    }
+
+    @Test
+    void mapsElementsOfPages() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    "[{\"number\":1,\"body\":\"a\"},{\"number\":2}]"
+                )
+            ).start(RandomPort.port())
+        ) {
+            final List<Integer> numbers = new ArrayList<>(2);
+            new RtValuePagination<Integer, JsonObject>(
+                new ApacheRequest(container.home()),
+                object -> object.getInt("number")
+            ).decoding(new LazyJson()).forEach(numbers::add);
+            MatcherAssert.assertThat(
+                "Elements weren't mapped",
+                numbers,
+                Matchers.contains(1, 2)
+            );
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Parallel}.
+ * @since 2.0
+ */
+final class ParallelTest {
+
+    @Test
+    void keepsOrderOfItems() {
+        final List<Integer> results = new ArrayList<>(0);
+        for (final Integer num : new Parallel<>(
+            Arrays.asList(5, 1, 4, 2, 3), 3,
+            item -> {
+                ParallelTest.sleep(item * 10L);
+                return item * 2;
+            }
+        )) {
+            results.add(num);
+        }
+        MatcherAssert.assertThat(
+            "Order of results is wrong",
+            results,
+            Matchers.contains(10, 2, 8, 4, 6)
+        );
+    }
+
+    @Test
+    void returnsUnorderedResultsWhenReady() {
+        final List<Integer> results = new ArrayList<>(0);
+        for (final Integer num : new Parallel<>(
+            Arrays.asList(50, 1, 2), 3,
+            item -> {
+                ParallelTest.sleep(item * 10L);
+                return item;
+            }
+        ).unordered()) {
+            results.add(num);
+        }
+        MatcherAssert.assertThat(
+            "Slow result came first",
+            results,
+            Matchers.contains(1, 2, 50)
+        );
+    }
+
+    @Test
+    void limitsNumberOfRunningTasks() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        final List<Integer> items = new ArrayList<>(0);
+        for (int idx = 0; idx < 20; ++idx) {
+            items.add(idx);
+        }
+        for (final Integer ignored : new Parallel<>(
+            items, 4,
+            item -> {
+                max.accumulateAndGet(running.incrementAndGet(), Math::max);
+                ParallelTest.sleep(20L);
+                running.decrementAndGet();
+                return item;
+            }
+        )) {
+            MatcherAssert.assertThat(
+                "Too many tasks were running",
+                max.get(),
+                Matchers.lessThanOrEqualTo(4)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Tasks didn't run in parallel",
+            max.get(),
+            Matchers.greaterThan(1)
+        );
+    }
+
+    @Test
+    void propagatesFirstFailure() {
+        final Iterable<String> results = new Parallel<>(
+            Arrays.asList("a", "b", "c"), 2,
+            item -> {
+                if ("b".equals(item)) {
+                    throw new IOException("broken");
+                }
+                return item;
+            }
+        );
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> {
+                for (final String item : results) {
+                    MatcherAssert.assertThat(
+                        "Failed item was returned",
+                        item,
+                        Matchers.equalTo("a")
+                    );
+                }
+            },
+            "Failure wasn't propagated"
+        );
+    }
+
+    @Test
+    void sharesThreadsAmongAbandonedIterators() {
+        final List<Integer> items = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8);
+        final int before = Thread.activeCount();
+        for (int idx = 0; idx < 100; ++idx) {
+            new Parallel<>(items, 4, item -> item).iterator().next();
+        }
+        MatcherAssert.assertThat(
+            "Abandoned iterators kept their threads",
+            Thread.activeCount() - before,
+            Matchers.lessThan(50)
+        );
+    }
+
+    private static void sleep(final long msec) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(msec);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import com.jcabi.http.request.FakeRequest;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Projection}.
+ * @since 2.0
+ */
+final class ProjectionTest {
+
+    @Test
+    void keepsProjectedFields() {
+        final Projection.Row row = new Projection(
+            "number", "title", "user.login", "locked", "milestone"
+        ).map(
+            Json.createObjectBuilder()
+                .add("number", 42)
+                .add("title", "Broken build")
+                .add("url", "https://api.github.com/repos/jeff/test/issues/42")
+                .add("user", Json.createObjectBuilder().add("login", "jeff"))
+                .add("locked", true)
+                .addNull("milestone")
+                .build()
+        );
+        MatcherAssert.assertThat(
+            "Fields are not projected",
+            row.json(),
+            Matchers.equalTo(
+                Json.createObjectBuilder()
+                    .add("number", 42L)
+                    .add("title", "Broken build")
+                    .add("user.login", "jeff")
+                    .add("locked", true)
+                    .addNull("milestone")
+                    .build()
+            )
+        );
+    }
+
+    @Test
+    void keepsDecimalsAndTreesAsJson() {
+        final Projection.Row row = new Projection(
+            "score", "labels", "user"
+        ).map(
+            Json.createObjectBuilder()
+                .add("score", new BigDecimal("1.5"))
+                .add("labels", Json.createArrayBuilder().add("bug"))
+                .add("user", Json.createObjectBuilder().add("id", 1))
+                .build()
+        );
+        MatcherAssert.assertThat(
+            "Values are not kept as JSON",
+            row.json(),
+            Matchers.equalTo(
+                Json.createObjectBuilder()
+                    .add("score", new BigDecimal("1.5"))
+                    .add("labels", Json.createArrayBuilder().add("bug"))
+                    .add("user", Json.createObjectBuilder().add("id", 1))
+                    .build()
+            )
+        );
+    }
+
+    @Test
+    void sharesOnlyRepeatedStrings() {
+        final Projection projection = new Projection("title", "user.login");
+        final Projection.Row first = projection.map(
+            ProjectionTest.issue("Broken", "jeff")
+        );
+        final Projection.Row second = projection.map(
+            ProjectionTest.issue("Broken", "jeff")
+        );
+        MatcherAssert.assertThat(
+            "Logins are not shared",
+            first.text("user.login"),
+            Matchers.sameInstance(second.text("user.login"))
+        );
+        MatcherAssert.assertThat(
+            "Titles are pooled",
+            first.text("title"),
+            Matchers.not(Matchers.sameInstance(second.text("title")))
+        );
+    }
+
+    @Test
+    void rejectsFieldNotProjected() {
+        final Projection.Row row = new Projection("number").map(
+            Json.createObjectBuilder().add("number", 1).build()
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> row.text("title"),
+            "Field not projected was read"
+        );
+    }
+
+    @Test
+    void projectsPagination() {
+        final List<String> logins = new ArrayList<>(0);
+        for (final Projection.Row row : new RtPagination<>(
+            new FakeRequest().withBody(
+                "[{\"number\":1,\"user\":{\"login\":\"jeff\"}}]"
+            ),
+            RtPagination.COPYING
+        ).projected("number", "user.login")) {
+            logins.add(row.text("user.login"));
+        }
+        MatcherAssert.assertThat(
+            "Pagination is not projected",
+            logins,
+            Matchers.contains("jeff")
+        );
+    }
+
+    private static JsonObject issue(final String title, final String login) {
+        return Json.createObjectBuilder()
+            .add("title", new StringBuilder(title).toString())
+            .add(
+                "user",
+                Json.createObjectBuilder()
+                    .add("login", new StringBuilder(login).toString())
+            )
+            .build();
+    }
+}
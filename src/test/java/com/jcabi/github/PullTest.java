@@ -34,6 +34,24 @@ final class PullTest {
         );
     }
 
+    @Test
+    void readsJsonOnceInSnapshot() throws IOException {
+        final Pull pull = Mockito.mock(Pull.class);
+        Mockito.doReturn(
+            Json.createObjectBuilder()
+                .add("state", "open")
+                .add("title", "Fix the build")
+                .add("comments", 2)
+                .build()
+        ).when(pull).json();
+        final Pull.Smart smart = new Pull.Smart(pull).snapshot();
+        smart.state();
+        smart.title();
+        smart.commentsCount();
+        smart.json();
+        Mockito.verify(pull, Mockito.times(1)).json();
+    }
+
     @Test
     void getsIssue() {
         final int number = 2;
@@ -33,6 +33,38 @@ final class RepoTest {
         );
     }
 
+    @Test
+    void comparesSnapshotsByJson() throws IOException {
+        final Repo repo = Mockito.mock(Repo.class);
+        Mockito.doReturn(
+            Json.createObjectBuilder()
+                .add("description", "first")
+                .build()
+        ).when(repo).json();
+        final Repo.Smart smart = new Repo.Smart(repo);
+        final Repo.Smart snapshot = smart.snapshot();
+        MatcherAssert.assertThat(
+            "Snapshots of the same JSON are not equal",
+            snapshot,
+            Matchers.equalTo(smart.snapshot())
+        );
+        Mockito.doReturn(
+            Json.createObjectBuilder()
+                .add("description", "second")
+                .build()
+        ).when(repo).json();
+        MatcherAssert.assertThat(
+            "Snapshot doesn't keep its JSON",
+            snapshot.description(),
+            Matchers.equalTo("first")
+        );
+        MatcherAssert.assertThat(
+            "Snapshots of different JSON are equal",
+            snapshot,
+            Matchers.not(Matchers.equalTo(snapshot.snapshot()))
+        );
+    }
+
     @Test
     void canFetchPrivateStatus() throws IOException {
         final Repo repo = new MkGitHub().randomRepo();
@@ -9,6 +9,7 @@ import com.jcabi.http.mock.MkContainer;
 import com.jcabi.http.mock.MkGrizzlyContainer;
 import com.jcabi.http.request.ApacheRequest;
 import jakarta.json.Json;
+import jakarta.json.JsonException;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import org.hamcrest.MatcherAssert;
@@ -65,6 +66,45 @@ final class RtJsonTest {
         }
     }
 
+    @Test
+    void fallsBackToTreeWhenCodecIsMistyped() {
+        MatcherAssert.assertThat(
+            "Mistyped codec wasn't replaced with the default one",
+            RtJson.configured("com.jcabi.github.JsonCodec.Tre"),
+            Matchers.instanceOf(JsonCodec.Tree.class)
+        );
+    }
+
+    @Test
+    void fallsBackToTreeWhenClassIsNotCodec() {
+        MatcherAssert.assertThat(
+            "Class, which isn't a codec, wasn't ignored",
+            RtJson.configured(String.class.getName()),
+            Matchers.instanceOf(JsonCodec.Tree.class)
+        );
+    }
+
+    @Test
+    void tellsResponseWhenJsonIsBroken() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    "<html>Unicorn!</html>"
+                )
+            ).start(RandomPort.port())
+        ) {
+            MatcherAssert.assertThat(
+                "Response is not in the error",
+                Assertions.assertThrows(
+                    JsonException.class,
+                    new RtJson(new ApacheRequest(container.home()))::fetch
+                ).getMessage(),
+                Matchers.containsString("Unicorn!")
+            );
+        }
+    }
+
     @Test
     void throwsIoExceptionWhenPatchStatusIsUnexpected() throws IOException {
         try (
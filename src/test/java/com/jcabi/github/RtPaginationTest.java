@@ -82,6 +82,122 @@ final class RtPaginationTest {
         }
     }
 
+    @Test
+    void stopsAfterLimit() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(RtPaginationTest.linked())
+                .next(RtPaginationTest.simple("Hi Mark"))
+                .start(RandomPort.port())
+        ) {
+            int count = 0;
+            for (final JsonObject ignored
+                : RtPaginationTest.page(container).limit(1)) {
+                ++count;
+            }
+            MatcherAssert.assertThat(
+                "Limit was ignored",
+                count,
+                Matchers.equalTo(1)
+            );
+            MatcherAssert.assertThat(
+                "Page size wasn't asked for",
+                container.take().uri().toString(),
+                Matchers.containsString("per_page=1")
+            );
+        }
+    }
+
+    @Test
+    void stopsAfterMaxPages() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(RtPaginationTest.linked())
+                .next(RtPaginationTest.simple("Hi Mark"))
+                .start(RandomPort.port())
+        ) {
+            int count = 0;
+            for (final JsonObject ignored
+                : RtPaginationTest.page(container).perPage(1).maxPages(1)) {
+                ++count;
+            }
+            MatcherAssert.assertThat(
+                "Second page was fetched",
+                count,
+                Matchers.equalTo(1)
+            );
+        }
+    }
+
+    @Test
+    void resumesFromCursor() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(RtPaginationTest.linked())
+                .next(RtPaginationTest.simple("Hi Mark"))
+                .start(RandomPort.port())
+        ) {
+            final RtPagination<JsonObject> page =
+                RtPaginationTest.page(container);
+            final RtValuePagination.Resumable<JsonObject> first =
+                page.iterator();
+            first.next();
+            MatcherAssert.assertThat(
+                "Iterator didn't continue from cursor",
+                page.resume(first.cursor()).next().toString(),
+                Matchers.containsString("Mark")
+            );
+        }
+    }
+
+    @Test
+    void keepsLimitAfterResume() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(RtPaginationTest.linked())
+                .next(RtPaginationTest.simple("Hi Mark"))
+                .start(RandomPort.port())
+        ) {
+            final RtPagination<JsonObject> page =
+                RtPaginationTest.page(container).limit(1);
+            final RtValuePagination.Resumable<JsonObject> first =
+                page.iterator();
+            first.next();
+            MatcherAssert.assertThat(
+                "Resumed iterator went over the limit",
+                page.resume(first.cursor()).hasNext(),
+                Matchers.is(false)
+            );
+            MatcherAssert.assertThat(
+                "Page after the limit was fetched",
+                container.queries(),
+                Matchers.equalTo(1)
+            );
+        }
+    }
+
+    @Test
+    void keepsMaxPagesAfterResume() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(RtPaginationTest.linked())
+                .next(RtPaginationTest.simple("Hi Mark"))
+                .start(RandomPort.port())
+        ) {
+            final RtPagination<JsonObject> page =
+                RtPaginationTest.page(container).maxPages(1);
+            final RtValuePagination.Resumable<JsonObject> first =
+                page.iterator();
+            first.next();
+            first.hasNext();
+            MatcherAssert.assertThat(
+                "Resumed iterator took more pages",
+                page.resume(first.cursor()).hasNext(),
+                Matchers.is(false)
+            );
+        }
+    }
+
     private static RtPagination<JsonObject> page(final MkContainer container)
         throws IOException {
         return new RtPagination<>(
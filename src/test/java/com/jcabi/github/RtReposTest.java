@@ -8,11 +8,15 @@ import com.jcabi.http.Request;
 import com.jcabi.http.mock.MkAnswer;
 import com.jcabi.http.mock.MkContainer;
 import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.mock.MkQueryMatchers;
 import com.jcabi.http.request.ApacheRequest;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Map;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
@@ -174,6 +178,79 @@ final class RtReposTest {
         }
     }
 
+    @Test
+    void checksExistenceWithHead() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "")
+            ).start(RandomPort.port())
+        ) {
+            new RtRepos(
+                Mockito.mock(GitHub.class),
+                new ApacheRequest(container.home())
+            ).exists(new Coordinates.Simple("jeff", "test"));
+            MatcherAssert.assertThat(
+                "Existence is not checked with HEAD",
+                container.take().method(),
+                Matchers.equalTo(Request.HEAD)
+            );
+        }
+    }
+
+    @Test
+    void checksExistenceOfManyRepos() throws IOException {
+        final Coordinates first = new Coordinates.Simple("jeff", "first");
+        final Coordinates second = new Coordinates.Simple("jeff", "second");
+        try (
+            MkContainer container = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_OK, ""),
+                MkQueryMatchers.hasPath(Matchers.endsWith("/first"))
+            ).next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_NOT_FOUND, ""),
+                MkQueryMatchers.hasPath(Matchers.endsWith("/second"))
+            ).start(RandomPort.port())
+        ) {
+            MatcherAssert.assertThat(
+                "Existence of repos is wrong",
+                new RtRepos(
+                    Mockito.mock(GitHub.class),
+                    new ApacheRequest(container.home())
+                ).exists(Arrays.asList(first, second)).entrySet(),
+                Matchers.<Map.Entry<Coordinates, Boolean>>contains(
+                    new AbstractMap.SimpleImmutableEntry<>(first, true),
+                    new AbstractMap.SimpleImmutableEntry<>(second, false)
+                )
+            );
+        }
+    }
+
+    @Test
+    void checksExistenceOfReposOneByOne() throws IOException {
+        final Coordinates first = new Coordinates.Simple("jeff", "one");
+        final Coordinates second = new Coordinates.Simple("jeff", "two");
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK, ""))
+                .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK, ""))
+                .start(RandomPort.port())
+        ) {
+            new RtRepos(
+                Mockito.mock(GitHub.class),
+                new ApacheRequest(container.home())
+            ).exists(Arrays.asList(first, second), 1);
+            MatcherAssert.assertThat(
+                "Repos were not checked in order",
+                Arrays.asList(
+                    container.take().uri().getPath(),
+                    container.take().uri().getPath()
+                ),
+                Matchers.contains(
+                    Matchers.endsWith("/one"), Matchers.endsWith("/two")
+                )
+            );
+        }
+    }
+
     private static Repo create(final MkContainer container) throws IOException {
         return new RepoRule().repo(
             new RtRepos(
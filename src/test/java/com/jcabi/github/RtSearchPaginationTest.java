@@ -4,16 +4,30 @@
  */
 package com.jcabi.github;
 
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.ApacheRequest;
 import com.jcabi.http.request.FakeRequest;
 import jakarta.json.Json;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 /**
  * Test case for {@link RtSearchPagination}.
  * @since 0.9
  */
+@ExtendWith(RandomPort.class)
 final class RtSearchPaginationTest {
 
     @Test
@@ -35,4 +49,92 @@ final class RtSearchPaginationTest {
             ).iterator().next(), Matchers.equalTo(value)
         );
     }
+
+    @Test
+    void limitsSearchOfGitHub() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(RtSearchPaginationTest.found())
+                .start(RandomPort.port())
+        ) {
+            final List<User> users = new ArrayList<>(0);
+            RtSearchPagination.class.cast(
+                new RtGitHub(new ApacheRequest(container.home()))
+                    .search().users("jeff", "joined", Search.Order.ASC)
+            ).limit(1).forEach(users::add);
+            MatcherAssert.assertThat(
+                "Limit was ignored",
+                users,
+                Matchers.hasSize(1)
+            );
+            MatcherAssert.assertThat(
+                "Page size wasn't asked for",
+                container.take().uri().toString(),
+                Matchers.containsString("per_page=1")
+            );
+        }
+    }
+
+    @Test
+    void publishesSearchOfGitHub() throws Exception {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(RtSearchPaginationTest.found())
+                .start(RandomPort.port())
+        ) {
+            final BlockingQueue<String> logins = new LinkedBlockingQueue<>();
+            RtSearchPagination.class.cast(
+                new RtGitHub(new ApacheRequest(container.home()))
+                    .search().users("jeff", "joined", Search.Order.ASC)
+            ).limit(1).publisher().subscribe(
+                new Flow.Subscriber<User>() {
+                    @Override
+                    public void onSubscribe(final Flow.Subscription sub) {
+                        sub.request(Long.MAX_VALUE);
+                    }
+
+                    @Override
+                    public void onNext(final User user) {
+                        try {
+                            logins.add(user.login());
+                        } catch (final IOException ex) {
+                            logins.add(ex.getMessage());
+                        }
+                    }
+
+                    @Override
+                    public void onError(final Throwable error) {
+                        logins.add(error.getMessage());
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        logins.add("complete");
+                    }
+                }
+            );
+            MatcherAssert.assertThat(
+                "Found user wasn't published",
+                logins.poll(1L, TimeUnit.MINUTES),
+                Matchers.equalTo("jeff")
+            );
+            MatcherAssert.assertThat(
+                "Publisher went over the limit",
+                logins.poll(1L, TimeUnit.MINUTES),
+                Matchers.equalTo("complete")
+            );
+        }
+    }
+
+    private static MkAnswer found() {
+        return new MkAnswer.Simple(
+            HttpURLConnection.HTTP_OK,
+            Json.createObjectBuilder().add(
+                "items",
+                Json.createArrayBuilder()
+                    .add(Json.createObjectBuilder().add("login", "jeff"))
+                    .add(Json.createObjectBuilder().add("login", "judy"))
+            ).build().toString()
+        );
+    }
 }
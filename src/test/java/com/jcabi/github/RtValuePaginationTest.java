@@ -13,8 +13,14 @@ import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
@@ -70,6 +76,190 @@ final class RtValuePaginationTest {
         }
     }
 
+    @Test
+    void prefetchesNextPages() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(RtValuePaginationTest.linked())
+                .next(RtValuePaginationTest.linked())
+                .next(RtValuePaginationTest.simple("Judy", "Jessy"))
+                .start(RandomPort.port())
+        ) {
+            final List<String> names = new ArrayList<>(0);
+            for (final JsonObject json
+                : RtValuePaginationTest.page(container).prefetching(2)) {
+                names.add(json.getString("id1"));
+            }
+            MatcherAssert.assertThat(
+                "Pages are not in order",
+                names,
+                Matchers.contains("Jeff", "Jeff", "Judy")
+            );
+        }
+    }
+
+    @Test
+    void streamsElementsOfPages() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(RtValuePaginationTest.linked())
+                .next(RtValuePaginationTest.simple("Judy", "Jessy"))
+                .start(RandomPort.port())
+        ) {
+            final List<String> names = new ArrayList<>(0);
+            for (final JsonObject json
+                : RtValuePaginationTest.page(container).streaming()) {
+                names.add(json.getString("id2"));
+            }
+            MatcherAssert.assertThat(
+                "Streamed elements are wrong",
+                names,
+                Matchers.contains("Mark", "Jessy")
+            );
+        }
+    }
+
+    @Test
+    void fetchesPagesInParallel() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    RtValuePaginationTest.simple("Jeff", "Mark").withHeader(
+                        "Link",
+                        String.join(
+                            ", ",
+                            "</s?per_page=2&page=2>; rel=\"next\"",
+                            "</s?per_page=2&page=3>; rel=\"last\""
+                        )
+                    )
+                )
+                .next(RtValuePaginationTest.simple("Judy", "Jessy"))
+                .next(RtValuePaginationTest.simple("Jane", "Joe"))
+                .start(RandomPort.port())
+        ) {
+            final List<String> names = new ArrayList<>(0);
+            for (final JsonObject json
+                : RtValuePaginationTest.page(container).parallel(2)) {
+                names.add(json.getString("id1"));
+            }
+            MatcherAssert.assertThat(
+                "Not all pages were fetched",
+                names,
+                Matchers.containsInAnyOrder("Jeff", "Judy", "Jane")
+            );
+        }
+    }
+
+    @Test
+    void publishesOnlyDemandedPages() throws Exception {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(RtValuePaginationTest.linked())
+                .next(RtValuePaginationTest.simple("Judy", "Jessy"))
+                .next(RtValuePaginationTest.simple("Jane", "Joe"))
+                .start(RandomPort.port())
+        ) {
+            final BlockingQueue<String> names = new LinkedBlockingQueue<>();
+            RtValuePaginationTest.page(container).publisher().subscribe(
+                new Flow.Subscriber<JsonObject>() {
+                    private Flow.Subscription subscription;
+
+                    @Override
+                    public void onSubscribe(final Flow.Subscription sub) {
+                        this.subscription = sub;
+                        sub.request(1L);
+                    }
+
+                    @Override
+                    public void onNext(final JsonObject item) {
+                        this.subscription.cancel();
+                        names.add(item.getString("id1"));
+                    }
+
+                    @Override
+                    public void onError(final Throwable error) {
+                        names.add(error.getMessage());
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        names.add("complete");
+                    }
+                }
+            );
+            MatcherAssert.assertThat(
+                "First element wasn't published",
+                names.poll(1L, TimeUnit.MINUTES),
+                Matchers.equalTo("Jeff")
+            );
+            MatcherAssert.assertThat(
+                "Next page was fetched after cancellation",
+                RtValuePaginationTest.page(container).iterator().next()
+                    .getString("id1"),
+                Matchers.equalTo("Judy")
+            );
+        }
+    }
+
+    @Test
+    void publishesNoMoreThanLimit() throws Exception {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(RtValuePaginationTest.linked())
+                .next(RtValuePaginationTest.simple("Judy", "Jessy"))
+                .start(RandomPort.port())
+        ) {
+            final BlockingQueue<String> names = new LinkedBlockingQueue<>();
+            RtValuePaginationTest.page(container).limit(1).publisher()
+                .subscribe(RtValuePaginationTest.collector(names));
+            MatcherAssert.assertThat(
+                "First element wasn't published",
+                names.poll(1L, TimeUnit.MINUTES),
+                Matchers.equalTo("Jeff")
+            );
+            MatcherAssert.assertThat(
+                "Publisher didn't complete at the limit",
+                names.poll(1L, TimeUnit.MINUTES),
+                Matchers.equalTo("complete")
+            );
+            MatcherAssert.assertThat(
+                "Page after the limit was fetched",
+                container.queries(),
+                Matchers.equalTo(1)
+            );
+        }
+    }
+
+    @Test
+    void readsCursorPagesBackwards() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    RtValuePaginationTest.simple("Jeff", "Mark").withHeader(
+                        "Link",
+                        String.join(
+                            ", ",
+                            "</s?after=Y3Vyc29y>; rel=\"next\"",
+                            "</s?before=bGFzdA>; rel=\"last\""
+                        )
+                    )
+                )
+                .next(RtValuePaginationTest.simple("Judy", "Jessy"))
+                .start(RandomPort.port())
+        ) {
+            final List<String> names = new ArrayList<>(0);
+            for (final JsonObject json
+                : RtValuePaginationTest.page(container).backwards()) {
+                names.add(json.getString("id1"));
+            }
+            MatcherAssert.assertThat(
+                "Pages without numbers were dropped",
+                names,
+                Matchers.contains("Judy", "Jeff")
+            );
+        }
+    }
+
     @Test
     void throwsIfNoMoreElement() throws IOException {
         final MkContainer container = new MkGrizzlyContainer().next(
@@ -96,6 +286,58 @@ final class RtValuePaginationTest {
         }
     }
 
+    @Test
+    void replacesPageSizeOfEntry() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(RtValuePaginationTest.simple("Jane", "Judy"))
+                .start(RandomPort.port())
+        ) {
+            new RtValuePagination<>(
+                new ApacheRequest(container.home()).uri()
+                    .queryParam("per_page", 30).back(),
+                object -> object
+            ).perPage(2).iterator().hasNext();
+            MatcherAssert.assertThat(
+                "Page size wasn't replaced",
+                container.take().uri().getQuery(),
+                Matchers.equalTo("per_page=2")
+            );
+        }
+    }
+
+    @Test
+    void fetchesNoExtraPagesInParallel() throws IOException {
+        final MkContainer container = new MkGrizzlyContainer().next(
+            RtValuePaginationTest.simple("Jeff", "Mark").withHeader(
+                "Link",
+                String.join(
+                    ", ",
+                    "</s?per_page=1&page=2>; rel=\"next\"",
+                    "</s?per_page=1&page=5>; rel=\"last\""
+                )
+            )
+        );
+        for (int idx = 0; idx < 4; ++idx) {
+            container.next(RtValuePaginationTest.simple("Jane", "Joe"));
+        }
+        container.start(RandomPort.port());
+        try {
+            int count = 0;
+            for (final JsonObject ignored : RtValuePaginationTest
+                .page(container).perPage(1).limit(2).parallel(4)) {
+                ++count;
+            }
+            MatcherAssert.assertThat(
+                "Pages beyond the limit were fetched",
+                container.queries(),
+                Matchers.equalTo(count)
+            );
+        } finally {
+            container.stop();
+        }
+    }
+
     private static RtValuePagination<JsonObject, JsonArray> page(
         final MkContainer container
     ) throws IOException {
@@ -108,6 +350,31 @@ final class RtValuePaginationTest {
         );
     }
 
+    private static Flow.Subscriber<JsonObject> collector(
+        final BlockingQueue<String> names) {
+        return new Flow.Subscriber<JsonObject>() {
+            @Override
+            public void onSubscribe(final Flow.Subscription sub) {
+                sub.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(final JsonObject item) {
+                names.add(item.getString("id1"));
+            }
+
+            @Override
+            public void onError(final Throwable error) {
+                names.add(error.getMessage());
+            }
+
+            @Override
+            public void onComplete() {
+                names.add("complete");
+            }
+        };
+    }
+
     private static MkAnswer.Simple linked() {
         return RtValuePaginationTest.simple("Jeff", "Mark")
             .withHeader("Link", "</s?page=3&per_page=100>; rel=\"next\"");
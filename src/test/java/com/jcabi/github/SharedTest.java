@@ -0,0 +1,139 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Shared}.
+ * @since 2.0
+ */
+final class SharedTest {
+
+    @Test
+    void givesEveryItemToOneConsumer() throws Exception {
+        final List<Integer> items = new ArrayList<>(0);
+        for (int idx = 0; idx < 1000; ++idx) {
+            items.add(idx);
+        }
+        final Iterable<Integer> shared = new Shared<>(items, 10);
+        final Collection<Integer> consumed = new ConcurrentLinkedQueue<>();
+        final ExecutorService threads = Executors.newFixedThreadPool(4);
+        for (int idx = 0; idx < 4; ++idx) {
+            threads.submit(
+                () -> {
+                    for (final Integer item : shared) {
+                        consumed.add(item);
+                    }
+                }
+            );
+        }
+        threads.shutdown();
+        threads.awaitTermination(1L, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(
+            "Items were lost or consumed twice",
+            new HashSet<>(consumed).size(),
+            Matchers.allOf(
+                Matchers.equalTo(consumed.size()),
+                Matchers.equalTo(items.size())
+            )
+        );
+    }
+
+    @Test
+    void passesFailureToConsumers() {
+        final Iterable<Integer> shared = new Shared<>(
+            () -> new Iterator<Integer>() {
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public Integer next() {
+                    throw new IllegalArgumentException("broken");
+                }
+            },
+            2
+        );
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> shared.iterator().hasNext(),
+            "Failure wasn't passed"
+        );
+    }
+
+    @Test
+    void passesErrorToConsumers() {
+        final Iterable<Integer> shared = new Shared<>(
+            () -> new Iterator<Integer>() {
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public Integer next() {
+                    throw new AssertionError("HTTP 500 instead of 200");
+                }
+            },
+            2
+        );
+        final Iterator<Integer> consumer = shared.iterator();
+        MatcherAssert.assertThat(
+            "Error wasn't passed",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                consumer::hasNext
+            ).getCause(),
+            Matchers.instanceOf(AssertionError.class)
+        );
+    }
+
+    @Test
+    void stopsFetchingWhenAsked() throws Exception {
+        final AtomicInteger fetched = new AtomicInteger();
+        final Shared<Integer> shared = new Shared<>(
+            () -> new Iterator<Integer>() {
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public Integer next() {
+                    return fetched.incrementAndGet();
+                }
+            },
+            2
+        );
+        final Iterator<Integer> consumer = shared.iterator();
+        consumer.next();
+        shared.stop();
+        while (consumer.hasNext()) {
+            consumer.next();
+        }
+        final int total = fetched.get();
+        TimeUnit.MILLISECONDS.sleep(100L);
+        MatcherAssert.assertThat(
+            "Items are still fetched after stop",
+            fetched.get(),
+            Matchers.equalTo(total)
+        );
+    }
+}
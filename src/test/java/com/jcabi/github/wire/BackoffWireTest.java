@@ -0,0 +1,145 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.github.RandomPort;
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.ApacheRequest;
+import com.jcabi.http.response.RestResponse;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link BackoffWire}.
+ * @since 2.0
+ */
+@ExtendWith(RandomPort.class)
+final class BackoffWireTest {
+
+    @Test
+    void retriesAfterSecondaryLimit() throws IOException {
+        final Backoff backoff = new Backoff(3, 10L, 100L, 1);
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    new MkAnswer.Simple(
+                        HttpURLConnection.HTTP_FORBIDDEN,
+                        "You have exceeded a secondary rate limit"
+                    ).withHeader("Retry-After", "1")
+                )
+                .next(new MkAnswer.Simple(429, "slow down"))
+                .next(new MkAnswer.Simple(HttpURLConnection.HTTP_CREATED, "{}"))
+                .start(RandomPort.port())
+        ) {
+            new ApacheRequest(container.home())
+                .method("POST")
+                .body().set("{\"body\":\"hi\"}").back()
+                .through(BackoffWire.class, backoff)
+                .fetch()
+                .as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_CREATED);
+            container.take();
+            container.take();
+            MatcherAssert.assertThat(
+                "Body wasn't sent again",
+                container.take().body(),
+                Matchers.equalTo("{\"body\":\"hi\"}")
+            );
+            MatcherAssert.assertThat(
+                "Retries weren't counted",
+                backoff.secondaryLimits(),
+                Matchers.equalTo(2L)
+            );
+            MatcherAssert.assertThat(
+                "Retry-After wasn't honoured",
+                backoff.waited(),
+                Matchers.greaterThanOrEqualTo(1000L)
+            );
+        }
+    }
+
+    @Test
+    void retriesSecondaryLimitToldByMessage() throws IOException {
+        final Backoff backoff = new Backoff(2, 10L, 100L, 1);
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    new MkAnswer.Simple(
+                        HttpURLConnection.HTTP_FORBIDDEN,
+                        String.format(
+                            "{\"message\":\"%s\"}",
+                            "You have exceeded a secondary rate limit"
+                        )
+                    ).withHeader("Content-Type", "application/json")
+                )
+                .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "{}"))
+                .start(RandomPort.port())
+        ) {
+            new ApacheRequest(container.home())
+                .through(BackoffWire.class, backoff)
+                .fetch()
+                .as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_OK);
+            MatcherAssert.assertThat(
+                "Secondary limit wasn't found in the message",
+                backoff.secondaryLimits(),
+                Matchers.equalTo(1L)
+            );
+        }
+    }
+
+    @Test
+    void ignoresOtherForbiddenResponses() throws IOException {
+        final Backoff backoff = new Backoff(3, 10L, 100L, 1);
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    new MkAnswer.Simple(
+                        HttpURLConnection.HTTP_FORBIDDEN, "Must have admin rights"
+                    )
+                )
+                .start(RandomPort.port())
+        ) {
+            new ApacheRequest(container.home())
+                .through(BackoffWire.class, backoff)
+                .fetch()
+                .as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_FORBIDDEN);
+            MatcherAssert.assertThat(
+                "Request was retried",
+                backoff.retries(),
+                Matchers.equalTo(0L)
+            );
+        }
+    }
+
+    @Test
+    void givesUpAfterAllAttempts() throws IOException {
+        final Backoff backoff = new Backoff(2, 10L, 100L, 1);
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(new MkAnswer.Simple(429, "one"))
+                .next(new MkAnswer.Simple(429, "two"))
+                .start(RandomPort.port())
+        ) {
+            new ApacheRequest(container.home())
+                .through(BackoffWire.class, backoff)
+                .fetch()
+                .as(RestResponse.class)
+                .assertStatus(429);
+            MatcherAssert.assertThat(
+                "Wrong number of retries",
+                backoff.retries(),
+                Matchers.equalTo(1L)
+            );
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.github.RandomPort;
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.ApacheRequest;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link CachingWire}.
+ * @since 2.0
+ */
+@ExtendWith(RandomPort.class)
+final class CachingWireTest {
+
+    /**
+     * CachingWire can serve 304 response from the cache.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void servesNotModifiedFromCache() throws IOException {
+        final HttpCache cache = new HttpCache.InMemory();
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "{\"a\":1}")
+                        .withHeader("ETag", "\"abc\"")
+                )
+                .next(
+                    new MkAnswer.Simple(HttpURLConnection.HTTP_NOT_MODIFIED, "")
+                        .withHeader("X-RateLimit-Remaining", "42")
+                )
+                .start(RandomPort.port())
+        ) {
+            new ApacheRequest(container.home())
+                .through(CachingWire.class, cache)
+                .fetch();
+            MatcherAssert.assertThat(
+                "Cached body wasn't returned",
+                new ApacheRequest(container.home())
+                    .through(CachingWire.class, cache)
+                    .fetch()
+                    .body(),
+                Matchers.equalTo("{\"a\":1}")
+            );
+            container.take();
+            MatcherAssert.assertThat(
+                "If-None-Match header wasn't sent",
+                container.take().headers().get("If-None-Match"),
+                Matchers.hasItem("\"abc\"")
+            );
+            MatcherAssert.assertThat(
+                "Counters are wrong",
+                new long[] {
+                    cache.counters().hits(),
+                    cache.counters().misses(),
+                    cache.counters().revalidations(),
+                },
+                Matchers.equalTo(new long[] {1L, 1L, 1L})
+            );
+        }
+    }
+
+    /**
+     * CachingWire can refresh the cache on a new 200 response.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void replacesChangedResponse() throws IOException {
+        final HttpCache cache = new HttpCache.InMemory();
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "first")
+                        .withHeader("ETag", "\"one\"")
+                )
+                .next(
+                    new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "second")
+                        .withHeader("ETag", "\"two\"")
+                )
+                .next(
+                    new MkAnswer.Simple(HttpURLConnection.HTTP_NOT_MODIFIED, "")
+                )
+                .start(RandomPort.port())
+        ) {
+            for (int idx = 0; idx < 2; ++idx) {
+                new ApacheRequest(container.home())
+                    .through(CachingWire.class, cache)
+                    .fetch();
+            }
+            MatcherAssert.assertThat(
+                "Cache wasn't updated",
+                new ApacheRequest(container.home())
+                    .through(CachingWire.class, cache)
+                    .fetch()
+                    .body(),
+                Matchers.equalTo("second")
+            );
+            container.take();
+            container.take();
+            MatcherAssert.assertThat(
+                "Latest ETag wasn't sent",
+                container.take().headers().get("If-None-Match"),
+                Matchers.hasItem("\"two\"")
+            );
+        }
+    }
+
+    /**
+     * CachingWire can ignore requests other than GET.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    void ignoresPostRequests() throws IOException {
+        final HttpCache cache = new HttpCache.InMemory();
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "{}")
+                        .withHeader("ETag", "\"post\"")
+                )
+                .start(RandomPort.port())
+        ) {
+            new ApacheRequest(container.home())
+                .method("POST")
+                .through(CachingWire.class, cache)
+                .fetch();
+            MatcherAssert.assertThat(
+                "POST request was counted",
+                cache.counters().misses(),
+                Matchers.equalTo(0L)
+            );
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import com.jcabi.http.request.FakeRequest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link CoalescingWire}.
+ * @since 2.0
+ */
+final class CoalescingWireTest {
+
+    @Test
+    void sendsIdenticalConcurrentRequestsOnce() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final Wire wire = new CoalescingWire(
+            (req, home, method, headers, content, connect, read) -> {
+                calls.incrementAndGet();
+                try {
+                    release.await(1L, TimeUnit.MINUTES);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+                return new FakeRequest().withBody("{}").fetch();
+            }
+        );
+        final ExecutorService threads = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Response>> all = new ArrayList<>(0);
+            for (int idx = 0; idx < 8; ++idx) {
+                all.add(
+                    threads.submit(() -> CoalescingWireTest.get(wire, "/a"))
+                );
+            }
+            TimeUnit.MILLISECONDS.sleep(500L);
+            release.countDown();
+            for (final Future<Response> future : all) {
+                MatcherAssert.assertThat(
+                    "Response wasn't shared",
+                    future.get(1L, TimeUnit.MINUTES).body(),
+                    Matchers.equalTo("{}")
+                );
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+        MatcherAssert.assertThat(
+            "Request was sent more than once",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void sendsSequentialRequestsAgain() throws IOException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Wire wire = new CoalescingWire(
+            (req, home, method, headers, content, connect, read) -> {
+                calls.incrementAndGet();
+                return new FakeRequest().fetch();
+            }
+        );
+        CoalescingWireTest.get(wire, "/b");
+        CoalescingWireTest.get(wire, "/b");
+        MatcherAssert.assertThat(
+            "Sequential requests were merged",
+            calls.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    private static Response get(final Wire wire, final String path)
+        throws IOException {
+        return wire.send(
+            new FakeRequest(),
+            String.format("http://localhost%s", path),
+            Request.GET,
+            Collections.emptyList(),
+            new ByteArrayInputStream(new byte[0]),
+            0, 0
+        );
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link DiskCache}.
+ * @since 2.0
+ */
+final class DiskCacheTest {
+
+    @Test
+    void keepsEntriesAcrossReopening(@TempDir final Path dir)
+        throws IOException {
+        final Path file = dir.resolve("cache.bin");
+        try (DiskCache cache = new DiskCache(file)) {
+            cache.put("GET /a", DiskCacheTest.entry("\"1\"", "first"));
+            cache.put("GET /a", DiskCacheTest.entry("\"2\"", "second"));
+        }
+        try (DiskCache cache = new DiskCache(file)) {
+            MatcherAssert.assertThat(
+                "Latest entry wasn't restored",
+                new String(cache.get("GET /a").body(), StandardCharsets.UTF_8),
+                Matchers.equalTo("second")
+            );
+        }
+    }
+
+    @Test
+    void compactsWhenFileIsTooBig(@TempDir final Path dir)
+        throws IOException {
+        final Path file = dir.resolve("small.bin");
+        try (DiskCache cache = new DiskCache(file, 2048L)) {
+            for (int idx = 0; idx < 100; ++idx) {
+                cache.put(
+                    String.format("GET /%d", idx % 5),
+                    DiskCacheTest.entry(String.valueOf(idx), "body")
+                );
+            }
+            MatcherAssert.assertThat(
+                "File is bigger than allowed",
+                Files.size(file),
+                Matchers.lessThanOrEqualTo(2048L)
+            );
+            MatcherAssert.assertThat(
+                "Latest entry was lost",
+                cache.get("GET /4").etag(),
+                Matchers.equalTo("99")
+            );
+        }
+    }
+
+    @Test
+    void skipsTooBigRecords(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("tiny.bin");
+        try (DiskCache cache = new DiskCache(file, 512L)) {
+            cache.put("GET /c", DiskCacheTest.entry("\"c\"", "{}"));
+            cache.put(
+                "GET /c",
+                DiskCacheTest.entry("\"d\"", new String(new char[1024]))
+            );
+            cache.put("GET /e", DiskCacheTest.entry("\"e\"", "{}"));
+            MatcherAssert.assertThat(
+                "Too big record was stored",
+                cache.get("GET /c"),
+                Matchers.nullValue()
+            );
+            MatcherAssert.assertThat(
+                "Small record was lost",
+                cache.get("GET /e").etag(),
+                Matchers.equalTo("\"e\"")
+            );
+        }
+    }
+
+    @Test
+    void ignoresBrokenTail(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("broken.bin");
+        try (DiskCache cache = new DiskCache(file)) {
+            cache.put("GET /b", DiskCacheTest.entry("\"b\"", "{}"));
+        }
+        Files.write(
+            file, new byte[] {0, 0, 0, 100, 1, 2, 3},
+            StandardOpenOption.APPEND
+        );
+        try (DiskCache cache = new DiskCache(file)) {
+            MatcherAssert.assertThat(
+                "Entry before the broken tail was lost",
+                cache.get("GET /b").etag(),
+                Matchers.equalTo("\"b\"")
+            );
+        }
+    }
+
+    private static HttpCache.Entry entry(final String etag,
+        final String body) {
+        return new HttpCache.Entry(
+            etag, null, "OK",
+            Collections.singletonList(
+                new AbstractMap.SimpleImmutableEntry<>("Content-Type", "text")
+            ),
+            body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
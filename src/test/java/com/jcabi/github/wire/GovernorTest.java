@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.request.FakeRequest;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Governor} and {@link GovernedWire}.
+ * @since 2.0
+ */
+final class GovernorTest {
+
+    @Test
+    void admitsWithoutKnownBudget() throws InterruptedException {
+        final Governor governor = new Governor(1);
+        final long start = System.currentTimeMillis();
+        for (int idx = 0; idx < 10; ++idx) {
+            governor.acquire(Governor.CORE);
+        }
+        MatcherAssert.assertThat(
+            "Requests were delayed",
+            System.currentTimeMillis() - start,
+            Matchers.lessThan(1000L)
+        );
+    }
+
+    @Test
+    void spreadsBudgetUntilReset() throws InterruptedException {
+        final Governor governor = new Governor(1);
+        governor.update(
+            Governor.SEARCH, 2,
+            TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3L
+        );
+        final long start = System.currentTimeMillis();
+        governor.acquire(Governor.SEARCH);
+        governor.acquire(Governor.SEARCH);
+        MatcherAssert.assertThat(
+            "Second request wasn't delayed",
+            System.currentTimeMillis() - start,
+            Matchers.greaterThanOrEqualTo(500L)
+        );
+    }
+
+    @Test
+    void keepsResourcesApart() {
+        final Governor governor = new Governor();
+        governor.update(
+            Governor.CORE, 3600,
+            TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3600L
+        );
+        MatcherAssert.assertThat(
+            "Search rate is known",
+            governor.rate(Governor.SEARCH),
+            Matchers.notANumber()
+        );
+        MatcherAssert.assertThat(
+            "Core rate is wrong",
+            governor.rate(Governor.CORE),
+            Matchers.closeTo(1.0d, 0.1d)
+        );
+    }
+
+    @Test
+    void findsResourceByUri() {
+        MatcherAssert.assertThat(
+            "Search resource wasn't found",
+            Governor.resource("https://api.github.com/search/issues?q=a"),
+            Matchers.equalTo(Governor.SEARCH)
+        );
+    }
+
+    @Test
+    void updatesFromResponseHeaders() throws IOException {
+        final Governor governor = new Governor();
+        new FakeRequest()
+            .withStatus(HttpURLConnection.HTTP_OK)
+            .withHeader("X-RateLimit-Remaining", "60")
+            .withHeader(
+                "X-RateLimit-Reset",
+                String.valueOf(
+                    TimeUnit.MILLISECONDS
+                        .toSeconds(System.currentTimeMillis()) + 60L
+                )
+            )
+            .withHeader("X-RateLimit-Resource", "core")
+            .through(GovernedWire.class, governor)
+            .fetch();
+        MatcherAssert.assertThat(
+            "Rate wasn't updated",
+            governor.rate(Governor.CORE),
+            Matchers.closeTo(1.0d, 0.1d)
+        );
+    }
+}
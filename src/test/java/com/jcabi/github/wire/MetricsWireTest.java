@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.request.FakeRequest;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MetricsWire} and {@link Metrics}.
+ * @since 2.0
+ */
+final class MetricsWireTest {
+
+    @Test
+    void groupsRequestsByRoute() throws IOException {
+        final Metrics metrics = new Metrics("test.groups");
+        for (final String num : new String[] {"1", "2", "3"}) {
+            new FakeRequest()
+                .withStatus(HttpURLConnection.HTTP_OK)
+                .withBody("{}")
+                .withHeader("X-RateLimit-Remaining", "100")
+                .uri().path("repos/jeff/test/issues").path(num).back()
+                .through(MetricsWire.class, metrics)
+                .fetch();
+        }
+        MatcherAssert.assertThat(
+            "Requests weren't grouped",
+            metrics.snapshot()
+                .get("GET /repos/{owner}/{repo}/issues/{number}")
+                .getRateLimitCost(),
+            Matchers.equalTo(3L)
+        );
+    }
+
+    @Test
+    void publishesRoutesViaJmx() throws IOException, JMException {
+        final Metrics metrics = new Metrics("test.jmx").register();
+        new FakeRequest()
+            .withStatus(HttpURLConnection.HTTP_NOT_FOUND)
+            .withBody("{\"message\":\"Not Found\"}")
+            .uri().path("users/jeff").back()
+            .through(MetricsWire.class, metrics)
+            .fetch();
+        MatcherAssert.assertThat(
+            "Errors weren't published",
+            ManagementFactory.getPlatformMBeanServer().getAttribute(
+                new ObjectName(
+                    String.format(
+                        "test.jmx:type=Route,name=%s",
+                        ObjectName.quote("GET /users/{name}")
+                    )
+                ),
+                "Errors"
+            ),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void normalizesPaths() {
+        MatcherAssert.assertThat(
+            "Path wasn't normalized",
+            Metrics.template("/repos/jeff/test/contents/src/Main.java"),
+            Matchers.equalTo("/repos/{owner}/{repo}/contents/{path}")
+        );
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2013-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.github.RandomPort;
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.ApacheRequest;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link PooledWire} and {@link TokenPool}.
+ * @since 2.0
+ */
+@ExtendWith(RandomPort.class)
+final class PooledWireTest {
+
+    @Test
+    void switchesToHealthierToken() throws IOException {
+        final TokenPool pool = new TokenPool("first", "second");
+        final String reset = String.valueOf(
+            TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 600L
+        );
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "[]")
+                        .withHeader("X-RateLimit-Remaining", "0")
+                        .withHeader("X-RateLimit-Reset", reset)
+                )
+                .next(
+                    new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "[]")
+                        .withHeader("X-RateLimit-Remaining", "100")
+                        .withHeader("X-RateLimit-Reset", reset)
+                )
+                .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "[]"))
+                .start(RandomPort.port())
+        ) {
+            for (int idx = 0; idx < 3; ++idx) {
+                new ApacheRequest(container.home())
+                    .header("Authorization", "token original")
+                    .through(PooledWire.class, pool)
+                    .fetch();
+            }
+            final String used = container.take().headers()
+                .get("Authorization").get(0);
+            container.take();
+            MatcherAssert.assertThat(
+                "Exhausted token was used again",
+                container.take().headers().get("Authorization"),
+                Matchers.allOf(
+                    Matchers.hasSize(1),
+                    Matchers.not(Matchers.hasItem(used))
+                )
+            );
+            MatcherAssert.assertThat(
+                "Exhausted token wasn't parked",
+                pool.healthy(),
+                Matchers.equalTo(1)
+            );
+        }
+    }
+
+    @Test
+    void keepsWriterToken() throws InterruptedException {
+        final TokenPool pool = new TokenPool(
+            Arrays.asList("a", "b", "c"), true
+        );
+        final String writer = pool.take(true);
+        pool.take(false);
+        MatcherAssert.assertThat(
+            "Writes went through another token",
+            pool.take(true),
+            Matchers.equalTo(writer)
+        );
+    }
+
+    @Test
+    void keepsBudgetsOfResourcesApart() throws IOException {
+        final TokenPool pool = new TokenPool("first", "second");
+        final String reset = String.valueOf(
+            TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 60L
+        );
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(
+                    new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "{}")
+                        .withHeader("X-RateLimit-Resource", "search")
+                        .withHeader("X-RateLimit-Remaining", "0")
+                        .withHeader("X-RateLimit-Reset", reset)
+                )
+                .start(RandomPort.port())
+        ) {
+            new ApacheRequest(container.home())
+                .uri().path("/search/issues").back()
+                .through(PooledWire.class, pool)
+                .fetch();
+            MatcherAssert.assertThat(
+                "Exhausted search budget parked the token for core",
+                pool.healthy(Governor.CORE),
+                Matchers.equalTo(2)
+            );
+            MatcherAssert.assertThat(
+                "Exhausted search budget wasn't parked",
+                pool.healthy(Governor.SEARCH),
+                Matchers.equalTo(1)
+            );
+        }
+    }
+}
@@ -102,4 +102,24 @@ final class RetryCarefulWireTest {
             Matchers.is(true)
         );
     }
+
+    @Test
+    void returnsRateLimitedResponsesWithoutBackoff() throws IOException {
+        try (
+            MkContainer container = new MkGrizzlyContainer()
+                .next(new MkAnswer.Simple(429, "slow down"))
+                .start(RandomPort.port())
+        ) {
+            new JdkRequest(container.home())
+                .through(RetryCarefulWire.class, 10)
+                .fetch()
+                .as(RestResponse.class)
+                .assertStatus(429);
+            MatcherAssert.assertThat(
+                "Rate limited request was retried without backoff",
+                container.queries(),
+                Matchers.equalTo(1)
+            );
+        }
+    }
 }